@@ -2,6 +2,7 @@ package org.hl7.fhir.convertors.advisors.impl;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nonnull;
 
@@ -12,6 +13,7 @@ public class BaseAdvisor_40_50 extends BaseAdvisor50<org.hl7.fhir.r4.model.Exten
 
   private static final List<String> TestScriptIgnoredUrls = Arrays.asList("http://hl7.org/fhir/5.0/StructureDefinition/extension-TestScript.scope");
   private boolean produceIllegalParameters = false;
+  private Executor bundleEntryExecutor;
 
   public BaseAdvisor_40_50() {
 
@@ -45,4 +47,20 @@ public class BaseAdvisor_40_50 extends BaseAdvisor50<org.hl7.fhir.r4.model.Exten
   public boolean produceIllegalParameters() {
     return produceIllegalParameters;
   }
+
+  public Executor getBundleEntryExecutor() {
+    return bundleEntryExecutor;
+  }
+
+  /**
+   * If an executor is provided, the entries of a Bundle being converted are converted concurrently on it (the 
+   * order of the entries is unchanged). Only the entries of the Bundle being converted are split up, not those
+   * of any Bundles inside it. 
+   * 
+   * Note that the advisor will be called from more than one thread at once when this is set
+   */
+  public BaseAdvisor_40_50 setBundleEntryExecutor(Executor bundleEntryExecutor) {
+    this.bundleEntryExecutor = bundleEntryExecutor;
+    return this;
+  }
 }
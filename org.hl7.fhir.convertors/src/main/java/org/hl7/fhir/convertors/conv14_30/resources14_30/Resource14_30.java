@@ -31,40 +31,42 @@ public class Resource14_30 {
 
   public org.hl7.fhir.dstu3.model.Resource convertResource(org.hl7.fhir.dstu2016may.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Parameters)
-      return Parameters14_30.convertParameters((org.hl7.fhir.dstu2016may.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Bundle)
-      return Bundle14_30.convertBundle((org.hl7.fhir.dstu2016may.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeSystem)
-      return CodeSystem14_30.convertCodeSystem((org.hl7.fhir.dstu2016may.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CompartmentDefinition)
-      return CompartmentDefinition14_30.convertCompartmentDefinition((org.hl7.fhir.dstu2016may.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ConceptMap)
-      return ConceptMap14_30.convertConceptMap((org.hl7.fhir.dstu2016may.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Conformance)
-      return Conformance14_30.convertConformance((org.hl7.fhir.dstu2016may.model.Conformance) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DataElement)
-      return DataElement14_30.convertDataElement((org.hl7.fhir.dstu2016may.model.DataElement) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ImplementationGuide)
-      return ImplementationGuide14_30.convertImplementationGuide((org.hl7.fhir.dstu2016may.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.NamingSystem)
-      return NamingSystem14_30.convertNamingSystem((org.hl7.fhir.dstu2016may.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationDefinition)
-      return OperationDefinition14_30.convertOperationDefinition((org.hl7.fhir.dstu2016may.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationOutcome)
-      return OperationOutcome14_30.convertOperationOutcome((org.hl7.fhir.dstu2016may.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Questionnaire)
-      return Questionnaire14_30.convertQuestionnaire((org.hl7.fhir.dstu2016may.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_30.convertQuestionnaireResponse((org.hl7.fhir.dstu2016may.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.SearchParameter)
-      return SearchParameter14_30.convertSearchParameter((org.hl7.fhir.dstu2016may.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StructureDefinition)
-      return StructureDefinition14_30.convertStructureDefinition((org.hl7.fhir.dstu2016may.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.TestScript)
-      return TestScript14_30.convertTestScript((org.hl7.fhir.dstu2016may.model.TestScript) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ValueSet)
-      return ValueSet14_30.convertValueSet((org.hl7.fhir.dstu2016may.model.ValueSet) src);
+    switch (src.getResourceType()) {
+      case Parameters:
+        return Parameters14_30.convertParameters((org.hl7.fhir.dstu2016may.model.Parameters) src);
+      case Bundle:
+        return Bundle14_30.convertBundle((org.hl7.fhir.dstu2016may.model.Bundle) src);
+      case CodeSystem:
+        return CodeSystem14_30.convertCodeSystem((org.hl7.fhir.dstu2016may.model.CodeSystem) src);
+      case CompartmentDefinition:
+        return CompartmentDefinition14_30.convertCompartmentDefinition((org.hl7.fhir.dstu2016may.model.CompartmentDefinition) src);
+      case ConceptMap:
+        return ConceptMap14_30.convertConceptMap((org.hl7.fhir.dstu2016may.model.ConceptMap) src);
+      case Conformance:
+        return Conformance14_30.convertConformance((org.hl7.fhir.dstu2016may.model.Conformance) src);
+      case DataElement:
+        return DataElement14_30.convertDataElement((org.hl7.fhir.dstu2016may.model.DataElement) src);
+      case ImplementationGuide:
+        return ImplementationGuide14_30.convertImplementationGuide((org.hl7.fhir.dstu2016may.model.ImplementationGuide) src);
+      case NamingSystem:
+        return NamingSystem14_30.convertNamingSystem((org.hl7.fhir.dstu2016may.model.NamingSystem) src);
+      case OperationDefinition:
+        return OperationDefinition14_30.convertOperationDefinition((org.hl7.fhir.dstu2016may.model.OperationDefinition) src);
+      case OperationOutcome:
+        return OperationOutcome14_30.convertOperationOutcome((org.hl7.fhir.dstu2016may.model.OperationOutcome) src);
+      case Questionnaire:
+        return Questionnaire14_30.convertQuestionnaire((org.hl7.fhir.dstu2016may.model.Questionnaire) src);
+      case QuestionnaireResponse:
+        return QuestionnaireResponse14_30.convertQuestionnaireResponse((org.hl7.fhir.dstu2016may.model.QuestionnaireResponse) src);
+      case SearchParameter:
+        return SearchParameter14_30.convertSearchParameter((org.hl7.fhir.dstu2016may.model.SearchParameter) src);
+      case StructureDefinition:
+        return StructureDefinition14_30.convertStructureDefinition((org.hl7.fhir.dstu2016may.model.StructureDefinition) src);
+      case TestScript:
+        return TestScript14_30.convertTestScript((org.hl7.fhir.dstu2016may.model.TestScript) src);
+      case ValueSet:
+        return ValueSet14_30.convertValueSet((org.hl7.fhir.dstu2016may.model.ValueSet) src);
+    }
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R2B to R3");
     } else {
@@ -74,40 +76,42 @@ public class Resource14_30 {
 
   public org.hl7.fhir.dstu2016may.model.Resource convertResource(org.hl7.fhir.dstu3.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu3.model.Parameters)
-      return Parameters14_30.convertParameters((org.hl7.fhir.dstu3.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Bundle)
-      return Bundle14_30.convertBundle((org.hl7.fhir.dstu3.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CodeSystem)
-      return CodeSystem14_30.convertCodeSystem((org.hl7.fhir.dstu3.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CompartmentDefinition)
-      return CompartmentDefinition14_30.convertCompartmentDefinition((org.hl7.fhir.dstu3.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ConceptMap)
-      return ConceptMap14_30.convertConceptMap((org.hl7.fhir.dstu3.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CapabilityStatement)
-      return Conformance14_30.convertConformance((org.hl7.fhir.dstu3.model.CapabilityStatement) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DataElement)
-      return DataElement14_30.convertDataElement((org.hl7.fhir.dstu3.model.DataElement) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ImplementationGuide)
-      return ImplementationGuide14_30.convertImplementationGuide((org.hl7.fhir.dstu3.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.NamingSystem)
-      return NamingSystem14_30.convertNamingSystem((org.hl7.fhir.dstu3.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.OperationDefinition)
-      return OperationDefinition14_30.convertOperationDefinition((org.hl7.fhir.dstu3.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.OperationOutcome)
-      return OperationOutcome14_30.convertOperationOutcome((org.hl7.fhir.dstu3.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Questionnaire)
-      return Questionnaire14_30.convertQuestionnaire((org.hl7.fhir.dstu3.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_30.convertQuestionnaireResponse((org.hl7.fhir.dstu3.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.SearchParameter)
-      return SearchParameter14_30.convertSearchParameter((org.hl7.fhir.dstu3.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.StructureDefinition)
-      return StructureDefinition14_30.convertStructureDefinition((org.hl7.fhir.dstu3.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.TestScript)
-      return TestScript14_30.convertTestScript((org.hl7.fhir.dstu3.model.TestScript) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ValueSet)
-      return ValueSet14_30.convertValueSet((org.hl7.fhir.dstu3.model.ValueSet) src);
+    switch (src.getResourceType()) {
+      case Parameters:
+        return Parameters14_30.convertParameters((org.hl7.fhir.dstu3.model.Parameters) src);
+      case Bundle:
+        return Bundle14_30.convertBundle((org.hl7.fhir.dstu3.model.Bundle) src);
+      case CodeSystem:
+        return CodeSystem14_30.convertCodeSystem((org.hl7.fhir.dstu3.model.CodeSystem) src);
+      case CompartmentDefinition:
+        return CompartmentDefinition14_30.convertCompartmentDefinition((org.hl7.fhir.dstu3.model.CompartmentDefinition) src);
+      case ConceptMap:
+        return ConceptMap14_30.convertConceptMap((org.hl7.fhir.dstu3.model.ConceptMap) src);
+      case CapabilityStatement:
+        return Conformance14_30.convertConformance((org.hl7.fhir.dstu3.model.CapabilityStatement) src);
+      case DataElement:
+        return DataElement14_30.convertDataElement((org.hl7.fhir.dstu3.model.DataElement) src);
+      case ImplementationGuide:
+        return ImplementationGuide14_30.convertImplementationGuide((org.hl7.fhir.dstu3.model.ImplementationGuide) src);
+      case NamingSystem:
+        return NamingSystem14_30.convertNamingSystem((org.hl7.fhir.dstu3.model.NamingSystem) src);
+      case OperationDefinition:
+        return OperationDefinition14_30.convertOperationDefinition((org.hl7.fhir.dstu3.model.OperationDefinition) src);
+      case OperationOutcome:
+        return OperationOutcome14_30.convertOperationOutcome((org.hl7.fhir.dstu3.model.OperationOutcome) src);
+      case Questionnaire:
+        return Questionnaire14_30.convertQuestionnaire((org.hl7.fhir.dstu3.model.Questionnaire) src);
+      case QuestionnaireResponse:
+        return QuestionnaireResponse14_30.convertQuestionnaireResponse((org.hl7.fhir.dstu3.model.QuestionnaireResponse) src);
+      case SearchParameter:
+        return SearchParameter14_30.convertSearchParameter((org.hl7.fhir.dstu3.model.SearchParameter) src);
+      case StructureDefinition:
+        return StructureDefinition14_30.convertStructureDefinition((org.hl7.fhir.dstu3.model.StructureDefinition) src);
+      case TestScript:
+        return TestScript14_30.convertTestScript((org.hl7.fhir.dstu3.model.TestScript) src);
+      case ValueSet:
+        return ValueSet14_30.convertValueSet((org.hl7.fhir.dstu3.model.ValueSet) src);
+    }
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R3 to R2B");
     } else {
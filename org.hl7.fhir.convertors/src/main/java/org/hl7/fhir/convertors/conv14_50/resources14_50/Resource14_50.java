@@ -31,40 +31,42 @@ public class Resource14_50 {
 
   public org.hl7.fhir.r5.model.Resource convertResource(org.hl7.fhir.dstu2016may.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Parameters)
-      return Parameters14_50.convertParameters((org.hl7.fhir.dstu2016may.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Bundle)
-      return Bundle14_50.convertBundle((org.hl7.fhir.dstu2016may.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeSystem)
-      return CodeSystem14_50.convertCodeSystem((org.hl7.fhir.dstu2016may.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CompartmentDefinition)
-      return CompartmentDefinition14_50.convertCompartmentDefinition((org.hl7.fhir.dstu2016may.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ConceptMap)
-      return ConceptMap14_50.convertConceptMap((org.hl7.fhir.dstu2016may.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Conformance)
-      return Conformance14_50.convertConformance((org.hl7.fhir.dstu2016may.model.Conformance) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DataElement)
-      return DataElement14_50.convertDataElement((org.hl7.fhir.dstu2016may.model.DataElement) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ImplementationGuide)
-      return ImplementationGuide14_50.convertImplementationGuide((org.hl7.fhir.dstu2016may.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.NamingSystem)
-      return NamingSystem14_50.convertNamingSystem((org.hl7.fhir.dstu2016may.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationDefinition)
-      return OperationDefinition14_50.convertOperationDefinition((org.hl7.fhir.dstu2016may.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationOutcome)
-      return OperationOutcome14_50.convertOperationOutcome((org.hl7.fhir.dstu2016may.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Questionnaire)
-      return Questionnaire14_50.convertQuestionnaire((org.hl7.fhir.dstu2016may.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_50.convertQuestionnaireResponse((org.hl7.fhir.dstu2016may.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.SearchParameter)
-      return SearchParameter14_50.convertSearchParameter((org.hl7.fhir.dstu2016may.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StructureDefinition)
-      return StructureDefinition14_50.convertStructureDefinition((org.hl7.fhir.dstu2016may.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StructureMap)
-      return StructureMap14_50.convertStructureMap((org.hl7.fhir.dstu2016may.model.StructureMap) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ValueSet)
-      return ValueSet14_50.convertValueSet((org.hl7.fhir.dstu2016may.model.ValueSet) src);
+    switch (src.getResourceType()) {
+      case Parameters:
+        return Parameters14_50.convertParameters((org.hl7.fhir.dstu2016may.model.Parameters) src);
+      case Bundle:
+        return Bundle14_50.convertBundle((org.hl7.fhir.dstu2016may.model.Bundle) src);
+      case CodeSystem:
+        return CodeSystem14_50.convertCodeSystem((org.hl7.fhir.dstu2016may.model.CodeSystem) src);
+      case CompartmentDefinition:
+        return CompartmentDefinition14_50.convertCompartmentDefinition((org.hl7.fhir.dstu2016may.model.CompartmentDefinition) src);
+      case ConceptMap:
+        return ConceptMap14_50.convertConceptMap((org.hl7.fhir.dstu2016may.model.ConceptMap) src);
+      case Conformance:
+        return Conformance14_50.convertConformance((org.hl7.fhir.dstu2016may.model.Conformance) src);
+      case DataElement:
+        return DataElement14_50.convertDataElement((org.hl7.fhir.dstu2016may.model.DataElement) src);
+      case ImplementationGuide:
+        return ImplementationGuide14_50.convertImplementationGuide((org.hl7.fhir.dstu2016may.model.ImplementationGuide) src);
+      case NamingSystem:
+        return NamingSystem14_50.convertNamingSystem((org.hl7.fhir.dstu2016may.model.NamingSystem) src);
+      case OperationDefinition:
+        return OperationDefinition14_50.convertOperationDefinition((org.hl7.fhir.dstu2016may.model.OperationDefinition) src);
+      case OperationOutcome:
+        return OperationOutcome14_50.convertOperationOutcome((org.hl7.fhir.dstu2016may.model.OperationOutcome) src);
+      case Questionnaire:
+        return Questionnaire14_50.convertQuestionnaire((org.hl7.fhir.dstu2016may.model.Questionnaire) src);
+      case QuestionnaireResponse:
+        return QuestionnaireResponse14_50.convertQuestionnaireResponse((org.hl7.fhir.dstu2016may.model.QuestionnaireResponse) src);
+      case SearchParameter:
+        return SearchParameter14_50.convertSearchParameter((org.hl7.fhir.dstu2016may.model.SearchParameter) src);
+      case StructureDefinition:
+        return StructureDefinition14_50.convertStructureDefinition((org.hl7.fhir.dstu2016may.model.StructureDefinition) src);
+      case StructureMap:
+        return StructureMap14_50.convertStructureMap((org.hl7.fhir.dstu2016may.model.StructureMap) src);
+      case ValueSet:
+        return ValueSet14_50.convertValueSet((org.hl7.fhir.dstu2016may.model.ValueSet) src);
+    }
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R2B to R5");
     } else {
@@ -74,38 +76,40 @@ public class Resource14_50 {
 
   public org.hl7.fhir.dstu2016may.model.Resource convertResource(org.hl7.fhir.r5.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.r5.model.Parameters)
-      return Parameters14_50.convertParameters((org.hl7.fhir.r5.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.r5.model.Bundle)
-      return Bundle14_50.convertBundle((org.hl7.fhir.r5.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.r5.model.CodeSystem)
-      return CodeSystem14_50.convertCodeSystem((org.hl7.fhir.r5.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.r5.model.CompartmentDefinition)
-      return CompartmentDefinition14_50.convertCompartmentDefinition((org.hl7.fhir.r5.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.ConceptMap)
-      return ConceptMap14_50.convertConceptMap((org.hl7.fhir.r5.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.r5.model.CapabilityStatement)
-      return Conformance14_50.convertConformance((org.hl7.fhir.r5.model.CapabilityStatement) src);
-    if (src instanceof org.hl7.fhir.r5.model.ImplementationGuide)
-      return ImplementationGuide14_50.convertImplementationGuide((org.hl7.fhir.r5.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.r5.model.NamingSystem)
-      return NamingSystem14_50.convertNamingSystem((org.hl7.fhir.r5.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.r5.model.OperationDefinition)
-      return OperationDefinition14_50.convertOperationDefinition((org.hl7.fhir.r5.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.OperationOutcome)
-      return OperationOutcome14_50.convertOperationOutcome((org.hl7.fhir.r5.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.r5.model.Questionnaire)
-      return Questionnaire14_50.convertQuestionnaire((org.hl7.fhir.r5.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.r5.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_50.convertQuestionnaireResponse((org.hl7.fhir.r5.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.r5.model.SearchParameter)
-      return SearchParameter14_50.convertSearchParameter((org.hl7.fhir.r5.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.r5.model.StructureDefinition)
-      return StructureDefinition14_50.convertStructureDefinition((org.hl7.fhir.r5.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.StructureMap)
-      return StructureMap14_50.convertStructureMap((org.hl7.fhir.r5.model.StructureMap) src);
-    if (src instanceof org.hl7.fhir.r5.model.ValueSet)
-      return ValueSet14_50.convertValueSet((org.hl7.fhir.r5.model.ValueSet) src);
+    switch (src.getResourceType()) {
+      case Parameters:
+        return Parameters14_50.convertParameters((org.hl7.fhir.r5.model.Parameters) src);
+      case Bundle:
+        return Bundle14_50.convertBundle((org.hl7.fhir.r5.model.Bundle) src);
+      case CodeSystem:
+        return CodeSystem14_50.convertCodeSystem((org.hl7.fhir.r5.model.CodeSystem) src);
+      case CompartmentDefinition:
+        return CompartmentDefinition14_50.convertCompartmentDefinition((org.hl7.fhir.r5.model.CompartmentDefinition) src);
+      case ConceptMap:
+        return ConceptMap14_50.convertConceptMap((org.hl7.fhir.r5.model.ConceptMap) src);
+      case CapabilityStatement:
+        return Conformance14_50.convertConformance((org.hl7.fhir.r5.model.CapabilityStatement) src);
+      case ImplementationGuide:
+        return ImplementationGuide14_50.convertImplementationGuide((org.hl7.fhir.r5.model.ImplementationGuide) src);
+      case NamingSystem:
+        return NamingSystem14_50.convertNamingSystem((org.hl7.fhir.r5.model.NamingSystem) src);
+      case OperationDefinition:
+        return OperationDefinition14_50.convertOperationDefinition((org.hl7.fhir.r5.model.OperationDefinition) src);
+      case OperationOutcome:
+        return OperationOutcome14_50.convertOperationOutcome((org.hl7.fhir.r5.model.OperationOutcome) src);
+      case Questionnaire:
+        return Questionnaire14_50.convertQuestionnaire((org.hl7.fhir.r5.model.Questionnaire) src);
+      case QuestionnaireResponse:
+        return QuestionnaireResponse14_50.convertQuestionnaireResponse((org.hl7.fhir.r5.model.QuestionnaireResponse) src);
+      case SearchParameter:
+        return SearchParameter14_50.convertSearchParameter((org.hl7.fhir.r5.model.SearchParameter) src);
+      case StructureDefinition:
+        return StructureDefinition14_50.convertStructureDefinition((org.hl7.fhir.r5.model.StructureDefinition) src);
+      case StructureMap:
+        return StructureMap14_50.convertStructureMap((org.hl7.fhir.r5.model.StructureMap) src);
+      case ValueSet:
+        return ValueSet14_50.convertValueSet((org.hl7.fhir.r5.model.ValueSet) src);
+    }
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R5 to R2B");
     } else {
@@ -1,6 +1,14 @@
 package org.hl7.fhir.convertors.conv40_50.resources40_50;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
 import org.hl7.fhir.convertors.context.ConversionContext40_50;
+import org.hl7.fhir.convertors.conv40_50.VersionConvertor_40_50;
 import org.hl7.fhir.convertors.conv40_50.datatypes40_50.general40_50.Identifier40_50;
 import org.hl7.fhir.convertors.conv40_50.datatypes40_50.general40_50.Signature40_50;
 import org.hl7.fhir.convertors.conv40_50.datatypes40_50.primitive40_50.Decimal40_50;
@@ -56,8 +64,8 @@ public class Bundle40_50 {
     if (src.hasTotal())
       tgt.setTotalElement(UnsignedInt40_50.convertUnsignedInt(src.getTotalElement()));
     for (org.hl7.fhir.r4.model.Bundle.BundleLinkComponent t : src.getLink()) tgt.addLink(convertBundleLinkComponent(t));
-    for (org.hl7.fhir.r4.model.Bundle.BundleEntryComponent t : src.getEntry())
-      tgt.addEntry(convertBundleEntryComponent(t));
+    for (org.hl7.fhir.r5.model.Bundle.BundleEntryComponent t : convertEntries(src.getEntry(), Bundle40_50::convertBundleEntryComponent))
+      tgt.addEntry(t);
     if (src.hasSignature())
       tgt.setSignature(Signature40_50.convertSignature(src.getSignature()));
     return tgt;
@@ -77,13 +85,53 @@ public class Bundle40_50 {
     if (src.hasTotal())
       tgt.setTotalElement(UnsignedInt40_50.convertUnsignedInt(src.getTotalElement()));
     for (org.hl7.fhir.r5.model.Bundle.BundleLinkComponent t : src.getLink()) tgt.addLink(convertBundleLinkComponent(t));
-    for (org.hl7.fhir.r5.model.Bundle.BundleEntryComponent t : src.getEntry())
-      tgt.addEntry(convertBundleEntryComponent(t));
+    for (org.hl7.fhir.r4.model.Bundle.BundleEntryComponent t : convertEntries(src.getEntry(), Bundle40_50::convertBundleEntryComponent))
+      tgt.addEntry(t);
     if (src.hasSignature())
       tgt.setSignature(Signature40_50.convertSignature(src.getSignature()));
     return tgt;
   }
 
+  /**
+   * converts the entries in order, or concurrently if the advisor provides an executor. Only the entries of 
+   * the Bundle being converted are split up - nested Bundles are converted on the thread converting their entry
+   */
+  private static <S, T> List<T> convertEntries(List<S> entries, Function<S, T> convertor) throws FHIRException {
+    VersionConvertor_40_50 vc = ConversionContext40_50.INSTANCE.getVersionConvertor_40_50();
+    Executor executor = vc.advisor().getBundleEntryExecutor();
+    String path = ConversionContext40_50.INSTANCE.path();
+    List<T> res = new ArrayList<>();
+    if (executor == null || entries.size() < 2 || !"Bundle".equals(path)) {
+      for (S e : entries) {
+        res.add(convertor.apply(e));
+      }
+      return res;
+    }
+    List<CompletableFuture<T>> futures = new ArrayList<>();
+    for (S e : entries) {
+      // the conversion context is per thread, so each task sets it up for itself
+      futures.add(CompletableFuture.supplyAsync(() -> {
+        ConversionContext40_50.INSTANCE.init(vc, path);
+        try {
+          return convertor.apply(e);
+        } finally {
+          ConversionContext40_50.INSTANCE.close(path);
+        }
+      }, executor));
+    }
+    for (CompletableFuture<T> f : futures) {
+      try {
+        res.add(f.join());
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        }
+        throw new FHIRException(ex.getCause());
+      }
+    }
+    return res;
+  }
+
   static public org.hl7.fhir.r5.model.Enumeration<org.hl7.fhir.r5.model.Bundle.BundleType> convertBundleType(org.hl7.fhir.r4.model.Enumeration<org.hl7.fhir.r4.model.Bundle.BundleType> src) throws FHIRException {
     if (src == null || src.isEmpty())
       return null;
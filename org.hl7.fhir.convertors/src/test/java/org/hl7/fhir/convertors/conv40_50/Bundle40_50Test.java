@@ -0,0 +1,50 @@
+package org.hl7.fhir.convertors.conv40_50;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_40_50;
+import org.hl7.fhir.convertors.factory.VersionConvertorFactory_40_50;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class Bundle40_50Test {
+
+  @Test
+  @DisplayName("Test r4 -> r5 Bundle conversion with the entries converted concurrently.")
+  public void testParallelEntries() throws IOException {
+    org.hl7.fhir.r4.model.Bundle r4 = new org.hl7.fhir.r4.model.Bundle();
+    r4.setType(org.hl7.fhir.r4.model.Bundle.BundleType.TRANSACTION);
+    for (int i = 0; i < 50; i++) {
+      org.hl7.fhir.r4.model.Patient pat = new org.hl7.fhir.r4.model.Patient();
+      pat.setId("p"+i);
+      pat.addName().setFamily("Family"+i);
+      r4.addEntry().setFullUrl("urn:uuid:p"+i).setResource(pat);
+      org.hl7.fhir.r4.model.Observation obs = new org.hl7.fhir.r4.model.Observation();
+      obs.setId("o"+i);
+      obs.getSubject().setReference("urn:uuid:p"+i);
+      r4.addEntry().setFullUrl("urn:uuid:o"+i).setResource(obs);
+    }
+    org.hl7.fhir.r4.model.Bundle nested = new org.hl7.fhir.r4.model.Bundle();
+    nested.setType(org.hl7.fhir.r4.model.Bundle.BundleType.COLLECTION);
+    nested.addEntry().setResource(new org.hl7.fhir.r4.model.Patient().setActive(true));
+    r4.addEntry().setResource(nested);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      org.hl7.fhir.r5.model.Resource sequential = VersionConvertorFactory_40_50.convertResource(r4);
+      org.hl7.fhir.r5.model.Resource parallel = VersionConvertorFactory_40_50.convertResource(r4, new BaseAdvisor_40_50().setBundleEntryExecutor(executor));
+      org.hl7.fhir.r5.formats.JsonParser json = new org.hl7.fhir.r5.formats.JsonParser();
+      assertEquals(json.composeString(sequential), json.composeString(parallel));
+
+      org.hl7.fhir.r4.model.Resource back = VersionConvertorFactory_40_50.convertResource((org.hl7.fhir.r5.model.Bundle) sequential);
+      org.hl7.fhir.r4.model.Resource backParallel = VersionConvertorFactory_40_50.convertResource((org.hl7.fhir.r5.model.Bundle) sequential, new BaseAdvisor_40_50().setBundleEntryExecutor(executor));
+      assertEquals(new org.hl7.fhir.r4.formats.JsonParser().composeString(back), new org.hl7.fhir.r4.formats.JsonParser().composeString(backParallel));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
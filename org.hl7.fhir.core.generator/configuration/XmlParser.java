@@ -352,8 +352,10 @@ public class XmlParser extends XmlParserBase {
   protected Resource parseResource(XmlPullParser xpp) throws XmlPullParserException, IOException, FHIRFormatError {
     if (xpp == null) {
       throw new IOException("xpp == null!");
+    }
+    switch (xpp.getName()) {
 {{parse-resource}}
-    } else {
+    default:
       throw new FHIRFormatError("Unknown resource type "+xpp.getName()+"");
     }
   }
@@ -17517,243 +17517,127 @@ public class XmlParser extends XmlParserBase {
 
   @Override
   protected Resource parseResource(XmlPullParser xpp) throws XmlPullParserException, IOException, FHIRFormatError {
-    if (xpp.getName().equals("Parameters"))
-      return parseParameters(xpp);
-    else if (xpp.getName().equals("Account"))
-      return parseAccount(xpp);
-    else if (xpp.getName().equals("ActivityDefinition"))
-      return parseActivityDefinition(xpp);
-    else if (xpp.getName().equals("AdverseEvent"))
-      return parseAdverseEvent(xpp);
-    else if (xpp.getName().equals("AllergyIntolerance"))
-      return parseAllergyIntolerance(xpp);
-    else if (xpp.getName().equals("Appointment"))
-      return parseAppointment(xpp);
-    else if (xpp.getName().equals("AppointmentResponse"))
-      return parseAppointmentResponse(xpp);
-    else if (xpp.getName().equals("AuditEvent"))
-      return parseAuditEvent(xpp);
-    else if (xpp.getName().equals("Basic"))
-      return parseBasic(xpp);
-    else if (xpp.getName().equals("Binary"))
-      return parseBinary(xpp);
-    else if (xpp.getName().equals("BodySite"))
-      return parseBodySite(xpp);
-    else if (xpp.getName().equals("Bundle"))
-      return parseBundle(xpp);
-    else if (xpp.getName().equals("CapabilityStatement"))
-      return parseCapabilityStatement(xpp);
-    else if (xpp.getName().equals("CarePlan"))
-      return parseCarePlan(xpp);
-    else if (xpp.getName().equals("CareTeam"))
-      return parseCareTeam(xpp);
-    else if (xpp.getName().equals("ChargeItem"))
-      return parseChargeItem(xpp);
-    else if (xpp.getName().equals("Claim"))
-      return parseClaim(xpp);
-    else if (xpp.getName().equals("ClaimResponse"))
-      return parseClaimResponse(xpp);
-    else if (xpp.getName().equals("ClinicalImpression"))
-      return parseClinicalImpression(xpp);
-    else if (xpp.getName().equals("CodeSystem"))
-      return parseCodeSystem(xpp);
-    else if (xpp.getName().equals("Communication"))
-      return parseCommunication(xpp);
-    else if (xpp.getName().equals("CommunicationRequest"))
-      return parseCommunicationRequest(xpp);
-    else if (xpp.getName().equals("CompartmentDefinition"))
-      return parseCompartmentDefinition(xpp);
-    else if (xpp.getName().equals("Composition"))
-      return parseComposition(xpp);
-    else if (xpp.getName().equals("ConceptMap"))
-      return parseConceptMap(xpp);
-    else if (xpp.getName().equals("Condition"))
-      return parseCondition(xpp);
-    else if (xpp.getName().equals("Consent"))
-      return parseConsent(xpp);
-    else if (xpp.getName().equals("Contract"))
-      return parseContract(xpp);
-    else if (xpp.getName().equals("Coverage"))
-      return parseCoverage(xpp);
-    else if (xpp.getName().equals("DataElement"))
-      return parseDataElement(xpp);
-    else if (xpp.getName().equals("DetectedIssue"))
-      return parseDetectedIssue(xpp);
-    else if (xpp.getName().equals("Device"))
-      return parseDevice(xpp);
-    else if (xpp.getName().equals("DeviceComponent"))
-      return parseDeviceComponent(xpp);
-    else if (xpp.getName().equals("DeviceMetric"))
-      return parseDeviceMetric(xpp);
-    else if (xpp.getName().equals("DeviceRequest"))
-      return parseDeviceRequest(xpp);
-    else if (xpp.getName().equals("DeviceUseStatement"))
-      return parseDeviceUseStatement(xpp);
-    else if (xpp.getName().equals("DiagnosticReport"))
-      return parseDiagnosticReport(xpp);
-    else if (xpp.getName().equals("DocumentManifest"))
-      return parseDocumentManifest(xpp);
-    else if (xpp.getName().equals("DocumentReference"))
-      return parseDocumentReference(xpp);
-    else if (xpp.getName().equals("EligibilityRequest"))
-      return parseEligibilityRequest(xpp);
-    else if (xpp.getName().equals("EligibilityResponse"))
-      return parseEligibilityResponse(xpp);
-    else if (xpp.getName().equals("Encounter"))
-      return parseEncounter(xpp);
-    else if (xpp.getName().equals("Endpoint"))
-      return parseEndpoint(xpp);
-    else if (xpp.getName().equals("EnrollmentRequest"))
-      return parseEnrollmentRequest(xpp);
-    else if (xpp.getName().equals("EnrollmentResponse"))
-      return parseEnrollmentResponse(xpp);
-    else if (xpp.getName().equals("EpisodeOfCare"))
-      return parseEpisodeOfCare(xpp);
-    else if (xpp.getName().equals("ExpansionProfile"))
-      return parseExpansionProfile(xpp);
-    else if (xpp.getName().equals("ExplanationOfBenefit"))
-      return parseExplanationOfBenefit(xpp);
-    else if (xpp.getName().equals("FamilyMemberHistory"))
-      return parseFamilyMemberHistory(xpp);
-    else if (xpp.getName().equals("Flag"))
-      return parseFlag(xpp);
-    else if (xpp.getName().equals("Goal"))
-      return parseGoal(xpp);
-    else if (xpp.getName().equals("GraphDefinition"))
-      return parseGraphDefinition(xpp);
-    else if (xpp.getName().equals("Group"))
-      return parseGroup(xpp);
-    else if (xpp.getName().equals("GuidanceResponse"))
-      return parseGuidanceResponse(xpp);
-    else if (xpp.getName().equals("HealthcareService"))
-      return parseHealthcareService(xpp);
-    else if (xpp.getName().equals("ImagingManifest"))
-      return parseImagingManifest(xpp);
-    else if (xpp.getName().equals("ImagingStudy"))
-      return parseImagingStudy(xpp);
-    else if (xpp.getName().equals("Immunization"))
-      return parseImmunization(xpp);
-    else if (xpp.getName().equals("ImmunizationRecommendation"))
-      return parseImmunizationRecommendation(xpp);
-    else if (xpp.getName().equals("ImplementationGuide"))
-      return parseImplementationGuide(xpp);
-    else if (xpp.getName().equals("Library"))
-      return parseLibrary(xpp);
-    else if (xpp.getName().equals("Linkage"))
-      return parseLinkage(xpp);
-    else if (xpp.getName().equals("List"))
-      return parseListResource(xpp);
-    else if (xpp.getName().equals("Location"))
-      return parseLocation(xpp);
-    else if (xpp.getName().equals("Measure"))
-      return parseMeasure(xpp);
-    else if (xpp.getName().equals("MeasureReport"))
-      return parseMeasureReport(xpp);
-    else if (xpp.getName().equals("Media"))
-      return parseMedia(xpp);
-    else if (xpp.getName().equals("Medication"))
-      return parseMedication(xpp);
-    else if (xpp.getName().equals("MedicationAdministration"))
-      return parseMedicationAdministration(xpp);
-    else if (xpp.getName().equals("MedicationDispense"))
-      return parseMedicationDispense(xpp);
-    else if (xpp.getName().equals("MedicationRequest"))
-      return parseMedicationRequest(xpp);
-    else if (xpp.getName().equals("MedicationStatement"))
-      return parseMedicationStatement(xpp);
-    else if (xpp.getName().equals("MessageDefinition"))
-      return parseMessageDefinition(xpp);
-    else if (xpp.getName().equals("MessageHeader"))
-      return parseMessageHeader(xpp);
-    else if (xpp.getName().equals("NamingSystem"))
-      return parseNamingSystem(xpp);
-    else if (xpp.getName().equals("NutritionOrder"))
-      return parseNutritionOrder(xpp);
-    else if (xpp.getName().equals("Observation"))
-      return parseObservation(xpp);
-    else if (xpp.getName().equals("OperationDefinition"))
-      return parseOperationDefinition(xpp);
-    else if (xpp.getName().equals("OperationOutcome"))
-      return parseOperationOutcome(xpp);
-    else if (xpp.getName().equals("Organization"))
-      return parseOrganization(xpp);
-    else if (xpp.getName().equals("Patient"))
-      return parsePatient(xpp);
-    else if (xpp.getName().equals("PaymentNotice"))
-      return parsePaymentNotice(xpp);
-    else if (xpp.getName().equals("PaymentReconciliation"))
-      return parsePaymentReconciliation(xpp);
-    else if (xpp.getName().equals("Person"))
-      return parsePerson(xpp);
-    else if (xpp.getName().equals("PlanDefinition"))
-      return parsePlanDefinition(xpp);
-    else if (xpp.getName().equals("Practitioner"))
-      return parsePractitioner(xpp);
-    else if (xpp.getName().equals("PractitionerRole"))
-      return parsePractitionerRole(xpp);
-    else if (xpp.getName().equals("Procedure"))
-      return parseProcedure(xpp);
-    else if (xpp.getName().equals("ProcedureRequest"))
-      return parseProcedureRequest(xpp);
-    else if (xpp.getName().equals("ProcessRequest"))
-      return parseProcessRequest(xpp);
-    else if (xpp.getName().equals("ProcessResponse"))
-      return parseProcessResponse(xpp);
-    else if (xpp.getName().equals("Provenance"))
-      return parseProvenance(xpp);
-    else if (xpp.getName().equals("Questionnaire"))
-      return parseQuestionnaire(xpp);
-    else if (xpp.getName().equals("QuestionnaireResponse"))
-      return parseQuestionnaireResponse(xpp);
-    else if (xpp.getName().equals("ReferralRequest"))
-      return parseReferralRequest(xpp);
-    else if (xpp.getName().equals("RelatedPerson"))
-      return parseRelatedPerson(xpp);
-    else if (xpp.getName().equals("RequestGroup"))
-      return parseRequestGroup(xpp);
-    else if (xpp.getName().equals("ResearchStudy"))
-      return parseResearchStudy(xpp);
-    else if (xpp.getName().equals("ResearchSubject"))
-      return parseResearchSubject(xpp);
-    else if (xpp.getName().equals("RiskAssessment"))
-      return parseRiskAssessment(xpp);
-    else if (xpp.getName().equals("Schedule"))
-      return parseSchedule(xpp);
-    else if (xpp.getName().equals("SearchParameter"))
-      return parseSearchParameter(xpp);
-    else if (xpp.getName().equals("Sequence"))
-      return parseSequence(xpp);
-    else if (xpp.getName().equals("ServiceDefinition"))
-      return parseServiceDefinition(xpp);
-    else if (xpp.getName().equals("Slot"))
-      return parseSlot(xpp);
-    else if (xpp.getName().equals("Specimen"))
-      return parseSpecimen(xpp);
-    else if (xpp.getName().equals("StructureDefinition"))
-      return parseStructureDefinition(xpp);
-    else if (xpp.getName().equals("StructureMap"))
-      return parseStructureMap(xpp);
-    else if (xpp.getName().equals("Subscription"))
-      return parseSubscription(xpp);
-    else if (xpp.getName().equals("Substance"))
-      return parseSubstance(xpp);
-    else if (xpp.getName().equals("SupplyDelivery"))
-      return parseSupplyDelivery(xpp);
-    else if (xpp.getName().equals("SupplyRequest"))
-      return parseSupplyRequest(xpp);
-    else if (xpp.getName().equals("Task"))
-      return parseTask(xpp);
-    else if (xpp.getName().equals("TestReport"))
-      return parseTestReport(xpp);
-    else if (xpp.getName().equals("TestScript"))
-      return parseTestScript(xpp);
-    else if (xpp.getName().equals("ValueSet"))
-      return parseValueSet(xpp);
-    else if (xpp.getName().equals("VisionPrescription"))
-      return parseVisionPrescription(xpp);
-    else if (xpp.getName().equals("Binary"))
-      return parseBinary(xpp);
-    throw new FHIRFormatError("Unknown resource type "+xpp.getName()+"");
+    switch (xpp.getName()) {
+    case "Parameters": return parseParameters(xpp);
+    case "Account": return parseAccount(xpp);
+    case "ActivityDefinition": return parseActivityDefinition(xpp);
+    case "AdverseEvent": return parseAdverseEvent(xpp);
+    case "AllergyIntolerance": return parseAllergyIntolerance(xpp);
+    case "Appointment": return parseAppointment(xpp);
+    case "AppointmentResponse": return parseAppointmentResponse(xpp);
+    case "AuditEvent": return parseAuditEvent(xpp);
+    case "Basic": return parseBasic(xpp);
+    case "Binary": return parseBinary(xpp);
+    case "BodySite": return parseBodySite(xpp);
+    case "Bundle": return parseBundle(xpp);
+    case "CapabilityStatement": return parseCapabilityStatement(xpp);
+    case "CarePlan": return parseCarePlan(xpp);
+    case "CareTeam": return parseCareTeam(xpp);
+    case "ChargeItem": return parseChargeItem(xpp);
+    case "Claim": return parseClaim(xpp);
+    case "ClaimResponse": return parseClaimResponse(xpp);
+    case "ClinicalImpression": return parseClinicalImpression(xpp);
+    case "CodeSystem": return parseCodeSystem(xpp);
+    case "Communication": return parseCommunication(xpp);
+    case "CommunicationRequest": return parseCommunicationRequest(xpp);
+    case "CompartmentDefinition": return parseCompartmentDefinition(xpp);
+    case "Composition": return parseComposition(xpp);
+    case "ConceptMap": return parseConceptMap(xpp);
+    case "Condition": return parseCondition(xpp);
+    case "Consent": return parseConsent(xpp);
+    case "Contract": return parseContract(xpp);
+    case "Coverage": return parseCoverage(xpp);
+    case "DataElement": return parseDataElement(xpp);
+    case "DetectedIssue": return parseDetectedIssue(xpp);
+    case "Device": return parseDevice(xpp);
+    case "DeviceComponent": return parseDeviceComponent(xpp);
+    case "DeviceMetric": return parseDeviceMetric(xpp);
+    case "DeviceRequest": return parseDeviceRequest(xpp);
+    case "DeviceUseStatement": return parseDeviceUseStatement(xpp);
+    case "DiagnosticReport": return parseDiagnosticReport(xpp);
+    case "DocumentManifest": return parseDocumentManifest(xpp);
+    case "DocumentReference": return parseDocumentReference(xpp);
+    case "EligibilityRequest": return parseEligibilityRequest(xpp);
+    case "EligibilityResponse": return parseEligibilityResponse(xpp);
+    case "Encounter": return parseEncounter(xpp);
+    case "Endpoint": return parseEndpoint(xpp);
+    case "EnrollmentRequest": return parseEnrollmentRequest(xpp);
+    case "EnrollmentResponse": return parseEnrollmentResponse(xpp);
+    case "EpisodeOfCare": return parseEpisodeOfCare(xpp);
+    case "ExpansionProfile": return parseExpansionProfile(xpp);
+    case "ExplanationOfBenefit": return parseExplanationOfBenefit(xpp);
+    case "FamilyMemberHistory": return parseFamilyMemberHistory(xpp);
+    case "Flag": return parseFlag(xpp);
+    case "Goal": return parseGoal(xpp);
+    case "GraphDefinition": return parseGraphDefinition(xpp);
+    case "Group": return parseGroup(xpp);
+    case "GuidanceResponse": return parseGuidanceResponse(xpp);
+    case "HealthcareService": return parseHealthcareService(xpp);
+    case "ImagingManifest": return parseImagingManifest(xpp);
+    case "ImagingStudy": return parseImagingStudy(xpp);
+    case "Immunization": return parseImmunization(xpp);
+    case "ImmunizationRecommendation": return parseImmunizationRecommendation(xpp);
+    case "ImplementationGuide": return parseImplementationGuide(xpp);
+    case "Library": return parseLibrary(xpp);
+    case "Linkage": return parseLinkage(xpp);
+    case "List": return parseListResource(xpp);
+    case "Location": return parseLocation(xpp);
+    case "Measure": return parseMeasure(xpp);
+    case "MeasureReport": return parseMeasureReport(xpp);
+    case "Media": return parseMedia(xpp);
+    case "Medication": return parseMedication(xpp);
+    case "MedicationAdministration": return parseMedicationAdministration(xpp);
+    case "MedicationDispense": return parseMedicationDispense(xpp);
+    case "MedicationRequest": return parseMedicationRequest(xpp);
+    case "MedicationStatement": return parseMedicationStatement(xpp);
+    case "MessageDefinition": return parseMessageDefinition(xpp);
+    case "MessageHeader": return parseMessageHeader(xpp);
+    case "NamingSystem": return parseNamingSystem(xpp);
+    case "NutritionOrder": return parseNutritionOrder(xpp);
+    case "Observation": return parseObservation(xpp);
+    case "OperationDefinition": return parseOperationDefinition(xpp);
+    case "OperationOutcome": return parseOperationOutcome(xpp);
+    case "Organization": return parseOrganization(xpp);
+    case "Patient": return parsePatient(xpp);
+    case "PaymentNotice": return parsePaymentNotice(xpp);
+    case "PaymentReconciliation": return parsePaymentReconciliation(xpp);
+    case "Person": return parsePerson(xpp);
+    case "PlanDefinition": return parsePlanDefinition(xpp);
+    case "Practitioner": return parsePractitioner(xpp);
+    case "PractitionerRole": return parsePractitionerRole(xpp);
+    case "Procedure": return parseProcedure(xpp);
+    case "ProcedureRequest": return parseProcedureRequest(xpp);
+    case "ProcessRequest": return parseProcessRequest(xpp);
+    case "ProcessResponse": return parseProcessResponse(xpp);
+    case "Provenance": return parseProvenance(xpp);
+    case "Questionnaire": return parseQuestionnaire(xpp);
+    case "QuestionnaireResponse": return parseQuestionnaireResponse(xpp);
+    case "ReferralRequest": return parseReferralRequest(xpp);
+    case "RelatedPerson": return parseRelatedPerson(xpp);
+    case "RequestGroup": return parseRequestGroup(xpp);
+    case "ResearchStudy": return parseResearchStudy(xpp);
+    case "ResearchSubject": return parseResearchSubject(xpp);
+    case "RiskAssessment": return parseRiskAssessment(xpp);
+    case "Schedule": return parseSchedule(xpp);
+    case "SearchParameter": return parseSearchParameter(xpp);
+    case "Sequence": return parseSequence(xpp);
+    case "ServiceDefinition": return parseServiceDefinition(xpp);
+    case "Slot": return parseSlot(xpp);
+    case "Specimen": return parseSpecimen(xpp);
+    case "StructureDefinition": return parseStructureDefinition(xpp);
+    case "StructureMap": return parseStructureMap(xpp);
+    case "Subscription": return parseSubscription(xpp);
+    case "Substance": return parseSubstance(xpp);
+    case "SupplyDelivery": return parseSupplyDelivery(xpp);
+    case "SupplyRequest": return parseSupplyRequest(xpp);
+    case "Task": return parseTask(xpp);
+    case "TestReport": return parseTestReport(xpp);
+    case "TestScript": return parseTestScript(xpp);
+    case "ValueSet": return parseValueSet(xpp);
+    case "VisionPrescription": return parseVisionPrescription(xpp);
+    default:
+      throw new FHIRFormatError("Unknown resource type "+xpp.getName()+"");
+    }
   }
 
   protected Type parseType(String prefix, XmlPullParser xpp) throws XmlPullParserException, IOException, FHIRFormatError {
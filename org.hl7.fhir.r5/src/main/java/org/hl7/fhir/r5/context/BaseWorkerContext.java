@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
@@ -114,6 +115,8 @@ import org.hl7.fhir.r5.terminologies.ValueSetCheckerSimple;
 import org.hl7.fhir.r5.terminologies.ValueSetExpander.TerminologyServiceErrorClass;
 import org.hl7.fhir.r5.terminologies.ValueSetExpander.ValueSetExpansionOutcome;
 import org.hl7.fhir.r5.terminologies.ValueSetExpanderSimple;
+import org.hl7.fhir.r5.terminologies.ValueSetMembership;
+import org.hl7.fhir.r5.utils.FHIRPathExpressionCache;
 import org.hl7.fhir.r5.utils.PackageHackerR5;
 import org.hl7.fhir.r5.utils.ResourceUtilities;
 import org.hl7.fhir.r5.utils.ToolingExtensions;
@@ -201,7 +204,9 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     }
   }
 
-  private Object lock = new Object(); // used as a lock for the data that follows
+  // used as a lock for changes to the data that follows. Resource lookups (fetchResourceWithException etc) do not 
+  // take it: the maps they read are concurrent, so a shared context can serve many validating threads without contention
+  private Object lock = new Object(); 
   protected String version; // although the internal resources are all R5, the version of FHIR they describe may not be 
   private String cacheId;
   private boolean isTxCaching;
@@ -209,10 +214,10 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
   private int serverQueryCount = 0;
   private final Set<String> cached = new HashSet<>();
   
-  private Map<String, Map<String, ResourceProxy>> allResourcesById = new HashMap<String, Map<String, ResourceProxy>>();
+  private Map<String, Map<String, ResourceProxy>> allResourcesById = new ConcurrentHashMap<String, Map<String, ResourceProxy>>();
   // all maps are to the full URI
   private CanonicalResourceManager<CodeSystem> codeSystems = new CanonicalResourceManager<CodeSystem>(false);
-  private final Set<String> supportedCodeSystems = new HashSet<String>();
+  protected final Set<String> supportedCodeSystems = ConcurrentHashMap.newKeySet();
   private final Set<String> unsupportedCodeSystems = new HashSet<String>(); // know that the terminology server doesn't support them
   private CanonicalResourceManager<ValueSet> valueSets = new CanonicalResourceManager<ValueSet>(false);
   private CanonicalResourceManager<ConceptMap> maps = new CanonicalResourceManager<ConceptMap>(false);
@@ -251,7 +256,9 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
   protected ILoggingService logger = new SystemOutLoggingService();
   protected Parameters expParameters;
   private TranslationServices translator = new NullTranslator();
-  private Map<String, PackageInformation> packages = new HashMap<>();
+  private Map<String, PackageInformation> packages = new ConcurrentHashMap<>();
+  private Map<String, ValueSetMembership> valueSetMemberships = new ConcurrentHashMap<>(); // cleared whenever a ValueSet or CodeSystem changes
+  private FHIRPathExpressionCache expressionCache = new FHIRPathExpressionCache();
 
   @Getter
   protected TerminologyCache txCache;
@@ -329,6 +336,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
       tlogging = other.tlogging;
       locator = other.locator;
       userAgent = other.userAgent;
+      expressionCache = other.expressionCache; // parsed expressions don't depend on the content, so this is shared
     }
   }
   
@@ -348,7 +356,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
       if (r.getId() != null) {
         Map<String, ResourceProxy> map = allResourcesById.get(r.getType());
         if (map == null) {
-          map = new HashMap<String, ResourceProxy>();
+          map = new ConcurrentHashMap<String, ResourceProxy>();
           allResourcesById.put(r.getType(), map);
         }
         if ((packageInfo == null || !packageInfo.isExamplesPackage()) || !map.containsKey(r.getId())) {
@@ -366,6 +374,10 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
         throw new DefinitionException(formatMessage(I18nConstants.DUPLICATE_RESOURCE_, url, r.getVersion(), ex.getVersion(),
             ex.fhirType()));
       }
+      // the same as cacheResourceFromPackage. Code systems are cross linked when the proxy loads them
+      if (Utilities.existsInList(r.getType(), "CodeSystem", "NamingSystem")) {
+        oidCache.clear();
+      }
       switch(r.getType()) {
       case "StructureDefinition":
         if ("1.4.0".equals(version)) {
@@ -376,9 +388,11 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
         break;
       case "ValueSet":
         valueSets.register(r, packageInfo);
+        valueSetMemberships.clear();
         break;
       case "CodeSystem":
         codeSystems.register(r, packageInfo);
+        valueSetMemberships.clear();
         break;
       case "ImplementationGuide":
         guides.register(r, packageInfo);
@@ -412,12 +426,14 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
         break;
       case "NamingSystem":
         systems.register(r, packageInfo);
+        systemUrlMap = null;
         break;
       case "Requirements":
         requirements.register(r, packageInfo);
         break;
       case "ActorDefinition":
         actors.register(r, packageInfo);
+        systemUrlMap = null;
         break;
       }
     }
@@ -433,7 +449,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
       if (r.getId() != null) {
         Map<String, ResourceProxy> map = allResourcesById.get(r.fhirType());
         if (map == null) {
-          map = new HashMap<String, ResourceProxy>();
+          map = new ConcurrentHashMap<String, ResourceProxy>();
           allResourcesById.put(r.fhirType(), map);
         }
         if ((packageInfo == null || !packageInfo.isExamplesPackage()) || !map.containsKey(r.getId())) {
@@ -467,9 +483,11 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
           structures.see(sd, packageInfo);
         } else if (r instanceof ValueSet) {
           valueSets.see((ValueSet) m, packageInfo);
+          valueSetMemberships.clear();
         } else if (r instanceof CodeSystem) {
           CodeSystemUtilities.crossLinkCodeSystem((CodeSystem) r);
           codeSystems.see((CodeSystem) m, packageInfo);
+          valueSetMemberships.clear();
         } else if (r instanceof ImplementationGuide) {
           guides.see((ImplementationGuide) m, packageInfo);
         } else if (r instanceof CapabilityStatement) {
@@ -994,6 +1012,170 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     }    
   }
   
+  @Override
+  public void preValidateCodes(ValidationOptions options, List<? extends CodingValidationRequest> codes, List<? extends ValueSetValidationRequest> bindings) {
+    if (txCache == null) {
+      return;
+    }
+    if (options == null) {
+      options = ValidationOptions.defaults();
+    }
+    // work through the codes the way validateCode does, but collect the ones that need to go to the server
+    Bundle batch = new Bundle();
+    batch.setType(BundleType.BATCH);
+    Set<String> requests = new HashSet<>();
+    Set<String> systems = new HashSet<>();
+    for (CodingValidationRequest t : codes) {
+      Coding code = t.getCoding();
+      t.setCacheToken(txCache.generateValidationToken(options, code, null));
+      if (!requests.add(t.getCacheToken().getRequest())) {
+        continue;
+      }
+      if (code.hasSystem()) {
+        codeSystemsUsed.add(code.getSystem());
+      }
+      t.setResult(txCache.getValidation(t.getCacheToken()));
+      if (t.hasResult()) {
+        continue;
+      }
+      String localError = null;
+      if (options.isUseClient()) {
+        try {
+          ValueSetCheckerSimple vsc = constructValueSetCheckerSimple(options, null, new ValidationContextCarrier());
+          if (!vsc.isServerSide(code.getSystem())) {
+            t.setResult(vsc.validateCode(code));
+            txCache.cacheValidation(t.getCacheToken(), t.getResult(), TerminologyCache.TRANSIENT);
+            continue;
+          }
+        } catch (Exception e) {
+          localError = e.getMessage();
+        }
+      }
+      if (!options.isUseServer() || unsupportedCodeSystems.contains(getCodeKey(code)) || noTerminologyServer || txClient == null || expParameters == null) {
+        continue;
+      }
+      Parameters pIn = constructParameters(options, t, null);
+      setTerminologyOptions(options, pIn);
+      BundleEntryComponent be = batch.addEntry();
+      be.setResource(pIn);
+      be.getRequest().setMethod(HTTPVerb.POST);
+      be.getRequest().setUrl("CodeSystem/$validate-code");
+      be.setUserData("source", t);
+      be.setUserData("localError", localError);
+      systems.add(code.getSystem());
+    }
+    // and the value set checks, the way validateCode(options, code, vs) and validateCode(options, cc, vs) do them
+    for (ValueSetValidationRequest t : bindings) {
+      ValidationOptions vo = t.getOptions();
+      Coding code = t.getCoding();
+      t.setCacheToken(code != null ? txCache.generateValidationToken(vo, code, t.getValueSet()) : txCache.generateValidationToken(vo, t.getCodeableConcept(), t.getValueSet()));
+      if (!requests.add(t.getCacheToken().getRequest())) {
+        continue;
+      }
+      t.setResult(txCache.getValidation(t.getCacheToken()));
+      if (t.hasResult()) {
+        continue;
+      }
+      String localError = null;
+      if (vo.isUseClient()) {
+        try {
+          if (code != null) {
+            ValueSetCheckerSimple vsc = constructValueSetCheckerSimple(vo, t.getValueSet(), new ValidationContextCarrier());
+            if (!vsc.isServerSide(code.getSystem())) {
+              t.setResult(vsc.validateCode(code));
+            }
+          } else {
+            t.setResult(constructValueSetCheckerSimple(vo, t.getValueSet()).validateCode(t.getCodeableConcept()));
+          }
+          if (t.hasResult()) {
+            txCache.cacheValidation(t.getCacheToken(), t.getResult(), TerminologyCache.TRANSIENT);
+            continue;
+          }
+        } catch (NoTerminologyServiceException e) {
+          continue; // validateCode reports this without caching anything
+        } catch (Exception e) {
+          localError = e.getMessage();
+        }
+      }
+      if (!vo.isUseServer() || (code != null && unsupportedCodeSystems.contains(getCodeKey(code))) || noTerminologyServer || txClient == null || expParameters == null) {
+        continue;
+      }
+      Parameters pIn = code != null ? constructParameters(vo, code) : constructParameters(vo, t.getCodeableConcept());
+      addValueSetParameters(t.getValueSet(), pIn, vo, false);
+      pIn.addParameter().setName("profile").setResource(expParameters);
+      BundleEntryComponent be = batch.addEntry();
+      be.setResource(pIn);
+      be.getRequest().setMethod(HTTPVerb.POST);
+      be.getRequest().setUrl("ValueSet/$validate-code");
+      be.setUserData("source", t);
+      be.setUserData("localError", localError);
+      systems.add(t.getValueSet().getVersionedUrl());
+    }
+    if (batch.getEntry().isEmpty()) {
+      return;
+    }
+    txLog("$batch validate for "+batch.getEntry().size()+" codes on systems and value sets "+systems.toString());
+    if (txLog != null) {
+      txLog.clearLastId();
+    }
+    Bundle resp;
+    try {
+      resp = txClient.validateBatch(batch);
+    } catch (Exception e) {
+      // the codes will be validated one at a time, and report the problem then
+      logger.logDebugMessage(LogCategory.TX, "$batch validate failed: "+e.getMessage());
+      return; 
+    }
+    if (resp == null) {
+      return;
+    }
+    for (int i = 0; i < batch.getEntry().size() && i < resp.getEntry().size(); i++) {
+      Object source = batch.getEntry().get(i).getUserData("source");
+      String localError = (String) batch.getEntry().get(i).getUserData("localError");
+      BundleEntryComponent r = resp.getEntry().get(i);
+      if (r.getResource() instanceof Parameters) {
+        ValidationResult res = processValidationResult((Parameters) r.getResource());
+        if (source instanceof CodingValidationRequest) {
+          CodingValidationRequest t = (CodingValidationRequest) source;
+          if (!res.isOk() && localError != null) {
+            res.setMessage("Local Error: "+localError+". Server Error: "+res.getMessage());
+          }
+          updateUnsupportedCodeSystems(res, t.getCoding(), getCodeKey(t.getCoding()));
+          txCache.cacheValidation(t.getCacheToken(), res, TerminologyCache.PERMANENT);
+          t.setResult(res);
+        } else {
+          ValueSetValidationRequest t = (ValueSetValidationRequest) source;
+          if (t.getCoding() != null) {
+            if (!res.isOk() && localError != null) {
+              res.setMessage("Local Error: "+localError+". Server Error: "+res.getMessage());
+            }
+            updateUnsupportedCodeSystems(res, t.getCoding(), getCodeKey(t.getCoding()));
+          }
+          txCache.cacheValidation(t.getCacheToken(), res, TerminologyCache.PERMANENT);
+          t.setResult(res);
+        }
+      }
+    }
+  }
+
+  @Override
+  public ValueSetMembership getValueSetMembership(ValueSet vs) {
+    if (vs == null || !vs.hasUrl()) {
+      return null;
+    }
+    ValueSetMembership vsm = valueSetMemberships.get(vs.getVUrl());
+    if (vsm == null || vsm.getValueSet() != vs) {
+      vsm = ValueSetMembership.compile(this, vs);
+      valueSetMemberships.put(vs.getVUrl(), vsm);
+    }
+    return vsm.isCompiled() ? vsm : null;
+  }
+
+  @Override
+  public FHIRPathExpressionCache getExpressionCache() {
+    return expressionCache;
+  }
+
   private String getResponseText(Resource resource) {
     if (resource instanceof OperationOutcome) {
       return OperationOutcomeRenderer.toString((OperationOutcome) resource);
@@ -1200,32 +1382,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
   }
 
   protected ValidationResult validateOnServer(ValueSet vs, Parameters pin, ValidationOptions options) throws FHIRException {
-    boolean cache = false;
-    if (vs != null) {
-      for (ConceptSetComponent inc : vs.getCompose().getInclude()) {
-        codeSystemsUsed.add(inc.getSystem());
-      }
-      for (ConceptSetComponent inc : vs.getCompose().getExclude()) {
-        codeSystemsUsed.add(inc.getSystem());
-      }
-    }
-    if (vs != null) {
-      if (isTxCaching && cacheId != null && vs.getUrl() != null && cached.contains(vs.getUrl()+"|"+vs.getVersion())) {
-        pin.addParameter().setName("url").setValue(new UriType(vs.getUrl()+(vs.hasVersion() ? "|"+vs.getVersion() : "")));        
-      } else if (options.getVsAsUrl()){
-        pin.addParameter().setName("url").setValue(new StringType(vs.getUrl()));
-      } else {
-        pin.addParameter().setName("valueSet").setResource(vs);
-        if (vs.getUrl() != null) {
-          cached.add(vs.getUrl()+"|"+vs.getVersion());
-        }
-      }
-      cache = true;
-      addDependentResources(pin, vs);
-    }
-    if (cache) {
-      pin.addParameter().setName("cache-id").setValue(new StringType(cacheId));              
-    }
+    addValueSetParameters(vs, pin, options, true);
     for (ParametersParameterComponent pp : pin.getParameter()) {
       if (pp.getName().equals("profile")) {
         throw new Error(formatMessage(I18nConstants.CAN_ONLY_SPECIFY_PROFILE_IN_THE_CONTEXT));
@@ -1250,6 +1407,33 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     return processValidationResult(pOut);
   }
 
+  /**
+   * Add the value set to a $validate-code request. Once a value set has been sent, later requests only send the url 
+   * (the server keeps it against the cache-id) - but only if remember is true; batch entries don't record that
+   */
+  private void addValueSetParameters(ValueSet vs, Parameters pin, ValidationOptions options, boolean remember) {
+    if (vs != null) {
+      for (ConceptSetComponent inc : vs.getCompose().getInclude()) {
+        codeSystemsUsed.add(inc.getSystem());
+      }
+      for (ConceptSetComponent inc : vs.getCompose().getExclude()) {
+        codeSystemsUsed.add(inc.getSystem());
+      }
+      if (isTxCaching && cacheId != null && vs.getUrl() != null && cached.contains(vs.getUrl()+"|"+vs.getVersion())) {
+        pin.addParameter().setName("url").setValue(new UriType(vs.getUrl()+(vs.hasVersion() ? "|"+vs.getVersion() : "")));        
+      } else if (options.getVsAsUrl()){
+        pin.addParameter().setName("url").setValue(new StringType(vs.getUrl()));
+      } else {
+        pin.addParameter().setName("valueSet").setResource(vs);
+        if (remember && vs.getUrl() != null) {
+          cached.add(vs.getUrl()+"|"+vs.getVersion());
+        }
+      }
+      addDependentResources(pin, vs);
+      pin.addParameter().setName("cache-id").setValue(new StringType(cacheId));              
+    }
+  }
+
   private boolean addDependentResources(Parameters pin, ValueSet vs) {
     boolean cache = false;
     for (ConceptSetComponent inc : vs.getCompose().getInclude()) {
@@ -1441,135 +1625,134 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     if (class_ == StructureDefinition.class) {
       uri = ProfileUtilities.sdNs(uri, null);
     }
-    synchronized (lock) {
+    // no lock: the resource managers can be read while another thread is registering
 
-      if (version == null) {
-        if (uri.contains("|")) {
-          version = uri.substring(uri.lastIndexOf("|")+1);
-          uri = uri.substring(0, uri.lastIndexOf("|"));
-        }
-      } else {
-        assert !uri.contains("|");
+    if (version == null) {
+      if (uri.contains("|")) {
+        version = uri.substring(uri.lastIndexOf("|")+1);
+        uri = uri.substring(0, uri.lastIndexOf("|"));
       }
-      if (uri.contains("#")) {
-        uri = uri.substring(0, uri.indexOf("#"));
-      } 
-      if (class_ == Resource.class || class_ == null) {
-        if (structures.has(uri)) {
-          return (T) structures.get(uri, version, pvlist);
-        }        
-        if (guides.has(uri)) {
-          return (T) guides.get(uri, version, pvlist);
-        } 
-        if (capstmts.has(uri)) {
-          return (T) capstmts.get(uri, version, pvlist);
-        } 
-        if (measures.has(uri)) {
-          return (T) measures.get(uri, version, pvlist);
-        } 
-        if (libraries.has(uri)) {
-          return (T) libraries.get(uri, version, pvlist);
-        } 
-        if (valueSets.has(uri)) {
-          return (T) valueSets.get(uri, version, pvlist);
-        } 
-        if (codeSystems.has(uri)) {
-          return (T) codeSystems.get(uri, version, pvlist);
-        } 
-        if (operations.has(uri)) {
-          return (T) operations.get(uri, version, pvlist);
-        } 
-        if (searchParameters.has(uri)) {
-          return (T) searchParameters.get(uri, version, pvlist);
-        } 
-        if (plans.has(uri)) {
-          return (T) plans.get(uri, version, pvlist);
-        } 
-        if (maps.has(uri)) {
-          return (T) maps.get(uri, version, pvlist);
-        } 
-        if (transforms.has(uri)) {
-          return (T) transforms.get(uri, version, pvlist);
-        } 
-        if (actors.has(uri)) {
-          return (T) transforms.get(uri, version, pvlist);
-        } 
-        if (requirements.has(uri)) {
-          return (T) transforms.get(uri, version, pvlist);
-        } 
-        if (questionnaires.has(uri)) {
-          return (T) questionnaires.get(uri, version, pvlist);
-        } 
-
-        for (Map<String, ResourceProxy> rt : allResourcesById.values()) {
-          for (ResourceProxy r : rt.values()) {
-            if (uri.equals(r.getUrl())) {
-              if (version == null || version == r.getResource().getMeta().getVersionId()) {
-                return (T) r.getResource();
-              }
-            }
-          }            
-        }
-        if (uri.matches(Constants.URI_REGEX) && !uri.contains("ValueSet")) {
-          return null;
-        }
-
-        // it might be a special URL.
-//        if (Utilities.isAbsoluteUrl(uri) || uri.startsWith("ValueSet/")) {
-//          Resource res = null; // findTxValueSet(uri);
-//          if (res != null) {
-//            return (T) res;
-//          }
-//        }
-        return null;      
-      } else if (class_ == ImplementationGuide.class) {
+    } else {
+      assert !uri.contains("|");
+    }
+    if (uri.contains("#")) {
+      uri = uri.substring(0, uri.indexOf("#"));
+    } 
+    if (class_ == Resource.class || class_ == null) {
+      if (structures.has(uri)) {
+        return (T) structures.get(uri, version, pvlist);
+      }        
+      if (guides.has(uri)) {
         return (T) guides.get(uri, version, pvlist);
-      } else if (class_ == CapabilityStatement.class) {
+      } 
+      if (capstmts.has(uri)) {
         return (T) capstmts.get(uri, version, pvlist);
-      } else if (class_ == Measure.class) {
+      } 
+      if (measures.has(uri)) {
         return (T) measures.get(uri, version, pvlist);
-      } else if (class_ == Library.class) {
+      } 
+      if (libraries.has(uri)) {
         return (T) libraries.get(uri, version, pvlist);
-      } else if (class_ == StructureDefinition.class) {
-        return (T) structures.get(uri, version, pvlist);
-      } else if (class_ == StructureMap.class) {
-        return (T) transforms.get(uri, version, pvlist);
-      } else if (class_ == ValueSet.class) {
+      } 
+      if (valueSets.has(uri)) {
         return (T) valueSets.get(uri, version, pvlist);
-      } else if (class_ == CodeSystem.class) {
+      } 
+      if (codeSystems.has(uri)) {
         return (T) codeSystems.get(uri, version, pvlist);
-      } else if (class_ == ConceptMap.class) {
-        return (T) maps.get(uri, version, pvlist);
-      } else if (class_ == ActorDefinition.class) {
-        return (T) actors.get(uri, version, pvlist);
-      } else if (class_ == Requirements.class) {
-        return (T) requirements.get(uri, version, pvlist);
-      } else if (class_ == PlanDefinition.class) {
+      } 
+      if (operations.has(uri)) {
+        return (T) operations.get(uri, version, pvlist);
+      } 
+      if (searchParameters.has(uri)) {
+        return (T) searchParameters.get(uri, version, pvlist);
+      } 
+      if (plans.has(uri)) {
         return (T) plans.get(uri, version, pvlist);
-      } else if (class_ == OperationDefinition.class) {
-        OperationDefinition od = operations.get(uri, version);
-        return (T) od;
-      } else if (class_ == Questionnaire.class) {
-        return (T) questionnaires.get(uri, version, pvlist);
-      } else if (class_ == SearchParameter.class) {
-        SearchParameter res = searchParameters.get(uri, version, pvlist);
-        return (T) res;
-      }
-      if (class_ == CodeSystem.class && codeSystems.has(uri)) { 
-        return (T) codeSystems.get(uri, version, pvlist);
-      }
-      if (class_ == ValueSet.class && valueSets.has(uri)) {
-        return (T) valueSets.get(uri, version, pvlist);
       } 
-      
-      if (class_ == Questionnaire.class) {
+      if (maps.has(uri)) {
+        return (T) maps.get(uri, version, pvlist);
+      } 
+      if (transforms.has(uri)) {
+        return (T) transforms.get(uri, version, pvlist);
+      } 
+      if (actors.has(uri)) {
+        return (T) transforms.get(uri, version, pvlist);
+      } 
+      if (requirements.has(uri)) {
+        return (T) transforms.get(uri, version, pvlist);
+      } 
+      if (questionnaires.has(uri)) {
         return (T) questionnaires.get(uri, version, pvlist);
       } 
-      if (supportedCodeSystems.contains(uri)) {
+
+      for (Map<String, ResourceProxy> rt : allResourcesById.values()) {
+        for (ResourceProxy r : rt.values()) {
+          if (uri.equals(r.getUrl())) {
+            if (version == null || version == r.getResource().getMeta().getVersionId()) {
+              return (T) r.getResource();
+            }
+          }
+        }            
+      }
+      if (uri.matches(Constants.URI_REGEX) && !uri.contains("ValueSet")) {
         return null;
-      } 
-      throw new FHIRException(formatMessage(I18nConstants.NOT_DONE_YET_CANT_FETCH_, uri));
-    }
+      }
+
+      // it might be a special URL.
+//        if (Utilities.isAbsoluteUrl(uri) || uri.startsWith("ValueSet/")) {
+//          Resource res = null; // findTxValueSet(uri);
+//          if (res != null) {
+//            return (T) res;
+//          }
+//        }
+      return null;      
+    } else if (class_ == ImplementationGuide.class) {
+      return (T) guides.get(uri, version, pvlist);
+    } else if (class_ == CapabilityStatement.class) {
+      return (T) capstmts.get(uri, version, pvlist);
+    } else if (class_ == Measure.class) {
+      return (T) measures.get(uri, version, pvlist);
+    } else if (class_ == Library.class) {
+      return (T) libraries.get(uri, version, pvlist);
+    } else if (class_ == StructureDefinition.class) {
+      return (T) structures.get(uri, version, pvlist);
+    } else if (class_ == StructureMap.class) {
+      return (T) transforms.get(uri, version, pvlist);
+    } else if (class_ == ValueSet.class) {
+      return (T) valueSets.get(uri, version, pvlist);
+    } else if (class_ == CodeSystem.class) {
+      return (T) codeSystems.get(uri, version, pvlist);
+    } else if (class_ == ConceptMap.class) {
+      return (T) maps.get(uri, version, pvlist);
+    } else if (class_ == ActorDefinition.class) {
+      return (T) actors.get(uri, version, pvlist);
+    } else if (class_ == Requirements.class) {
+      return (T) requirements.get(uri, version, pvlist);
+    } else if (class_ == PlanDefinition.class) {
+      return (T) plans.get(uri, version, pvlist);
+    } else if (class_ == OperationDefinition.class) {
+      OperationDefinition od = operations.get(uri, version);
+      return (T) od;
+    } else if (class_ == Questionnaire.class) {
+      return (T) questionnaires.get(uri, version, pvlist);
+    } else if (class_ == SearchParameter.class) {
+      SearchParameter res = searchParameters.get(uri, version, pvlist);
+      return (T) res;
+    }
+    if (class_ == CodeSystem.class && codeSystems.has(uri)) { 
+      return (T) codeSystems.get(uri, version, pvlist);
+    }
+    if (class_ == ValueSet.class && valueSets.has(uri)) {
+      return (T) valueSets.get(uri, version, pvlist);
+    } 
+    
+    if (class_ == Questionnaire.class) {
+      return (T) questionnaires.get(uri, version, pvlist);
+    } 
+    if (supportedCodeSystems.contains(uri)) {
+      return null;
+    } 
+    throw new FHIRException(formatMessage(I18nConstants.NOT_DONE_YET_CANT_FETCH_, uri));
   }
 
   private void populatePVList(List<String> pvlist, PackageInformation sourcePackage) {
@@ -1597,203 +1780,200 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     }
     uri = ProfileUtilities.sdNs(uri, null);
 
-    synchronized (lock) {
 
-      String version = null;
+    String version = null;
+    if (uri.contains("|")) {
+      version = uri.substring(uri.lastIndexOf("|")+1);
+      uri = uri.substring(0, uri.lastIndexOf("|"));
+    }
+    if (uri.contains("#")) {
+      uri = uri.substring(0, uri.indexOf("#"));
+    } 
+    if (structures.has(uri)) {
+      return structures.getPackageInfo(uri, version);
+    }        
+    if (guides.has(uri)) {
+      return guides.getPackageInfo(uri, version);
+    } 
+    if (capstmts.has(uri)) {
+      return capstmts.getPackageInfo(uri, version);
+    } 
+    if (measures.has(uri)) {
+      return measures.getPackageInfo(uri, version);
+    } 
+    if (libraries.has(uri)) {
+      return libraries.getPackageInfo(uri, version);
+    } 
+    if (valueSets.has(uri)) {
+      return valueSets.getPackageInfo(uri, version);
+    } 
+    if (codeSystems.has(uri)) {
+      return codeSystems.getPackageInfo(uri, version);
+    } 
+    if (operations.has(uri)) {
+      return operations.getPackageInfo(uri, version);
+    } 
+    if (searchParameters.has(uri)) {
+      return searchParameters.getPackageInfo(uri, version);
+    } 
+    if (plans.has(uri)) {
+      return plans.getPackageInfo(uri, version);
+    } 
+    if (maps.has(uri)) {
+      return maps.getPackageInfo(uri, version);
+    } 
+    if (transforms.has(uri)) {
+      return transforms.getPackageInfo(uri, version);
+    } 
+    if (actors.has(uri)) {
+      return actors.getPackageInfo(uri, version);
+    } 
+    if (requirements.has(uri)) {
+      return requirements.getPackageInfo(uri, version);
+    } 
+    if (questionnaires.has(uri)) {
+      return questionnaires.getPackageInfo(uri, version);
+    }         
+    return null;
+  }
+  
+  @SuppressWarnings("unchecked")
+  public <T extends Resource> T fetchResourceWithExceptionByVersion(String cls, String uri, String version, CanonicalResource source) throws FHIRException {
+    if (uri == null) {
+      return null;
+    }
+   
+    if ("StructureDefinition".equals(cls)) {
+      uri = ProfileUtilities.sdNs(uri, null);
+    }
+    // no lock: the resource managers can be read while another thread is registering
+
+    if (version == null) {
       if (uri.contains("|")) {
         version = uri.substring(uri.lastIndexOf("|")+1);
         uri = uri.substring(0, uri.lastIndexOf("|"));
       }
-      if (uri.contains("#")) {
-        uri = uri.substring(0, uri.indexOf("#"));
-      } 
+    } else {
+      boolean b = !uri.contains("|");
+      assert b;
+    }
+    if (uri.contains("#")) {
+      uri = uri.substring(0, uri.indexOf("#"));
+    } 
+    if (cls == null || "Resource".equals(cls)) {
       if (structures.has(uri)) {
-        return structures.getPackageInfo(uri, version);
-      }        
+        return (T) structures.get(uri, version);
+      } 
       if (guides.has(uri)) {
-        return guides.getPackageInfo(uri, version);
+        return (T) guides.get(uri, version);
       } 
       if (capstmts.has(uri)) {
-        return capstmts.getPackageInfo(uri, version);
+        return (T) capstmts.get(uri, version);
       } 
       if (measures.has(uri)) {
-        return measures.getPackageInfo(uri, version);
+        return (T) measures.get(uri, version);
       } 
       if (libraries.has(uri)) {
-        return libraries.getPackageInfo(uri, version);
+        return (T) libraries.get(uri, version);
       } 
       if (valueSets.has(uri)) {
-        return valueSets.getPackageInfo(uri, version);
+        return (T) valueSets.get(uri, version);
       } 
       if (codeSystems.has(uri)) {
-        return codeSystems.getPackageInfo(uri, version);
+        return (T) codeSystems.get(uri, version);
       } 
       if (operations.has(uri)) {
-        return operations.getPackageInfo(uri, version);
+        return (T) operations.get(uri, version);
       } 
       if (searchParameters.has(uri)) {
-        return searchParameters.getPackageInfo(uri, version);
+        return (T) searchParameters.get(uri, version);
       } 
       if (plans.has(uri)) {
-        return plans.getPackageInfo(uri, version);
+        return (T) plans.get(uri, version);
       } 
       if (maps.has(uri)) {
-        return maps.getPackageInfo(uri, version);
+        return (T) maps.get(uri, version);
       } 
       if (transforms.has(uri)) {
-        return transforms.getPackageInfo(uri, version);
+        return (T) transforms.get(uri, version);
       } 
       if (actors.has(uri)) {
-        return actors.getPackageInfo(uri, version);
+        return (T) actors.get(uri, version);
       } 
       if (requirements.has(uri)) {
-        return requirements.getPackageInfo(uri, version);
-      } 
-      if (questionnaires.has(uri)) {
-        return questionnaires.getPackageInfo(uri, version);
-      }         
-      return null;
-    }
-  }
-  
-  @SuppressWarnings("unchecked")
-  public <T extends Resource> T fetchResourceWithExceptionByVersion(String cls, String uri, String version, CanonicalResource source) throws FHIRException {
-    if (uri == null) {
-      return null;
-    }
-   
-    if ("StructureDefinition".equals(cls)) {
-      uri = ProfileUtilities.sdNs(uri, null);
-    }
-    synchronized (lock) {
-
-      if (version == null) {
-        if (uri.contains("|")) {
-          version = uri.substring(uri.lastIndexOf("|")+1);
-          uri = uri.substring(0, uri.lastIndexOf("|"));
-        }
-      } else {
-        boolean b = !uri.contains("|");
-        assert b;
-      }
-      if (uri.contains("#")) {
-        uri = uri.substring(0, uri.indexOf("#"));
-      } 
-      if (cls == null || "Resource".equals(cls)) {
-        if (structures.has(uri)) {
-          return (T) structures.get(uri, version);
-        } 
-        if (guides.has(uri)) {
-          return (T) guides.get(uri, version);
-        } 
-        if (capstmts.has(uri)) {
-          return (T) capstmts.get(uri, version);
-        } 
-        if (measures.has(uri)) {
-          return (T) measures.get(uri, version);
-        } 
-        if (libraries.has(uri)) {
-          return (T) libraries.get(uri, version);
-        } 
-        if (valueSets.has(uri)) {
-          return (T) valueSets.get(uri, version);
-        } 
-        if (codeSystems.has(uri)) {
-          return (T) codeSystems.get(uri, version);
-        } 
-        if (operations.has(uri)) {
-          return (T) operations.get(uri, version);
-        } 
-        if (searchParameters.has(uri)) {
-          return (T) searchParameters.get(uri, version);
-        } 
-        if (plans.has(uri)) {
-          return (T) plans.get(uri, version);
-        } 
-        if (maps.has(uri)) {
-          return (T) maps.get(uri, version);
-        } 
-        if (transforms.has(uri)) {
-          return (T) transforms.get(uri, version);
-        } 
-        if (actors.has(uri)) {
-          return (T) actors.get(uri, version);
-        } 
-        if (requirements.has(uri)) {
-          return (T) requirements.get(uri, version);
-        } 
-        if (questionnaires.has(uri)) {
-          return (T) questionnaires.get(uri, version);
-        } 
-        for (Map<String, ResourceProxy> rt : allResourcesById.values()) {
-          for (ResourceProxy r : rt.values()) {
-            if (uri.equals(r.getUrl())) {
-              return (T) r.getResource();
-            }
-          }            
-        }
-      } else if ("ImplementationGuide".equals(cls)) {
-        return (T) guides.get(uri, version);
-      } else if ("CapabilityStatement".equals(cls)) {
-        return (T) capstmts.get(uri, version);
-      } else if ("Measure".equals(cls)) {
-        return (T) measures.get(uri, version);
-      } else if ("Library".equals(cls)) {
-        return (T) libraries.get(uri, version);
-      } else if ("StructureDefinition".equals(cls)) {
-        return (T) structures.get(uri, version);
-      } else if ("StructureMap".equals(cls)) {
-        return (T) transforms.get(uri, version);
-      } else if ("Requirements".equals(cls)) {
         return (T) requirements.get(uri, version);
-      } else if ("ActorDefinition".equals(cls)) {
-        return (T) actors.get(uri, version);
-      } else if ("ValueSet".equals(cls)) {
-        return (T) valueSets.get(uri, version);
-      } else if ("CodeSystem".equals(cls)) {
-        return (T) codeSystems.get(uri, version);
-      } else if ("ConceptMap".equals(cls)) {
-        return (T) maps.get(uri, version);
-      } else if ("PlanDefinition".equals(cls)) {
-        return (T) plans.get(uri, version);
-      } else if ("OperationDefinition".equals(cls)) {
-        OperationDefinition od = operations.get(uri, version);
-        return (T) od;
-      } else if ("Questionnaire.class".equals(cls)) {
-        return (T) questionnaires.get(uri, version);
-      } else if ("SearchParameter.class".equals(cls)) {
-        SearchParameter res = searchParameters.get(uri, version);
-        return (T) res;
-      }
-      if ("CodeSystem".equals(cls) && codeSystems.has(uri)) {
-        return (T) codeSystems.get(uri, version);
       } 
-      if ("ValueSet".equals(cls) && valueSets.has(uri)) {
-        return (T) valueSets.get(uri, version);
-      } 
-      
-      if ("Questionnaire".equals(cls)) {
+      if (questionnaires.has(uri)) {
         return (T) questionnaires.get(uri, version);
       } 
-      if (cls == null) {
-        if (uri.matches(Constants.URI_REGEX) && !uri.contains("ValueSet")) {
-          return null;
-        } 
-
-        // it might be a special URL.
-        if (Utilities.isAbsoluteUrl(uri) || uri.startsWith("ValueSet/")) {
-          Resource res = null; // findTxValueSet(uri);
-          if (res != null) {
-            return (T) res;
-          } 
-        }
-        return null;      
-      }    
-      if (supportedCodeSystems.contains(uri)) {
+      for (Map<String, ResourceProxy> rt : allResourcesById.values()) {
+        for (ResourceProxy r : rt.values()) {
+          if (uri.equals(r.getUrl())) {
+            return (T) r.getResource();
+          }
+        }            
+      }
+    } else if ("ImplementationGuide".equals(cls)) {
+      return (T) guides.get(uri, version);
+    } else if ("CapabilityStatement".equals(cls)) {
+      return (T) capstmts.get(uri, version);
+    } else if ("Measure".equals(cls)) {
+      return (T) measures.get(uri, version);
+    } else if ("Library".equals(cls)) {
+      return (T) libraries.get(uri, version);
+    } else if ("StructureDefinition".equals(cls)) {
+      return (T) structures.get(uri, version);
+    } else if ("StructureMap".equals(cls)) {
+      return (T) transforms.get(uri, version);
+    } else if ("Requirements".equals(cls)) {
+      return (T) requirements.get(uri, version);
+    } else if ("ActorDefinition".equals(cls)) {
+      return (T) actors.get(uri, version);
+    } else if ("ValueSet".equals(cls)) {
+      return (T) valueSets.get(uri, version);
+    } else if ("CodeSystem".equals(cls)) {
+      return (T) codeSystems.get(uri, version);
+    } else if ("ConceptMap".equals(cls)) {
+      return (T) maps.get(uri, version);
+    } else if ("PlanDefinition".equals(cls)) {
+      return (T) plans.get(uri, version);
+    } else if ("OperationDefinition".equals(cls)) {
+      OperationDefinition od = operations.get(uri, version);
+      return (T) od;
+    } else if ("Questionnaire.class".equals(cls)) {
+      return (T) questionnaires.get(uri, version);
+    } else if ("SearchParameter.class".equals(cls)) {
+      SearchParameter res = searchParameters.get(uri, version);
+      return (T) res;
+    }
+    if ("CodeSystem".equals(cls) && codeSystems.has(uri)) {
+      return (T) codeSystems.get(uri, version);
+    } 
+    if ("ValueSet".equals(cls) && valueSets.has(uri)) {
+      return (T) valueSets.get(uri, version);
+    } 
+    
+    if ("Questionnaire".equals(cls)) {
+      return (T) questionnaires.get(uri, version);
+    } 
+    if (cls == null) {
+      if (uri.matches(Constants.URI_REGEX) && !uri.contains("ValueSet")) {
         return null;
       } 
-      throw new FHIRException(formatMessage(I18nConstants.NOT_DONE_YET_CANT_FETCH_, uri));
-    }
+
+      // it might be a special URL.
+      if (Utilities.isAbsoluteUrl(uri) || uri.startsWith("ValueSet/")) {
+        Resource res = null; // findTxValueSet(uri);
+        if (res != null) {
+          return (T) res;
+        } 
+      }
+      return null;      
+    }    
+    if (supportedCodeSystems.contains(uri)) {
+      return null;
+    } 
+    throw new FHIRException(formatMessage(I18nConstants.NOT_DONE_YET_CANT_FETCH_, uri));
   }
   
   @SuppressWarnings("unchecked")
@@ -1863,25 +2043,23 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
 
   @Override
   public Resource fetchResourceById(String type, String uri) {
-    synchronized (lock) {
-      String[] parts = uri.split("\\/");
-      if (!Utilities.noString(type) && parts.length == 1) {
-        if (allResourcesById.containsKey(type)) {
-          return allResourcesById.get(type).get(parts[0]).getResource();
-        } else {
-          return null;
-        }
+    String[] parts = uri.split("\\/");
+    if (!Utilities.noString(type) && parts.length == 1) {
+      if (allResourcesById.containsKey(type)) {
+        return allResourcesById.get(type).get(parts[0]).getResource();
+      } else {
+        return null;
       }
-      if (parts.length >= 2) {
-        if (!Utilities.noString(type)) {
-          if (!type.equals(parts[parts.length-2])) { 
-            throw new Error(formatMessage(I18nConstants.RESOURCE_TYPE_MISMATCH_FOR___, type, uri));
-          }
+    }
+    if (parts.length >= 2) {
+      if (!Utilities.noString(type)) {
+        if (!type.equals(parts[parts.length-2])) { 
+          throw new Error(formatMessage(I18nConstants.RESOURCE_TYPE_MISMATCH_FOR___, type, uri));
         }
-        return allResourcesById.get(parts[parts.length-2]).get(parts[parts.length-1]).getResource();
-      } else {
-        throw new Error(formatMessage(I18nConstants.UNABLE_TO_PROCESS_REQUEST_FOR_RESOURCE_FOR___, type, uri));
       }
+      return allResourcesById.get(parts[parts.length-2]).get(parts[parts.length-1]).getResource();
+    } else {
+      throw new Error(formatMessage(I18nConstants.UNABLE_TO_PROCESS_REQUEST_FOR_RESOURCE_FOR___, type, uri));
     }
   }
 
@@ -2016,7 +2194,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
 
       Map<String, ResourceProxy> map = allResourcesById.get(fhirType);
       if (map == null) {
-        map = new HashMap<String, ResourceProxy>();
+        map = new ConcurrentHashMap<String, ResourceProxy>();
         allResourcesById.put(fhirType, map);
       }
       if (map.containsKey(id)) {
@@ -2035,8 +2213,10 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
         libraries.drop(id);
       } else if (fhirType.equals("ValueSet")) {
         valueSets.drop(id);
+        valueSetMemberships.clear();
       } else if (fhirType.equals("CodeSystem")) {
         codeSystems.drop(id);
+        valueSetMemberships.clear();
       } else if (fhirType.equals("OperationDefinition")) {
         operations.drop(id);
       } else if (fhirType.equals("Questionnaire")) {
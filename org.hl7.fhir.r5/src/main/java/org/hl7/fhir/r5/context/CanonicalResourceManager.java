@@ -1,6 +1,7 @@
 package org.hl7.fhir.r5.context;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hl7.fhir.exceptions.FHIRException;
 import org.hl7.fhir.r5.model.CanonicalResource;
@@ -13,6 +14,10 @@ import org.hl7.fhir.utilities.VersionUtilities;
  * This manages a cached list of resources, and provides high speed access by URL / URL+version, and assumes that patch version doesn't matter for access
  * note, though, that not all resources have semver versions
  * 
+ * Lookups (has/get/getPackageInfo) do not lock: the lookup map is a concurrent map, and 
+ * resources are only ever published into it fully registered. Changes (see/drop/clear) are 
+ * expected to be serialized by the owner (the worker context holds its lock for these)
+ * 
  * @author graha
  *
  */
@@ -30,7 +35,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     private String id;
     private String url;
     private String version;
-    private CanonicalResource resource;
+    private volatile CanonicalResource resource;
     
     public CanonicalResourceProxy(String type, String id, String url, String version) {
       super();
@@ -69,13 +74,20 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     }
     
     public CanonicalResource getResource() throws FHIRException {
-      if (resource == null) {
-        resource = loadResource();
-        if (resource instanceof CodeSystem) {
-          CodeSystemUtilities.crossLinkCodeSystem((CodeSystem) resource);
+      CanonicalResource res = resource;
+      if (res == null) {
+        synchronized (this) {
+          res = resource;
+          if (res == null) {
+            res = loadResource();
+            if (res instanceof CodeSystem) {
+              CodeSystemUtilities.crossLinkCodeSystem((CodeSystem) res);
+            }
+            resource = res;
+          }
         }
       }
-      return resource;
+      return res;
     }
 
     public void setResource(CanonicalResource resource) {
@@ -108,8 +120,8 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   }
 
   private class CachedCanonicalResource<T1 extends CanonicalResource> {
-    private T1 resource;
-    private CanonicalResourceProxy proxy;
+    private volatile T1 resource;
+    private volatile CanonicalResourceProxy proxy;
     private PackageInformation packageInfo;
     
     public CachedCanonicalResource(T1 resource, PackageInformation packageInfo) {
@@ -125,40 +137,50 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     }
     
     public T1 getResource() {
-      if (resource == null) {
-        @SuppressWarnings("unchecked")
-        T1 res = (T1) proxy.getResource();
-        if (res == null) {
-          throw new Error("Proxy loading a resource from "+packageInfo+" failed and returned null");
-        }
+      T1 res = resource;
+      if (res == null) {
         synchronized (this) {
-          resource = res;
+          res = resource;
+          if (res == null) {
+            @SuppressWarnings("unchecked")
+            T1 loaded = (T1) proxy.getResource();
+            if (loaded == null) {
+              throw new Error("Proxy loading a resource from "+packageInfo+" failed and returned null");
+            }
+            loaded.setSourcePackage(packageInfo);
+            resource = loaded;
+            proxy = null;
+            res = loaded;
+          }
         }
-        resource.setSourcePackage(packageInfo);
-        proxy = null;
       }
-      return resource;
+      return res;
     }
     
     public PackageInformation getPackageInfo() {
       return packageInfo;
     }
     public String getUrl() {
-      return resource != null ? resource.getUrl() : proxy.getUrl();
+      CanonicalResourceProxy p = proxy;
+      return p == null ? resource.getUrl() : p.getUrl();
     }
     public String getId() {
-      return resource != null ? resource.getId() : proxy.getId();
+      CanonicalResourceProxy p = proxy;
+      return p == null ? resource.getId() : p.getId();
     }
     public String getVersion() {
-      return resource != null ? resource.getVersion() : proxy.getVersion();
+      CanonicalResourceProxy p = proxy;
+      return p == null ? resource.getVersion() : p.getVersion();
     }
     public boolean hasVersion() {
-      return resource != null ? resource.hasVersion() : proxy.getVersion() != null;
+      CanonicalResourceProxy p = proxy;
+      return p == null ? resource.hasVersion() : p.getVersion() != null;
     }
     
     @Override
     public String toString() {
-      return resource != null ? resource.fhirType()+"/"+resource.getId()+"["+resource.getUrl()+"|"+resource.getVersion()+"]" : proxy.toString();
+      CanonicalResourceProxy p = proxy;
+      return p == null ? resource.fhirType()+"/"+resource.getId()+"["+resource.getUrl()+"|"+resource.getVersion()+"]" : p.toString();
     }  
 
   }
@@ -190,7 +212,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   private List<CachedCanonicalResource<T>> list = new ArrayList<>();
   private Map<String, List<CachedCanonicalResource<T>>> listForId = new HashMap<>();
   private Map<String, List<CachedCanonicalResource<T>>> listForUrl = new HashMap<>();
-  private Map<String, CachedCanonicalResource<T>> map = new HashMap<>();
+  private Map<String, CachedCanonicalResource<T>> map = new ConcurrentHashMap<>(); // read without locking - see class comment
   private String version; // for debugging purposes
   
   
@@ -245,7 +267,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
       && Arrays.stream(INVALID_TERMINOLOGY_URLS).anyMatch((it)->it.equals(cr.getUrl()))) {
       return;
     }  
-    if (map.get(cr.getUrl()) != null && (cr.getPackageInfo() != null && cr.getPackageInfo().isExamplesPackage())) {
+    if (lookup(cr.getUrl()) != null && (cr.getPackageInfo() != null && cr.getPackageInfo().isExamplesPackage())) {
       return;
     }
     
@@ -294,31 +316,31 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
 
     // -- 4. add to the map all the ways ---------------------------------------------------------------
     String pv = cr.getPackageInfo() != null ? cr.getPackageInfo().getVID() : null;
-    map.put(cr.getId(), cr); // we do this so we can drop by id - if not enforcing id, it's just the most recent resource with this id      
-    map.put(cr.hasVersion() ? cr.getUrl()+"|"+cr.getVersion() : cr.getUrl()+"|#0", cr);
+    index(cr.getId(), cr); // we do this so we can drop by id - if not enforcing id, it's just the most recent resource with this id      
+    index(cr.hasVersion() ? cr.getUrl()+"|"+cr.getVersion() : cr.getUrl()+"|#0", cr);
     if (pv != null) {
-      map.put(pv+":"+(cr.hasVersion() ? cr.getUrl()+"|"+cr.getVersion() : cr.getUrl()+"|#0"), cr);      
+      index(pv+":"+(cr.hasVersion() ? cr.getUrl()+"|"+cr.getVersion() : cr.getUrl()+"|#0"), cr);      
     }
     int ndx = set.indexOf(cr);
     if (ndx == set.size()-1) {
-      map.put(cr.getUrl(), cr);
+      index(cr.getUrl(), cr);
       if (pv != null) {
-        map.put(pv+":"+cr.getUrl(), cr);
+        index(pv+":"+cr.getUrl(), cr);
       }
     }
     String mm = VersionUtilities.getMajMin(cr.getVersion());
     if (mm != null) {
       if (pv != null) {
-        map.put(pv+":"+cr.getUrl()+"|"+mm, cr);                
+        index(pv+":"+cr.getUrl()+"|"+mm, cr);                
       }
       if (set.size() - 1 == ndx) {
-        map.put(cr.getUrl()+"|"+mm, cr);        
+        index(cr.getUrl()+"|"+mm, cr);        
       } else {
         for (int i = set.size() - 1; i > ndx; i--) {
           if (mm.equals(VersionUtilities.getMajMin(set.get(i).getVersion()))) {
             return;
           }
-          map.put(cr.getUrl()+"|"+mm, cr);
+          index(cr.getUrl()+"|"+mm, cr);
         }
       }
     }
@@ -336,13 +358,13 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
       if (!set.isEmpty()) {
         CachedCanonicalResource<T> crl = set.get(set.size()-1);
         if (last) {
-          map.put(crl.getUrl(), crl);
+          index(crl.getUrl(), crl);
         }
         String mm = VersionUtilities.getMajMin(cr.getVersion());
         if (mm != null) {
           for (int i = set.size()-1; i >= 0; i--) {
             if (mm.equals(VersionUtilities.getMajMin(set.get(i).getVersion()))) {
-              map.put(cr.getUrl()+"|"+mm, set.get(i));
+              index(cr.getUrl()+"|"+mm, set.get(i));
               break;
             }
           }
@@ -353,7 +375,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   
   public void drop(String id) {
     if (enforceUniqueId) {
-      CachedCanonicalResource<T> cr = map.get(id);
+      CachedCanonicalResource<T> cr = lookup(id);
       if (cr != null) {
         drop(cr);
       }
@@ -381,7 +403,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     if (rl.size() > 0) {
       // sort by version as much as we are able
       // the current is the latest
-      map.put(url, rl.get(rl.size()-1));
+      index(url, rl.get(rl.size()-1));
       // now, also, the latest for major/minor
       if (version != null) {
         CachedCanonicalResource<T> latest = null;
@@ -393,7 +415,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
         if (latest != null) { // might be null if it's not using semver
           String lv = VersionUtilities.getMajMin(latest.getVersion());
           if (lv != null && !lv.equals(version))
-            map.put(url+"|"+lv, rl.get(rl.size()-1));
+            index(url+"|"+lv, rl.get(rl.size()-1));
         }
       }
     }
@@ -401,32 +423,35 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
  
 
   public boolean has(String url) {
-    return map.containsKey(url);
+    return lookup(url) != null;
   }
 
   public boolean has(String system, String version) {
-    if (map.containsKey(system+"|"+version))
+    if (lookup(system+"|"+version) != null)
       return true;
     String mm = VersionUtilities.getMajMin(version);
     if (mm != null)
-      return map.containsKey(system+"|"+mm);
+      return lookup(system+"|"+mm) != null;
     else
       return false;
   }
   
   public T get(String url) {
-    return map.containsKey(url) ? map.get(url).getResource() : null;
+    CachedCanonicalResource<T> cr = lookup(url);
+    return cr != null ? cr.getResource() : null;
   }
   
   public T get(String system, String version) {
     if (version == null) {
       return get(system);
     } else {
-      if (map.containsKey(system+"|"+version))
-        return map.get(system+"|"+version).getResource();
+      CachedCanonicalResource<T> cr = lookup(system+"|"+version);
+      if (cr != null)
+        return cr.getResource();
       String mm = VersionUtilities.getMajMin(version);
-      if (mm != null && map.containsKey(system+"|"+mm))
-        return map.get(system+"|"+mm).getResource();
+      cr = mm != null ? lookup(system+"|"+mm) : null;
+      if (cr != null)
+        return cr.getResource();
       else
         return null;
     }
@@ -446,11 +471,12 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
    */
   public T get(String url, List<String> pvlist) {
     for (String pv : pvlist) {
-      if (map.containsKey(pv+":"+url)) {
-        return map.get(pv+":"+url).getResource();
+      CachedCanonicalResource<T> cr = lookup(pv+":"+url);
+      if (cr != null) {
+        return cr.getResource();
       }      
     }
-    return map.containsKey(url) ? map.get(url).getResource() : null;
+    return get(url);
   }
   
   public T get(String system, String version, List<String> pvlist) {
@@ -458,20 +484,24 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
       return get(system, pvlist);
     } else {
       for (String pv : pvlist) {
-        if (map.containsKey(pv+":"+system+"|"+version))
-          return map.get(pv+":"+system+"|"+version).getResource();
+        CachedCanonicalResource<T> cr = lookup(pv+":"+system+"|"+version);
+        if (cr != null)
+          return cr.getResource();
       }
       String mm = VersionUtilities.getMajMin(version);
-      if (mm != null && map.containsKey(system+"|"+mm))
+      if (mm != null && lookup(system+"|"+mm) != null)
         for (String pv : pvlist) {
-          if (map.containsKey(pv+":"+system+"|"+mm))
-            return map.get(pv+":"+system+"|"+mm).getResource();
+          CachedCanonicalResource<T> cr = lookup(pv+":"+system+"|"+mm);
+          if (cr != null)
+            return cr.getResource();
       }
 
-      if (map.containsKey(system+"|"+version))
-        return map.get(system+"|"+version).getResource();
-      if (mm != null && map.containsKey(system+"|"+mm))
-        return map.get(system+"|"+mm).getResource();
+      CachedCanonicalResource<T> cr = lookup(system+"|"+version);
+      if (cr != null)
+        return cr.getResource();
+      cr = mm != null ? lookup(system+"|"+mm) : null;
+      if (cr != null)
+        return cr.getResource();
       else
         return null;
     }
@@ -481,18 +511,35 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
  
   public PackageInformation getPackageInfo(String system, String version) {
     if (version == null) {
-      return map.containsKey(system) ? map.get(system).getPackageInfo() : null;
+      CachedCanonicalResource<T> cr = lookup(system);
+      return cr != null ? cr.getPackageInfo() : null;
     } else {
-      if (map.containsKey(system+"|"+version))
-        return map.get(system+"|"+version).getPackageInfo();
+      CachedCanonicalResource<T> cr = lookup(system+"|"+version);
+      if (cr != null)
+        return cr.getPackageInfo();
       String mm = VersionUtilities.getMajMin(version);
-      if (mm != null && map.containsKey(system+"|"+mm))
-        return map.get(system+"|"+mm).getPackageInfo();
+      cr = mm != null ? lookup(system+"|"+mm) : null;
+      if (cr != null)
+        return cr.getPackageInfo();
       else
         return null;
     }
   }
   
+  /**
+   * single lookup in the map, so readers see one consistent value even if the map is
+   * being changed on another thread (and the concurrent map does not allow null keys)
+   */
+  private CachedCanonicalResource<T> lookup(String key) {
+    return key == null ? null : map.get(key);
+  }
+
+  private void index(String key, CachedCanonicalResource<T> cr) {
+    if (key != null) {
+      map.put(key, cr);
+    }
+  }
+  
  
   
   
@@ -545,4 +592,4 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   }
 
 
-}
\ No newline at end of file
+}
\ No newline at end of file
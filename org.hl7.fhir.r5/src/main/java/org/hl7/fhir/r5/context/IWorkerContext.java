@@ -71,6 +71,8 @@ import org.hl7.fhir.r5.profilemodel.PEBuilder.PEElementPropertiesPolicy;
 import org.hl7.fhir.r5.profilemodel.PEBuilder;
 import org.hl7.fhir.r5.terminologies.ValueSetExpander.TerminologyServiceErrorClass;
 import org.hl7.fhir.r5.terminologies.ValueSetExpander.ValueSetExpansionOutcome;
+import org.hl7.fhir.r5.terminologies.ValueSetMembership;
+import org.hl7.fhir.r5.utils.FHIRPathExpressionCache;
 import org.hl7.fhir.r5.utils.validation.IResourceValidator;
 import org.hl7.fhir.r5.utils.validation.ValidationContextCarrier;
 import org.hl7.fhir.utilities.TimeTracker;
@@ -269,6 +271,79 @@ public interface IWorkerContext {
 
   }
 
+  /**
+   * A check of a Coding or a CodeableConcept against a value set, for preValidateCodes. The options are the ones the 
+   * later validateCode call will use, since they are part of what is cached
+   */
+  public class ValueSetValidationRequest {
+    private ValidationOptions options;
+    private ValueSet valueSet;
+    private Coding coding;
+    private CodeableConcept codeableConcept;
+    private ValidationResult result;
+    private CacheToken cacheToken;
+
+    public ValueSetValidationRequest(ValidationOptions options, Coding coding, ValueSet valueSet) {
+      super();
+      this.options = options;
+      this.coding = coding;
+      this.valueSet = valueSet;
+    }
+
+    public ValueSetValidationRequest(ValidationOptions options, CodeableConcept codeableConcept, ValueSet valueSet) {
+      super();
+      this.options = options;
+      this.codeableConcept = codeableConcept;
+      this.valueSet = valueSet;
+    }
+
+    public ValidationOptions getOptions() {
+      return options;
+    }
+
+    public ValueSet getValueSet() {
+      return valueSet;
+    }
+
+    public Coding getCoding() {
+      return coding;
+    }
+
+    public CodeableConcept getCodeableConcept() {
+      return codeableConcept;
+    }
+
+    public ValidationResult getResult() {
+      return result;
+    }
+
+    public void setResult(ValidationResult result) {
+      this.result = result;
+    }
+
+    public boolean hasResult() {
+      return result != null;
+    }
+
+    /**
+     * internal logic; external users of batch validation should ignore this property
+     * 
+     * @return
+     */
+    public CacheToken getCacheToken() {
+      return cacheToken;
+    }
+
+    /**
+     * internal logic; external users of batch validation should ignore this property
+     * 
+     * @param cacheToken
+     */
+    public void setCacheToken(CacheToken cacheToken) {
+      this.cacheToken = cacheToken;
+    }
+  }
+
 
   public interface IContextResourceLoader {
     /** 
@@ -706,6 +781,49 @@ public interface IWorkerContext {
    */
   public void validateCodeBatch(ValidationOptions options, List<? extends CodingValidationRequest> codes, ValueSet vs);
 
+  /**
+   * Validate a set of codes against their code systems, and a set of codings and concepts against value sets, 
+   * ahead of time, so the results are in the cache when they are validated one at a time. Each result is the same
+   * as validateCode(options, code, null), or validateCode(request options, code, value set), would get, but 
+   * anything that needs the terminology server is sent in a single batch. 
+   * 
+   * Nothing happens if there's no cache, and by default nothing happens at all: contexts that don't implement this 
+   * just validate the codes one at a time when asked. Codes that the server doesn't return a result for are left for
+   * the later call to deal with.
+   * 
+   * @param options
+   * @param codes
+   * @param bindings
+   */
+  public default void preValidateCodes(ValidationOptions options, List<? extends CodingValidationRequest> codes, List<? extends ValueSetValidationRequest> bindings) {
+    // nothing - see above
+  }
+
+  /**
+   * Get the compiled membership of a value set, so that checking whether a code is in it doesn't mean walking
+   * the compose and code systems each time. These are built on first use and shared by everything using the context.
+   * 
+   * By default there's no compiled membership, and value sets are checked by walking them as before
+   * 
+   * @param vs
+   * @return the membership, or null if the value set can't be compiled (see ValueSetMembership)
+   */
+  public default ValueSetMembership getValueSetMembership(ValueSet vs) {
+    return null;
+  }
+
+  /**
+   * Get the cache of parsed FHIRPath expressions that is shared by all the FHIRPathEngines that use this context
+   * (see FHIRPathEngine.parseCached).
+   * 
+   * By default there's no shared cache, and expressions are parsed each time as before
+   * 
+   * @return the cache, or null
+   */
+  public default FHIRPathExpressionCache getExpressionCache() {
+    return null;
+  }
+
 
   // todo: figure these out
   public Map<String, NamingSystem> getNSUrlMap();
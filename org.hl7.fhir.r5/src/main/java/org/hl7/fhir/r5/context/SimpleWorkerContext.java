@@ -37,11 +37,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -121,6 +125,21 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     }
   }
 
+  /**
+   * a package that is ready to be loaded into the context by loadFromPackageAndDependencies, in the order it will be loaded
+   */
+  private static class PackageLoadStep {
+    private final NpmPackage npm;
+    private final IContextResourceLoader loader;
+    private final Map<String, Future<byte[]>> content = new HashMap<>();
+
+    public PackageLoadStep(NpmPackage npm, IContextResourceLoader loader) {
+      super();
+      this.npm = npm;
+      this.loader = loader;
+    }
+  }
+
   public interface ILoadFilter {
     boolean isOkToLoad(Resource resource);
     boolean isOkToLoad(String resourceType);
@@ -140,6 +159,13 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
   private boolean canNoTS;
   private XVerExtensionManager xverManager;
   private boolean allowLazyLoading = true;
+  private int loadingThreads = 1;
+  // snapshots are generated the first time a profile is fetched, and validation can run on several threads. Only one 
+  // snapshot is generated at a time, and a thread that fetches a profile while its snapshot is being generated waits 
+  // for it. This is one lock for the context rather than one per profile, because generating a snapshot fetches 
+  // (and generates) other profiles, and per profile locks could be taken in different orders by different threads. 
+  // Copies of the context share the profiles, so they share the lock too
+  private Object snapshotLock = new Object();
 
   private SimpleWorkerContext() throws IOException, FHIRException {
     super();
@@ -171,6 +197,8 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     canNoTS = other.canNoTS;
     xverManager = other.xverManager;
     allowLazyLoading = other.allowLazyLoading;
+    loadingThreads = other.loadingThreads;
+    snapshotLock = other.snapshotLock;
   }
 
 
@@ -303,6 +331,23 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     public SimpleWorkerContext fromNothing() throws FHIRException, IOException  {
       return build();
     }
+
+    /**
+     * Load the working context from an image written by saveSnapshotImage. This is much faster than 
+     * loading the packages again, since resources aren't parsed until they are used 
+     * 
+     * @param path
+     *           filename of the image
+     * @return
+     * @throws IOException
+     * @throws FHIRException if the image was written by a different version of this library
+     */
+    public SimpleWorkerContext fromSnapshotImage(String path) throws IOException, FHIRException {
+      SimpleWorkerContext context = getSimpleWorkerContextInstance();
+      context.setAllowLoadingDuplicates(allowLoadingDuplicates);
+      WorkerContextImage.load(context, path);
+      return build(context);
+    }
   }
 
   private void loadDefinitionItem(String name, InputStream stream, IContextResourceLoader loader, ILoadFilter filter, PackageInformation pi) throws IOException, FHIRException {
@@ -438,8 +483,14 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
  
   @Override
   public int loadFromPackageAndDependencies(NpmPackage pi, IContextResourceLoader loader, BasePackageCacheManager pcm) throws IOException, FHIRException {
-    return loadFromPackageAndDependenciesInt(pi, loader, pcm, pi.name()+"#"+pi.version());
+    // if the caller holds the pcm, the pool couldn't fetch the dependencies from it
+    if (loadingThreads > 1 && !Thread.holdsLock(pcm)) {
+      return loadFromPackageAndDependenciesParallel(pi, loader, pcm);
+    } else {
+      return loadFromPackageAndDependenciesInt(pi, loader, pcm, pi.name()+"#"+pi.version());
+    }
   }
+  
   public int loadFromPackageAndDependenciesInt(NpmPackage pi, IContextResourceLoader loader, BasePackageCacheManager pcm, String path) throws IOException, FHIRException {
     int t = 0;
 
@@ -456,8 +507,105 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     return t;
   }
 
+  /**
+   * Same outcome as loadFromPackageAndDependenciesInt, but the dependency packages are fetched from the package 
+   * cache manager while others are being planned, and the content of the resources that can't be lazy loaded is 
+   * read on a fork-join pool of loadingThreads threads. 
+   * 
+   * Parsing, conversion and registration still happen on this thread, package by package in the same (depth first) 
+   * order as loadFromPackageAndDependenciesInt, so the precedence between resources with the same url doesn't change. 
+   * The loaders aren't used from the pool: they keep state between calls (e.g. the code systems the version 
+   * convertors pull out of value sets), and the package cache managers aren't thread safe either, so calls 
+   * to the pcm are made one at a time 
+   */
+  private int loadFromPackageAndDependenciesParallel(NpmPackage pi, IContextResourceLoader loader, BasePackageCacheManager pcm) throws IOException, FHIRException {
+    ForkJoinPool pool = new ForkJoinPool(loadingThreads);
+    try {
+      List<PackageLoadStep> steps = new ArrayList<>();
+      planPackageLoad(pi, loader, pcm, pi.name()+"#"+pi.version(), pool, new HashMap<>(), new HashSet<>(), steps);
+      for (PackageLoadStep step : steps) {
+        if (!canLazyLoad(step.npm)) {
+          for (String s : step.npm.listResources(nonLazyTypes(step.loader.getTypes()))) {
+            step.content.put(s, pool.submit(() -> TextFile.streamToBytes(step.npm.load("package", s))));
+          }
+        }
+      }
+      int t = 0;
+      for (PackageLoadStep step : steps) {
+        t = t + loadFromPackageInt(step.npm, step.loader, step.content, step.loader.getTypes());
+      }
+      return t;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private void planPackageLoad(NpmPackage pi, IContextResourceLoader loader, BasePackageCacheManager pcm, String path, ForkJoinPool pool, 
+      Map<String, Future<NpmPackage>> fetches, Set<String> planned, List<PackageLoadStep> steps) throws IOException, FHIRException {
+    // start fetching all the direct dependencies before waiting on any of them
+    List<String> deps = new ArrayList<>();
+    for (String e : pi.dependencies()) {
+      if (!loadedPackages.contains(e) && !VersionUtilities.isCorePackage(e)) {
+        deps.add(e);
+        fetches.computeIfAbsent(e, k -> pool.submit(() -> loadPackageLocked(pcm, k)));
+      }
+    }
+    for (String e : deps) {
+      if (!planned.contains(e)) {
+        NpmPackage npm = getFuture(fetches.get(e));
+        if (!VersionUtilities.versionsMatch(version, npm.fhirVersion())) {
+          System.out.println(formatMessage(I18nConstants.PACKAGE_VERSION_MISMATCH, e, version, npm.fhirVersion(), path));  
+        }
+        planPackageLoad(npm, loader.getNewLoader(npm), pcm, path+" -> "+npm.name()+"#"+npm.version(), pool, fetches, planned, steps);
+      }
+    }
+    if (planned.add(pi.id()+"#"+pi.version())) {
+      steps.add(new PackageLoadStep(pi, loader));
+    }
+  }
+
+  private NpmPackage loadPackageLocked(BasePackageCacheManager pcm, String id) throws IOException {
+    synchronized (pcm) {
+      return pcm.loadPackage(id);
+    }
+  }
+
+  private <T> T getFuture(Future<T> future) throws IOException, FHIRException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FHIRException(e.getMessage(), e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      } else if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else {
+        throw new FHIRException(e.getCause().getMessage(), e.getCause());
+      }
+    }
+  }
+
+  private boolean canLazyLoad(NpmPackage pi) {
+    // can't lazy load R2 because of valueset/codesystem implementation
+    return !VersionUtilities.isR2Ver(pi.fhirVersion()) && pi.canLazyLoad() && allowLazyLoading;
+  }
+
+  private String[] nonLazyTypes(String[] types) {
+    if (types == null || types.length == 0) {
+      return new String[] { "StructureDefinition", "ValueSet", "SearchParameter", "OperationDefinition", "Questionnaire", "ConceptMap", "StructureMap", "NamingSystem" };
+    } else {
+      return types;
+    }
+  }
+
 
   public int loadFromPackageInt(NpmPackage pi, IContextResourceLoader loader, String... types) throws IOException, FHIRException {
+    return loadFromPackageInt(pi, loader, null, types);
+  }
+
+  private int loadFromPackageInt(NpmPackage pi, IContextResourceLoader loader, Map<String, Future<byte[]>> content, String... types) throws IOException, FHIRException {
     int t = 0;
     if (progress) {
       System.out.println("Load Package "+pi.name()+"#"+pi.version());
@@ -474,14 +622,15 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     if ((types == null || types.length == 0) &&  loader != null) {
       types = loader.getTypes();
     }
-    if (VersionUtilities.isR2Ver(pi.fhirVersion()) || !pi.canLazyLoad() || !allowLazyLoading) {
-      // can't lazy load R2 because of valueset/codesystem implementation
-      if (types.length == 0) {
-        types = new String[] { "StructureDefinition", "ValueSet", "SearchParameter", "OperationDefinition", "Questionnaire", "ConceptMap", "StructureMap", "NamingSystem" };
-      }
+    if (!canLazyLoad(pi)) {
+      types = nonLazyTypes(types);
       for (String s : pi.listResources(types)) {
         try {
-          loadDefinitionItem(s, pi.load("package", s), loader, null, new PackageInformation(pi));
+          if (content != null && content.containsKey(s)) {
+            loadDefinitionItem(s, new ByteArrayInputStream(getFuture(content.get(s))), loader, null, new PackageInformation(pi));
+          } else {
+            loadDefinitionItem(s, pi.load("package", s), loader, null, new PackageInformation(pi));
+          }
           t++;
         } catch (Exception e) {
           throw new FHIRException(formatMessage(I18nConstants.ERROR_READING__FROM_PACKAGE__, s, pi.name(), pi.version(), e.getMessage()), e);
@@ -514,6 +663,14 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
 	  return t;
 	}
 
+  /**
+   * Save the content of this context so that it can be reloaded quickly using 
+   * SimpleWorkerContextBuilder.fromSnapshotImage. See WorkerContextImage for what is (and isn't) saved 
+   */
+  public void saveSnapshotImage(String path) throws IOException {
+    WorkerContextImage.save(this, path);
+  }
+
   public void loadFromFile(String file, IContextResourceLoader loader) throws IOException, FHIRException {
     loadDefinitionItem(file, new CSFileInputStream(file), loader, null, null);
   }
@@ -662,13 +819,17 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     T r = super.fetchResource(class_, uri);
     if (r instanceof StructureDefinition) {
       StructureDefinition p = (StructureDefinition)r;
-      try {
-        new ContextUtilities(this).generateSnapshot(p);
-      } catch (Exception e) {
-        // not sure what to do in this case?
-        System.out.println("Unable to generate snapshot for "+uri+": "+e.getMessage());
-        if (logger.isDebugLogging()) {
-          e.printStackTrace();          
+      if (!p.isGeneratedSnapshot()) {
+        synchronized (snapshotLock) {
+          try {
+            new ContextUtilities(this).generateSnapshot(p);
+          } catch (Exception e) {
+            // not sure what to do in this case?
+            System.out.println("Unable to generate snapshot for "+uri+": "+e.getMessage());
+            if (logger.isDebugLogging()) {
+              e.printStackTrace();          
+            }
+          }
         }
       }
     }
@@ -679,31 +840,43 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
   public <T extends Resource> T fetchResource(Class<T> class_, String uri, Resource source) {
     T r = super.fetchResource(class_, uri, source);
     if (r instanceof StructureDefinition) {
-      StructureDefinition p = (StructureDefinition)r;
-      if (!p.isGeneratedSnapshot()) {
-        if (p.isGeneratingSnapshot()) {
-          throw new FHIRException("Attempt to fetch the profile "+p.getVersionedUrl()+" while generating the snapshot for it");
-        }
-        try {
-          if (logger.isDebugLogging()) {
-            System.out.println("Generating snapshot for "+p.getVersionedUrl());
+      generateSnapshot((StructureDefinition) r);
+    }
+    return r;
+  }
+
+  /**
+   * generate the snapshot for the profile, if it hasn't been already. Snapshots are generated one at a time 
+   */
+  void generateSnapshot(StructureDefinition p) {
+    if (!p.isGeneratedSnapshot()) {
+      synchronized (snapshotLock) {
+        // another thread may have generated it while this one was waiting. If this thread is already 
+        // generating it, the profile refers to itself
+        if (!p.isGeneratedSnapshot()) {
+          if (p.isGeneratingSnapshot()) {
+            throw new FHIRException("Attempt to fetch the profile "+p.getVersionedUrl()+" while generating the snapshot for it");
           }
-          p.setGeneratingSnapshot(true);
           try {
-            new ContextUtilities(this).generateSnapshot(p);
-          } finally {
-            p.setGeneratingSnapshot(false);      
-          }
-        } catch (Exception e) {
-          // not sure what to do in this case?
-          System.out.println("Unable to generate snapshot for "+p.getVersionedUrl()+": "+e.getMessage());
-          if (logger.isDebugLogging()) {
-            e.printStackTrace();
+            if (logger.isDebugLogging()) {
+              System.out.println("Generating snapshot for "+p.getVersionedUrl());
+            }
+            p.setGeneratingSnapshot(true);
+            try {
+              new ContextUtilities(this).generateSnapshot(p);
+            } finally {
+              p.setGeneratingSnapshot(false);      
+            }
+          } catch (Exception e) {
+            // not sure what to do in this case?
+            System.out.println("Unable to generate snapshot for "+p.getVersionedUrl()+": "+e.getMessage());
+            if (logger.isDebugLogging()) {
+              e.printStackTrace();
+            }
           }
         }
       }
     }
-    return r;
   }
 
 
@@ -771,6 +944,17 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     this.allowLazyLoading = allowLazyLoading;
   }
 
+  public int getLoadingThreads() {
+    return loadingThreads;
+  }
+
+  /**
+   * if more than 1, loadFromPackageAndDependencies fetches packages and reads their content on this many threads
+   */
+  public void setLoadingThreads(int loadingThreads) {
+    this.loadingThreads = loadingThreads;
+  }
+
   public String loadedPackageSummary() {
      return loadedPackages.toString();
   }
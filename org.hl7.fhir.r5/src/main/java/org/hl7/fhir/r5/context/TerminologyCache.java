@@ -36,7 +36,17 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -81,6 +91,9 @@ public class TerminologyCache {
   private static final String ENTRY_MARKER = "-------------------------------------------------------------------------------------";
   private static final String BREAK = "####";
   private static final String CACHE_FILE_EXTENSION = ".cache";
+  private static final byte[] ENTRY_MARKER_BYTES = ENTRY_MARKER.getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] BREAK_BYTES = BREAK.getBytes(StandardCharsets.US_ASCII);
+  private static final int MIN_OBSOLETE_FOR_COMPACTION = 50;
   private static final String CAPABILITY_STATEMENT_TITLE = ".capabilityStatement";
   private static final String TERMINOLOGY_CAPABILITIES_TITLE = ".terminologyCapabilities";
 
@@ -176,42 +189,113 @@ public class TerminologyCache {
     private boolean persistent;
     private ValidationResult v;
     private ValueSetExpansionOutcome e;
+    private int weight; // only for transient entries
+    // for persistent entries read from the cache file, where to find the result. It's not parsed until it's used
+    private boolean loaded = true;
+    private long start; // where the request starts. The request is checked before the result is read, in case the file has been rewritten
+    private long offset;
+    private int length;
+
+    /**
+     * a rough measure of the memory the entry holds, for limiting the size of the transient entries
+     */
+    private int measureWeight() {
+      if (e != null && e.getValueset() != null && e.getValueset().hasExpansion()) {
+        return 1 + e.getValueset().getExpansion().getContains().size();
+      } else {
+        return 1;
+      }
+    }
   }
 
+  /**
+   * All access to a named cache is synchronized on the named cache itself, so
+   * threads working with different code systems don't wait on each other
+   */
   private class NamedCache {
     private String name; 
     private List<CacheEntry> list = new ArrayList<CacheEntry>(); // persistent entries
-    private Map<String, CacheEntry> map = new HashMap<String, CacheEntry>();
+    private Map<String, CacheEntry> map = new HashMap<String, CacheEntry>(); // persistent entries, by key
+    private LinkedHashMap<String, CacheEntry> transients = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true); // transient entries, by key, least recently used first
+    private long transientWeight;
+    private int obsolete; // number of entries in the cache file that have been replaced by later entries
+    private boolean compacting;
+
+    private CacheEntry get(String key) {
+      CacheEntry e = map.get(key);
+      if (e != null && !e.loaded && !loadEntry(this, e)) {
+        map.remove(key);
+        list.remove(e);
+        e = null;
+      }
+      return e != null ? e : transients.get(key);
+    }
+
+    private boolean evictOldest() {
+      Iterator<CacheEntry> i = transients.values().iterator();
+      if (!i.hasNext()) {
+        return false;
+      }
+      CacheEntry e = i.next();
+      i.remove();
+      transientWeight = transientWeight - e.weight;
+      totalTransientWeight.addAndGet(-e.weight);
+      evictionCount.incrementAndGet();
+      return true;
+    }
   }
 
 
-  private Object lock;
   private String folder;
-  @Getter private int requestCount;
-  @Getter private int hitCount;
-  @Getter private int networkCount;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final AtomicInteger hitCount = new AtomicInteger();
+  private final AtomicInteger networkCount = new AtomicInteger();
+  private final AtomicInteger evictionCount = new AtomicInteger();
+  private final AtomicLong totalTransientWeight = new AtomicLong();
+  /**
+   * the limit on the total weight (roughly, the number of validation results and expansion codes) of transient entries. 
+   * Once it is exceeded, the least recently used transient entries are dropped. Persistent entries are never dropped
+   */
+  @Getter @Setter private long maxTransientWeight = 500000;
   private CapabilityStatement capabilityStatementCache = null;
   private TerminologyCapabilities terminologyCapabilitiesCache = null;
-  private Map<String, NamedCache> caches = new HashMap<String, NamedCache>();
+  private Map<String, NamedCache> caches = new ConcurrentHashMap<String, NamedCache>();
+  private ExecutorService compactor;
   @Getter @Setter private static boolean noCaching;
 
   @Getter @Setter private static boolean cacheErrors;
 
 
-  // use lock from the context
+  // the cache no longer uses the lock from the context - see NamedCache - but the parameter is kept for compatibility
   public TerminologyCache(Object lock, String folder) throws FileNotFoundException, IOException, FHIRException {
     super();
-    this.lock = lock;
     this.folder = folder;
-    requestCount = 0;
-    hitCount = 0;
-    networkCount = 0;
 
     if (folder != null) {
       load();
     }
   }
 
+  public int getRequestCount() {
+    return requestCount.get();
+  }
+
+  public int getHitCount() {
+    return hitCount.get();
+  }
+
+  public int getNetworkCount() {
+    return networkCount.get();
+  }
+
+  public int getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  public long getTransientWeight() {
+    return totalTransientWeight.get();
+  }
+
   public boolean hasCapabilityStatement() {
     return capabilityStatementCache != null;
   }
@@ -248,6 +332,7 @@ public class TerminologyCache {
 
   public void clear() {
     caches.clear();
+    totalTransientWeight.set(0);
   }
 
   public CacheToken generateValidationToken(ValidationOptions options, Coding code, ValueSet vs) {
@@ -384,20 +469,17 @@ public class TerminologyCache {
 
     final String cacheName = cacheToken.name == null ? "null" : cacheToken.name;
 
-    NamedCache nc = caches.get(cacheName);
-
-    if (nc == null) {
-      nc = new NamedCache();
-      nc.name = cacheName;
-      caches.put(nc.name, nc);
-    }
-    return nc;
+    return caches.computeIfAbsent(cacheName, n -> {
+      NamedCache nc = new NamedCache();
+      nc.name = n;
+      return nc;
+    });
   }
 
   public ValueSetExpansionOutcome getExpansion(CacheToken cacheToken) {
-    synchronized (lock) {
-      NamedCache nc = getNamedCache(cacheToken);
-      CacheEntry e = nc.map.get(cacheToken.key);
+    NamedCache nc = getNamedCache(cacheToken);
+    synchronized (nc) {
+      CacheEntry e = nc.get(cacheToken.key);
       if (e == null)
         return null;
       else
@@ -406,14 +488,15 @@ public class TerminologyCache {
   }
 
   public void cacheExpansion(CacheToken cacheToken, ValueSetExpansionOutcome res, boolean persistent) {
-    synchronized (lock) {      
-      NamedCache nc = getNamedCache(cacheToken);
-      CacheEntry e = new CacheEntry();
-      e.request = cacheToken.request;
-      e.persistent = persistent;
-      e.e = res;
+    NamedCache nc = getNamedCache(cacheToken);
+    CacheEntry e = new CacheEntry();
+    e.request = cacheToken.request;
+    e.persistent = persistent;
+    e.e = res;
+    synchronized (nc) {      
       store(cacheToken, persistent, nc, e);
     }    
+    evictTransients();
   }
 
   public void store(CacheToken cacheToken, boolean persistent, NamedCache nc, CacheEntry e) {
@@ -428,9 +511,14 @@ public class TerminologyCache {
       return;
     }
 
-    boolean n = nc.map.containsKey(cacheToken.key);
-    nc.map.put(cacheToken.key, e);
+    CacheEntry old = nc.transients.remove(cacheToken.key);
+    if (old != null) {
+      nc.transientWeight = nc.transientWeight - old.weight;
+      totalTransientWeight.addAndGet(-old.weight);
+    }
     if (persistent) {
+      boolean n = nc.map.containsKey(cacheToken.key);
+      nc.map.put(cacheToken.key, e);
       if (n) {
         for (int i = nc.list.size()- 1; i>= 0; i--) {
           if (nc.list.get(i).request.equals(e.request)) {
@@ -438,8 +526,38 @@ public class TerminologyCache {
           }
         }
       }
+      if (n) {
+        nc.obsolete++;
+      }
       nc.list.add(e);
-      save(nc);  
+      append(nc, e);  
+    } else if (!nc.map.containsKey(cacheToken.key)) {
+      e.weight = e.measureWeight();
+      nc.transients.put(cacheToken.key, e);
+      nc.transientWeight = nc.transientWeight + e.weight;
+      totalTransientWeight.addAndGet(e.weight);
+    }
+  }
+
+  /**
+   * drop least recently used transient entries until the total weight is back under the limit. 
+   * 
+   * This is called without holding any named cache lock, and only locks one named cache at a time. 
+   * The eviction is in LRU order within each named cache, but not across them
+   */
+  private void evictTransients() {
+    if (totalTransientWeight.get() <= maxTransientWeight) {
+      return;
+    }
+    for (NamedCache nc : caches.values()) {
+      synchronized (nc) {
+        while (totalTransientWeight.get() > maxTransientWeight && nc.evictOldest()) {
+          // keep going
+        }
+      }
+      if (totalTransientWeight.get() <= maxTransientWeight) {
+        return;
+      }
     }
   }
 
@@ -447,15 +565,15 @@ public class TerminologyCache {
     if (cacheToken.key == null) {
       return null;
     }
-    synchronized (lock) {
-      requestCount++;
-      NamedCache nc = getNamedCache(cacheToken);
-      CacheEntry e = nc.map.get(cacheToken.key);
+    requestCount.incrementAndGet();
+    NamedCache nc = getNamedCache(cacheToken);
+    synchronized (nc) {
+      CacheEntry e = nc.get(cacheToken.key);
       if (e == null) {
-        networkCount++;
+        networkCount.incrementAndGet();
         return null;
       } else {
-        hitCount++;
+        hitCount.incrementAndGet();
         return e.v;
       }
     }
@@ -463,14 +581,15 @@ public class TerminologyCache {
 
   public void cacheValidation(CacheToken cacheToken, ValidationResult res, boolean persistent) {
     if (cacheToken.key != null) {
-      synchronized (lock) {      
-        NamedCache nc = getNamedCache(cacheToken);
-        CacheEntry e = new CacheEntry();
-        e.request = cacheToken.request;
-        e.persistent = persistent;
-        e.v = res;
+      NamedCache nc = getNamedCache(cacheToken);
+      CacheEntry e = new CacheEntry();
+      e.request = cacheToken.request;
+      e.persistent = persistent;
+      e.v = res;
+      synchronized (nc) {      
         store(cacheToken, persistent, nc, e);
       }    
+      evictTransients();
     }
   }
 
@@ -498,62 +617,150 @@ public class TerminologyCache {
     }
   }
 
-  private void save(NamedCache nc) {
+  /**
+   * Persistent entries are appended to the end of the cache file for the named cache, so the cost of 
+   * storing an entry doesn't depend on the size of the cache. When an entry replaces an earlier one with 
+   * the same request, the earlier one stays in the file until the file is compacted (rewritten with only 
+   * the current entries), which happens on a background thread once enough of the file is obsolete
+   */
+  private void append(NamedCache nc, CacheEntry ce) {
     if (folder == null)
       return;
 
     try {
-      OutputStreamWriter sw = new OutputStreamWriter(new FileOutputStream(Utilities.path(folder, nc.name+CACHE_FILE_EXTENSION)), "UTF-8");
-      sw.write(ENTRY_MARKER+"\r\n");
-      JsonParser json = new JsonParser();
-      json.setOutputStyle(OutputStyle.PRETTY);
-      for (CacheEntry ce : nc.list) {
-        sw.write(ce.request.trim());
-        sw.write(BREAK+"\r\n");
-        if (ce.e != null) {
-          sw.write("e: {\r\n");
-          if (ce.e.getValueset() != null)
-            sw.write("  \"valueSet\" : "+json.composeString(ce.e.getValueset()).trim()+",\r\n");
-          sw.write("  \"error\" : \""+Utilities.escapeJson(ce.e.getError()).trim()+"\"\r\n}\r\n");
-        } else {
-          sw.write("v: {\r\n");
-          boolean first = true;
-          if (ce.v.getDisplay() != null) {            
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"display\" : \""+Utilities.escapeJson(ce.v.getDisplay()).trim()+"\"");
-          }
-          if (ce.v.getCode() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"code\" : \""+Utilities.escapeJson(ce.v.getCode()).trim()+"\"");
-          }
-          if (ce.v.getSystem() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"system\" : \""+Utilities.escapeJson(ce.v.getSystem()).trim()+"\"");
-          }
-          if (ce.v.getSeverity() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"severity\" : "+"\""+ce.v.getSeverity().toCode().trim()+"\""+"");
-          }
-          if (ce.v.getMessage() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"error\" : \""+Utilities.escapeJson(ce.v.getMessage()).trim()+"\"");
-          }
-          if (ce.v.getErrorClass() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"class\" : \""+Utilities.escapeJson(ce.v.getErrorClass().toString())+"\"");
-          }
-          if (ce.v.getDefinition() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"definition\" : \""+Utilities.escapeJson(ce.v.getDefinition()).trim()+"\"");
-          }
-          sw.write("\r\n}\r\n");
+      File f = new File(Utilities.path(folder, nc.name+CACHE_FILE_EXTENSION));
+      boolean isNew = !f.exists() || f.length() == 0;
+      OutputStreamWriter sw = new OutputStreamWriter(new FileOutputStream(f, true), "UTF-8");
+      try {
+        if (isNew) {
+          sw.write(ENTRY_MARKER+"\r\n");
         }
+        JsonParser json = new JsonParser();
+        json.setOutputStyle(OutputStyle.PRETTY);
+        writeEntry(sw, json, ce);
+      } finally {
+        sw.close();
+      }
+    } catch (Exception e) {
+      System.out.println("error saving "+nc.name+": "+e.getMessage());
+    }
+    scheduleCompaction(nc);
+  }
+
+  private void scheduleCompaction(NamedCache nc) {
+    if (nc.compacting || nc.obsolete < MIN_OBSOLETE_FOR_COMPACTION || nc.obsolete < nc.list.size()) {
+      return;
+    }
+    nc.compacting = true;
+    getCompactor().submit(() -> {
+      synchronized (nc) {
+        nc.compacting = false;
+        if (caches.get(nc.name) == nc) {
+          save(nc);
+        }
+      }
+    });
+  }
+
+  private synchronized ExecutorService getCompactor() {
+    if (compactor == null) {
+      compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "Terminology Cache Compaction");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return compactor;
+  }
+
+  // rewrite the whole file. Must be called holding the lock on the named cache
+  private void save(NamedCache nc) {
+    if (folder == null)
+      return;
+
+    // the offsets of the unloaded entries won't be valid once the file is rewritten
+    for (CacheEntry ce : new ArrayList<>(nc.list)) {
+      if (!ce.loaded && !loadEntry(nc, ce)) {
+        nc.list.remove(ce);
+        nc.map.values().remove(ce);
+      }
+    }
+    // the new content is written to a temporary file, which then replaces the cache file, so that the cache isn't lost 
+    // if this is interrupted, and other caches using the same folder only ever see a complete file (see loadEntry) 
+    File tmp = null;
+    try {
+      tmp = File.createTempFile(nc.name, ".tmp", new File(folder));
+      OutputStreamWriter sw = new OutputStreamWriter(new FileOutputStream(tmp), "UTF-8");
+      try {
         sw.write(ENTRY_MARKER+"\r\n");
-      }      
-      sw.close();
+        JsonParser json = new JsonParser();
+        json.setOutputStyle(OutputStyle.PRETTY);
+        for (CacheEntry ce : nc.list) {
+          writeEntry(sw, json, ce);
+        }
+      } finally {
+        sw.close();
+      }
+      replaceFile(tmp, new File(Utilities.path(folder, nc.name+CACHE_FILE_EXTENSION)));
+      nc.obsolete = 0;
     } catch (Exception e) {
       System.out.println("error saving "+nc.name+": "+e.getMessage());
+      if (tmp != null) {
+        tmp.delete();
+      }
+    }
+  }
+
+  private void replaceFile(File tmp, File f) throws IOException {
+    try {
+      Files.move(tmp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(tmp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private void writeEntry(OutputStreamWriter sw, JsonParser json, CacheEntry ce) throws IOException {
+    sw.write(ce.request.trim());
+    sw.write(BREAK+"\r\n");
+    if (ce.e != null) {
+      sw.write("e: {\r\n");
+      if (ce.e.getValueset() != null)
+        sw.write("  \"valueSet\" : "+json.composeString(ce.e.getValueset()).trim()+",\r\n");
+      sw.write("  \"error\" : \""+Utilities.escapeJson(ce.e.getError()).trim()+"\"\r\n}\r\n");
+    } else {
+      sw.write("v: {\r\n");
+      boolean first = true;
+      if (ce.v.getDisplay() != null) {            
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"display\" : \""+Utilities.escapeJson(ce.v.getDisplay()).trim()+"\"");
+      }
+      if (ce.v.getCode() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"code\" : \""+Utilities.escapeJson(ce.v.getCode()).trim()+"\"");
+      }
+      if (ce.v.getSystem() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"system\" : \""+Utilities.escapeJson(ce.v.getSystem()).trim()+"\"");
+      }
+      if (ce.v.getSeverity() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"severity\" : "+"\""+ce.v.getSeverity().toCode().trim()+"\""+"");
+      }
+      if (ce.v.getMessage() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"error\" : \""+Utilities.escapeJson(ce.v.getMessage()).trim()+"\"");
+      }
+      if (ce.v.getErrorClass() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"class\" : \""+Utilities.escapeJson(ce.v.getErrorClass().toString())+"\"");
+      }
+      if (ce.v.getDefinition() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"definition\" : \""+Utilities.escapeJson(ce.v.getDefinition()).trim()+"\"");
+      }
+      sw.write("\r\n}\r\n");
     }
+    sw.write(ENTRY_MARKER+"\r\n");
   }
 
   private boolean isCapabilityCache(String fn) {
@@ -610,41 +817,158 @@ public class TerminologyCache {
     return ce;
   }
 
+  /**
+   * Reads the requests in the cache file, and notes where each result is in the file. The results 
+   * are only parsed (see loadEntry) when they are first used
+   */
   private void loadNamedCache(String fn) {
-    int c = 0;
     try {
-      String src = TextFile.fileToString(Utilities.path(folder, fn));
+      byte[] src = TextFile.fileToBytes(Utilities.path(folder, fn));
       String title = fn.substring(0, fn.lastIndexOf("."));
 
       NamedCache nc = new NamedCache();
       nc.name = title;
 
-      if (src.startsWith("?"))
-        src = src.substring(1);
-      int i = src.indexOf(ENTRY_MARKER);
-      while (i > -1) {
-        c++;
-        String s = src.substring(0, i);
-        src = src.substring(i + ENTRY_MARKER.length() + 1);
-        i = src.indexOf(ENTRY_MARKER);
-        if (!Utilities.noString(s)) {
-          int j = s.indexOf(BREAK);
-          String request = s.substring(0, j);
-          String p = s.substring(j + BREAK.length() + 1).trim();
-
-          CacheEntry cacheEntry = getCacheEntry(request, p);
-
-          nc.map.put(String.valueOf(hashJson(cacheEntry.request)), cacheEntry);
-          nc.list.add(cacheEntry);
+      List<CacheEntry> entries = scanEntries(src);
+      for (CacheEntry cacheEntry : entries) {
+        String key = String.valueOf(hashJson(cacheEntry.request));
+        CacheEntry existing = nc.map.put(key, cacheEntry);
+        if (existing != null) {
+          // a later entry for the same request (appended) replaces the earlier one
+          nc.list.remove(existing);
+          nc.obsolete++;
         }
+        nc.list.add(cacheEntry);
+      }
+      if (!entries.isEmpty()) {
         caches.put(nc.name, nc);
-      }        
+        scheduleCompaction(nc);
+      }
     } catch (Exception e) {
-      System.out.println("Error loading "+fn+": "+e.getMessage()+" entry "+c+" - ignoring it");
+      System.out.println("Error loading "+fn+": "+e.getMessage()+" - ignoring it");
       e.printStackTrace();
     }
   }
 
+  /**
+   * find the entries in the content of a cache file, without parsing the results
+   */
+  private List<CacheEntry> scanEntries(byte[] src) {
+    List<CacheEntry> res = new ArrayList<>();
+    int start = 0;
+    int i = indexOf(src, ENTRY_MARKER_BYTES, start);
+    while (i > -1) {
+      int j = indexOf(src, BREAK_BYTES, start);
+      if (j > -1 && j < i) {
+        CacheEntry cacheEntry = new CacheEntry();
+        cacheEntry.persistent = true;
+        cacheEntry.request = new String(src, start, j - start, StandardCharsets.UTF_8);
+        cacheEntry.loaded = false;
+        cacheEntry.start = start;
+        cacheEntry.offset = j + BREAK_BYTES.length;
+        cacheEntry.length = i - j - BREAK_BYTES.length;
+        res.add(cacheEntry);
+      }
+      start = i + ENTRY_MARKER_BYTES.length;
+      i = indexOf(src, ENTRY_MARKER_BYTES, start);
+    }
+    return res;
+  }
+
+  // must be called holding the lock on the named cache
+  private boolean loadEntry(NamedCache nc, CacheEntry ce) {
+    try {
+      byte[] b = readEntry(nc, ce);
+      if (b == null) {
+        // another cache using the same folder has rewritten the file since it was scanned. Appending 
+        // doesn't move anything, but compacting does, so find where the entries are now
+        rescan(nc);
+        b = readEntry(nc, ce);
+        if (b == null) {
+          return false;
+        }
+      }
+      CacheEntry loaded = getCacheEntry(ce.request, new String(b, StandardCharsets.UTF_8).trim());
+      ce.v = loaded.v;
+      ce.e = loaded.e;
+      ce.loaded = true;
+      return true;
+    } catch (Exception e) {
+      System.out.println("Error loading entry from "+nc.name+CACHE_FILE_EXTENSION+": "+e.getMessage()+" - ignoring it");
+      return false;
+    }
+  }
+
+  /**
+   * @return the result for the entry, or null if the file no longer has the entry's request where it was when the file was scanned 
+   */
+  private byte[] readEntry(NamedCache nc, CacheEntry ce) throws IOException {
+    byte[] request = ce.request.getBytes(StandardCharsets.UTF_8);
+    byte[] b = new byte[(int) (ce.offset - ce.start) + ce.length + ENTRY_MARKER_BYTES.length];
+    RandomAccessFile f = new RandomAccessFile(Utilities.path(folder, nc.name+CACHE_FILE_EXTENSION), "r");
+    try {
+      if (ce.start + b.length > f.length()) {
+        return null;
+      }
+      f.seek(ce.start);
+      f.readFully(b);
+    } finally {
+      f.close();
+    }
+    if (!startsWith(b, 0, request) || !startsWith(b, request.length, BREAK_BYTES) || !startsWith(b, b.length - ENTRY_MARKER_BYTES.length, ENTRY_MARKER_BYTES)) {
+      return null;
+    }
+    return Arrays.copyOfRange(b, (int) (ce.offset - ce.start), (int) (ce.offset - ce.start) + ce.length);
+  }
+
+  /**
+   * find the entries that haven't been loaded yet in the current content of the file. Entries that 
+   * are no longer in the file are left unloaded, and get dropped by the caller
+   */
+  private void rescan(NamedCache nc) throws IOException {
+    Map<String, CacheEntry> current = new HashMap<>();
+    for (CacheEntry e : scanEntries(TextFile.fileToBytes(Utilities.path(folder, nc.name+CACHE_FILE_EXTENSION)))) {
+      current.put(e.request.trim(), e); // later entries win, as in loadNamedCache
+    }
+    for (CacheEntry ce : nc.list) {
+      CacheEntry e = ce.loaded ? null : current.get(ce.request.trim());
+      if (e != null) {
+        ce.request = e.request;
+        ce.start = e.start;
+        ce.offset = e.offset;
+        ce.length = e.length;
+      }
+    }
+  }
+
+  private boolean startsWith(byte[] src, int start, byte[] target) {
+    if (start < 0 || start + target.length > src.length) {
+      return false;
+    }
+    for (int j = 0; j < target.length; j++) {
+      if (src[start+j] != target[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int indexOf(byte[] src, byte[] target, int start) {
+    for (int i = start; i <= src.length - target.length; i++) {
+      boolean found = true;
+      for (int j = 0; j < target.length; j++) {
+        if (src[i+j] != target[j]) {
+          found = false;
+          break;
+        }
+      }
+      if (found) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   private void load() throws FHIRException {
     for (String fn : new File(folder).list()) {
       if (fn.endsWith(CACHE_FILE_EXTENSION) && !fn.equals("validation" + CACHE_FILE_EXTENSION)) {
@@ -732,12 +1056,13 @@ public class TerminologyCache {
   }
 
   public void removeCS(String url) {
-    synchronized (lock) {
-      String name = getSystemNameKeyGenerator().getNameForSystem(url);
-      if (caches.containsKey(name)) {
-        caches.remove(name);
+    String name = getSystemNameKeyGenerator().getNameForSystem(url);
+    NamedCache nc = caches.remove(name);
+    if (nc != null) {
+      synchronized (nc) {
+        totalTransientWeight.addAndGet(-nc.transientWeight);
       }
-    }   
+    }
   }
 
   public String getFolder() {
@@ -0,0 +1,254 @@
+package org.hl7.fhir.r5.context;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hl7.fhir.exceptions.FHIRException;
+import org.hl7.fhir.r5.context.CanonicalResourceManager.CanonicalResourceProxy;
+import org.hl7.fhir.r5.formats.JsonParser;
+import org.hl7.fhir.r5.model.CanonicalResource;
+import org.hl7.fhir.r5.model.Constants;
+import org.hl7.fhir.r5.model.PackageInformation;
+import org.hl7.fhir.r5.model.StructureDefinition;
+
+/**
+ * Saves a fully loaded SimpleWorkerContext (registered canonical resources with their snapshots, package
+ * information, loaded packages, binaries and the code systems the terminology server supports) to a single binary 
+ * file, and restores a context from it. Snapshots are generated for any profiles that don't have them yet before 
+ * the image is written, so they aren't generated again after every restore.
+ *
+ * The file is uncompressed so it can be memory mapped when it is read back. Restoring only reads the index: each
+ * resource is registered as a proxy over its bytes in the mapped file (the same way resources are registered when 
+ * a package is lazy loaded), and isn't parsed until it's first used.
+ *
+ * The image is stamped with a format version and the version of FHIR this library implements, and won't
+ * load in a different version of the library. Images are a cache - if the stamp doesn't match, rebuild the
+ * context from the packages and save a new image.
+ *
+ * Note that only the canonical resources are saved: other resources loaded into the context, and any user
+ * data on the resources other than "path", are not.
+ */
+public class WorkerContextImage {
+
+  private static final byte[] MAGIC = "FHIRCTXI".getBytes(StandardCharsets.US_ASCII);
+  private static final int FORMAT_VERSION = 2;
+
+  private static class ImageResourceProxy extends CanonicalResourceProxy {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+    private final String path;
+
+    public ImageResourceProxy(String type, String id, String url, String version, ByteBuffer buffer, int offset, int length, String path) {
+      super(type, id, url, version);
+      this.buffer = buffer;
+      this.offset = offset;
+      this.length = length;
+      this.path = path;
+    }
+
+    @Override
+    public CanonicalResource loadResource() throws FHIRException {
+      byte[] content = new byte[length];
+      ByteBuffer b = buffer.duplicate();
+      b.position(offset);
+      b.get(content);
+      try {
+        CanonicalResource res = (CanonicalResource) new JsonParser().parse(content);
+        if (path != null) {
+          res.setUserData("path", path);
+        }
+        return res;
+      } catch (IOException e) {
+        throw new FHIRException("Error loading "+getType()+"/"+getId()+" from context image: "+e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * write the content of the context to the image file. Any lazy loaded resources will be loaded in the process, 
+   * and any missing snapshots generated
+   *
+   * @param context - the context to save. It should be fully loaded (e.g. finishLoading() has been called)
+   * @param filename - where to write the image
+   */
+  public static void save(SimpleWorkerContext context, String filename) throws IOException {
+    for (StructureDefinition sd : context.fetchResourcesByType(StructureDefinition.class)) {
+      context.generateSnapshot(sd);
+    }
+    List<CanonicalResource> resources = context.fetchResourcesByType(CanonicalResource.class);
+    Map<String, PackageInformation> packages = new HashMap<>();
+    for (CanonicalResource cr : resources) {
+      if (cr.getSourcePackage() != null) {
+        packages.put(cr.getSourcePackage().getVID(), cr.getSourcePackage());
+      }
+    }
+
+    JsonParser json = new JsonParser();
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)));
+    try {
+      out.write(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      writeString(out, Constants.VERSION);
+      writeString(out, context.getVersion());
+
+      out.writeInt(packages.size());
+      for (PackageInformation pi : packages.values()) {
+        writeString(out, pi.getId());
+        writeString(out, pi.getVersion());
+        out.writeLong(pi.getDate() == null ? -1 : pi.getDate().getTime());
+        writeString(out, pi.getName());
+        writeString(out, pi.getCanonical());
+        writeString(out, pi.getWeb());
+        out.writeInt(pi.getDependencies().size());
+        for (String d : pi.getDependencies()) {
+          writeString(out, d);
+        }
+      }
+
+      out.writeInt(context.supportedCodeSystems.size());
+      for (String s : context.supportedCodeSystems) {
+        writeString(out, s);
+      }
+
+      out.writeInt(context.getLoadedPackages().size());
+      for (String s : context.getLoadedPackages()) {
+        writeString(out, s);
+      }
+
+      out.writeInt(context.binaries.size());
+      for (String s : context.binaries.keySet()) {
+        writeString(out, s);
+        byte[] b = context.binaries.get(s);
+        out.writeInt(b.length);
+        out.write(b);
+      }
+
+      out.writeInt(resources.size());
+      for (CanonicalResource cr : resources) {
+        writeString(out, cr.fhirType());
+        writeString(out, cr.getId());
+        writeString(out, cr.getUrl());
+        writeString(out, cr.getVersion());
+        writeString(out, cr.getSourcePackage() == null ? null : cr.getSourcePackage().getVID());
+        writeString(out, cr.hasUserData("path") ? cr.getUserString("path") : null);
+        byte[] b = json.composeBytes(cr);
+        out.writeInt(b.length);
+        out.write(b);
+      }
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * load the content of an image file into the context. The context should be empty
+   */
+  public static void load(SimpleWorkerContext context, String filename) throws IOException, FHIRException {
+    MappedByteBuffer buffer;
+    try (RandomAccessFile f = new RandomAccessFile(new File(filename), "r")) {
+      // the mapping stays valid after the channel is closed
+      buffer = f.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, f.length());
+    }
+
+    byte[] magic = new byte[MAGIC.length];
+    buffer.get(magic);
+    if (!Arrays.equals(magic, MAGIC)) {
+      throw new FHIRException("The file "+filename+" is not a worker context image");
+    }
+    int format = buffer.getInt();
+    String fhirVersion = readString(buffer);
+    if (format != FORMAT_VERSION || !Constants.VERSION.equals(fhirVersion)) {
+      throw new FHIRException("The worker context image "+filename+" was written by a different version of this library (format "+format+", FHIR "+fhirVersion+"). It needs to be rebuilt");
+    }
+    context.version = readString(buffer);
+
+    Map<String, PackageInformation> packages = new HashMap<>();
+    int count = buffer.getInt();
+    for (int i = 0; i < count; i++) {
+      String id = readString(buffer);
+      String version = readString(buffer);
+      long date = buffer.getLong();
+      PackageInformation pi = new PackageInformation(id, version, date == -1 ? null : new Date(date), readString(buffer), readString(buffer), readString(buffer));
+      int dc = buffer.getInt();
+      for (int j = 0; j < dc; j++) {
+        pi.getDependencies().add(readString(buffer));
+      }
+      packages.put(pi.getVID(), pi);
+    }
+
+    count = buffer.getInt();
+    for (int i = 0; i < count; i++) {
+      context.supportedCodeSystems.add(readString(buffer));
+    }
+
+    count = buffer.getInt();
+    for (int i = 0; i < count; i++) {
+      context.getLoadedPackages().add(readString(buffer));
+    }
+
+    count = buffer.getInt();
+    for (int i = 0; i < count; i++) {
+      String name = readString(buffer);
+      byte[] b = new byte[buffer.getInt()];
+      buffer.get(b);
+      context.binaries.put(name, b);
+    }
+
+    // these resources were all accepted when the context was first loaded
+    boolean dups = context.isAllowLoadingDuplicates();
+    context.setAllowLoadingDuplicates(true);
+    try {
+      count = buffer.getInt();
+      for (int i = 0; i < count; i++) {
+        String type = readString(buffer);
+        String id = readString(buffer);
+        String url = readString(buffer);
+        String version = readString(buffer);
+        String vid = readString(buffer);
+        String path = readString(buffer);
+        int length = buffer.getInt();
+        ImageResourceProxy proxy = new ImageResourceProxy(type, id, url, version, buffer, buffer.position(), length, path);
+        buffer.position(buffer.position() + length);
+        context.registerResourceFromPackage(proxy, vid == null ? null : packages.get(vid));
+      }
+    } finally {
+      context.setAllowLoadingDuplicates(dups);
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    if (s == null) {
+      out.writeInt(-1);
+    } else {
+      byte[] b = s.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(b.length);
+      out.write(b);
+    }
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length == -1) {
+      return null;
+    }
+    byte[] b = new byte[length];
+    buffer.get(b);
+    return new String(b, StandardCharsets.UTF_8);
+  }
+
+}
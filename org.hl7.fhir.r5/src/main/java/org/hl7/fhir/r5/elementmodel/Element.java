@@ -105,31 +105,40 @@ public class Element extends Base {
     }
 	}
 
-	private List<String> comments;// not relevant for production, but useful in documentation
 	private String name;
 	private String type;
 	private String value;
 	private int index = -1;
-	private List<Element> children;
+	private ChildList children;
 	private Property property;
-  private Property elementProperty; // this is used when special is set to true - it tracks the underlying element property which is used in a few places
 	private int line;
 	private int col;
 	private SpecialElement special;
-	private XhtmlNode xhtml; // if this is populated, then value will also hold the string representation
-	private String explicitType; // for xsi:type attribute
 	private Element parentForValidator;
 	private boolean hasParentForValidator;
 	private String path;
-	private List<ValidationMessage> messages;
 	private boolean prohibited;
 	private boolean required;
-  private Map<String, List<Element>> childMap;
+  private Map<String, List<Element>> childMap; // children by name, and choices also by base name. see populateChildMap
+  private int childMapVersion;
   private int descendentCount;
   private int instanceId;
   private boolean isNull;
-  private Base source;
   private boolean ignorePropertyOrder;
+  private Extras extras; // null unless one of the rarely used fields is set
+
+  /**
+   * Fields that most elements don't use. An element is created for every node of every instance that is
+   * parsed, so these are kept out of the element itself, and only allocated when one of them is set
+   */
+  private static class Extras {
+    private List<String> comments;// not relevant for production, but useful in documentation
+    private Property elementProperty; // this is used when special is set to true - it tracks the underlying element property which is used in a few places
+    private XhtmlNode xhtml; // if this is populated, then value will also hold the string representation
+    private String explicitType; // for xsi:type attribute
+    private List<ValidationMessage> messages;
+    private Base source;
+  }
 
 	public Element(String name) {
 		super();
@@ -141,22 +150,24 @@ public class Element extends Base {
     name = other.name;
     type = other.type;
     property = other.property;
-    elementProperty = other.elementProperty;
+    if (other.hasElementProperty()) {
+      extras().elementProperty = other.extras.elementProperty;
+    }
     special = other.special;
   }
   
   public Element(String name, Property property) {
 		super();
-		this.name = name;
+		this.name = shareName(name, property);
 		this.property = property;
 		if (property.isResource()) {
-		  children = new ArrayList<>();
+		  children = new ChildList();
 		}
 	}
 
 	public Element(String name, Property property, String type, String value) {
 		super();
-		this.name = name;
+		this.name = shareName(name, property);
 		this.property = property;
 		this.type = type;
 		this.value = value;
@@ -164,10 +175,32 @@ public class Element extends Base {
 
 	public void updateProperty(Property property, SpecialElement special, Property elementProperty) {
 		this.property = property;
-    this.elementProperty = elementProperty;
+    if (elementProperty != null || hasElementProperty()) {
+      extras().elementProperty = elementProperty;
+    }
 		this.special = special;
 	}
 
+  /**
+   * use the property's copy of the name when it's the same, rather than keeping a copy per element
+   */
+  private static String shareName(String name, Property property) {
+    if (name != null && property != null && property.getDefinition() != null) {
+      String pn = property.getName();
+      if (name.equals(pn)) {
+        return pn;
+      }
+    }
+    return name;
+  }
+
+  private Extras extras() {
+    if (extras == null) {
+      extras = new Extras();
+    }
+    return extras;
+  }
+
 	public SpecialElement getSpecial() {
 		return special;
 	}
@@ -193,18 +226,18 @@ public class Element extends Base {
 
 	public List<Element> getChildren() {
 		if (children == null)
-			children = new ArrayList<Element>();
+			children = new ChildList();
 		return children;
 	}
 
 	public boolean hasComments() {
-		return !(comments == null || comments.isEmpty());
+		return !(extras == null || extras.comments == null || extras.comments.isEmpty());
 	}
 
 	public List<String> getComments() {
-		if (comments == null)
-			comments = new ArrayList<String>();
-		return comments;
+		if (extras().comments == null)
+			extras.comments = new ArrayList<String>();
+		return extras.comments;
 	}
 
 	public Property getProperty() {
@@ -301,7 +334,7 @@ public class Element extends Base {
 
   private String getNameBase() {
     if (property.isChoice()) {
-      return property.getName().replace("[x]", "");
+      return property.getBaseName();
     } else  {
       return getName();
     }
@@ -309,7 +342,7 @@ public class Element extends Base {
 
   public void setChildValue(String name, String value) {
     if (children == null)
-      children = new ArrayList<Element>();
+      children = new ChildList();
     for (Element child : children) {
       if (name.equals(child.getName())) {
         if (!child.isPrimitive())
@@ -390,25 +423,70 @@ public class Element extends Base {
   	return result.toArray(new Base[result.size()]);
 	}
 
+  /**
+   * The children. getChildren() hands the list out to be changed directly, so it counts its changes
+   * (including replacing a child) and the index of the children is rebuilt when the count has moved on
+   */
+  private static class ChildList extends ArrayList<Element> {
+    private static final long serialVersionUID = 1L;
+    private int replacements;
+
+    @Override
+    public Element set(int index, Element element) {
+      replacements++;
+      return super.set(index, element);
+    }
+
+    private int version() {
+      return modCount + replacements;
+    }
+  }
+
+  /**
+   * index the children by name. Children that are a choice are also indexed by the name of the choice without
+   * the [x] (e.g. valueString is found by both 'valueString' and 'value'). The index is rebuilt whenever the
+   * list of children has changed since it was built
+   */
   private void populateChildMap() {
-    if (childMap == null) {
+    if (childMap == null || childMapVersion != children.version()) {
       childMap = new HashMap<>();
       for (Element child : children) {
-        String n;
-        if (child.getProperty().getName().endsWith("[x]")) {
-          n = child.getProperty().getName();
-          n = n.substring(0, n.length()-3);
-        } else {
-          n = child.getName();
-        }
-        List<Element> l = childMap.get(n);
-        if (l == null) {
-          l = new ArrayList<Element>();
-          childMap.put(n,l);
+        addToChildMap(child.getName(), child);
+        if (child.getProperty() != null && child.getProperty().getDefinition() != null && child.getProperty().getDefinition().isChoice()) {
+          String n = child.getProperty().getBaseName();
+          if (!n.equals(child.getName())) {
+            addToChildMap(n, child);
+          }
         }
-        l.add(child);
-      }  	      
+      }
+      childMapVersion = children.version();
+    }
+  }
+
+  private void addToChildMap(String n, Element child) {
+    List<Element> l = childMap.get(n);
+    if (l == null) {
+      l = new ArrayList<Element>(1);
+      childMap.put(n,l);
     }
+    l.add(child);
+  }
+
+  /**
+   * Get the children with the given name, or, for a choice, the given name without the [x] - the same matching
+   * as getNamedChild. This doesn't copy: it returns a read only view of an index of the children, so it's the
+   * one to use in loops and when the same element is asked for several names
+   *
+   * @param name the name of the children
+   * @return the children (never null)
+   */
+  public List<Element> getNamedChildrenView(String name) {
+    if (children == null || children.isEmpty()) {
+      return Collections.emptyList();
+    }
+    populateChildMap();
+    List<Element> l = childMap.get(name);
+    return l == null ? Collections.emptyList() : Collections.unmodifiableList(l);
   }
 
 	@Override
@@ -431,7 +509,7 @@ public class Element extends Base {
   @Override
   public Base setProperty(int hash, String name, Base value) throws FHIRException {
     if ("xhtml".equals(getType()) && (hash == "value".hashCode())) {
-      this.xhtml = TypeConvertor.castToXhtml(value);
+      setXhtml(TypeConvertor.castToXhtml(value));
       this.value =  TypeConvertor.castToXhtmlString(value);
       return this;
     }
@@ -449,7 +527,7 @@ public class Element extends Base {
     
     childMap = null;
     if (children == null)
-      children = new ArrayList<Element>();
+      children = new ChildList();
     Element childForValue = null;
     
     // look through existing children
@@ -499,14 +577,14 @@ public class Element extends Base {
       if (childForValue.property.getName().endsWith("[x]"))
         childForValue.name = name+Utilities.capitalize(childForValue.type);
       else if (value.isResource()) {
-        if (childForValue.elementProperty == null)
-          childForValue.elementProperty = childForValue.property;
+        if (!childForValue.hasElementProperty())
+          childForValue.extras().elementProperty = childForValue.property;
         childForValue.property = ve.property;
         childForValue.special = SpecialElement.BUNDLE_ENTRY;
       }
       if (ve.children != null) {
         if (childForValue.children == null)
-          childForValue.children = new ArrayList<Element>();
+          childForValue.children = new ChildList();
         else 
           childForValue.children.clear();
         childForValue.children.addAll(ve.children);
@@ -534,7 +612,7 @@ public class Element extends Base {
 
   public Element makeElement(String name) throws FHIRException {
     if (children == null)
-      children = new ArrayList<Element>();
+      children = new ChildList();
     
     // look through existing children
     for (Element child : children) {
@@ -573,7 +651,7 @@ public class Element extends Base {
 
   public Element forceElement(String name) throws FHIRException {
     if (children == null)
-      children = new ArrayList<Element>();
+      children = new ChildList();
     
     // look through existing children
     for (Element child : children) {
@@ -692,26 +770,24 @@ public class Element extends Base {
   }
 
   public Element getNamedChild(String name) {
-    if (children == null)
+    if (children == null || name == null)
       return null;
-    if (children.size() > 20) {
+    if (children.size() > 20 || childMap != null) {
       populateChildMap();
       List<Element> l = childMap.get(name);
       if (l == null) {
-        // try the other way (in case of complicated naming rules)
+        return null;
       } else if (l.size() > 1) {
         throw new Error("Attempt to read a single element when there is more than one present ("+name+")");
       } else {
         return l.get(0);
       }
-    } else {
-      
     }
+    // few children - a scan is cheaper than building the index
     Element result = null;
-    
     for (Element child : children) {
-      if (child.getName() != null && name != null && child.getProperty() != null && child.getProperty().getDefinition() != null && child.fhirType() != null) {
-        if (child.getName().equals(name) || (child.getName().length() >  child.fhirType().length() && child.getName().substring(0, child.getName().length() - child.fhirType().length()).equals(name) && child.getProperty().getDefinition().isChoice())) {
+      if (child.getName() != null && child.getProperty() != null && child.getProperty().getDefinition() != null) {
+        if (child.getName().equals(name) || (child.getProperty().getDefinition().isChoice() && name.equals(child.getProperty().getBaseName()))) {
           if (result == null)
             result = child;
           else 
@@ -757,11 +833,13 @@ public class Element extends Base {
 
   
 	public XhtmlNode getXhtml() {
-		return xhtml;
+		return extras == null ? null : extras.xhtml;
 	}
 
 	public Element setXhtml(XhtmlNode xhtml) {
-		this.xhtml = xhtml;
+		if (xhtml != null || extras != null) {
+		  extras().xhtml = xhtml;
+		}
 		return this;
  	}
 
@@ -782,11 +860,11 @@ public class Element extends Base {
 	}
 
   public Property getElementProperty() {
-    return elementProperty;
+    return extras == null ? null : extras.elementProperty;
   }
 
   public boolean hasElementProperty() {
-    return elementProperty != null;
+    return extras != null && extras.elementProperty != null;
   }
 
   public boolean hasChild(String name) {
@@ -883,15 +961,15 @@ public class Element extends Base {
   }
 
   public boolean isList() {
-    if (elementProperty != null)
-      return elementProperty.isList();
+    if (hasElementProperty())
+      return extras.elementProperty.isList();
     else
       return property.isList();
   }
   
   public boolean isBaseList() {
-    if (elementProperty != null)
-      return elementProperty.isBaseList();
+    if (hasElementProperty())
+      return extras.elementProperty.isBaseList();
     else
       return property.isBaseList();
   }
@@ -942,7 +1020,7 @@ public class Element extends Base {
       return Integer.compare(i0, i1);
     }
     private int find(Element e0) {
-      int i =  e0.elementProperty != null ? children.indexOf(e0.elementProperty.getDefinition()) :  children.indexOf(e0.property.getDefinition());
+      int i =  e0.hasElementProperty() ? children.indexOf(e0.getElementProperty().getDefinition()) :  children.indexOf(e0.property.getDefinition());
       return i; 
     }
 
@@ -1044,11 +1122,13 @@ public class Element extends Base {
   }
 
   public String getExplicitType() {
-    return explicitType;
+    return extras == null ? null : extras.explicitType;
   }
 
   public void setExplicitType(String explicitType) {
-    this.explicitType = explicitType;
+    if (explicitType != null || extras != null) {
+      extras().explicitType = explicitType;
+    }
   }
 
   public boolean hasDescendant(Element element) {
@@ -1124,12 +1204,14 @@ public class Element extends Base {
   }
 
   public void clear() {
-    comments = null;
+    if (extras != null) {
+      extras.comments = null;
+      extras.elementProperty = null;
+      extras.xhtml = null;
+    }
     children.clear();
     childMap = null;
     property = null;
-    elementProperty = null;
-    xhtml = null;
     path = null;
   }
 
@@ -1142,18 +1224,24 @@ public class Element extends Base {
   }  
   
   public void addMessage(ValidationMessage vm) {
-    if (messages == null) {
-      messages = new ArrayList<>();
+    if (extras().messages == null) {
+      extras.messages = new ArrayList<>();
     }
-    messages.add(vm);
+    extras.messages.add(vm);
   }
 
   public boolean hasMessages() {
-    return messages != null && !messages.isEmpty();
+    return extras != null && extras.messages != null && !extras.messages.isEmpty();
   }
 
   public List<ValidationMessage> getMessages() {
-    return messages;
+    return extras == null ? null : extras.messages;
+  }
+
+  public void clearMessages() {
+    if (extras != null) {
+      extras.messages = null;
+    }
   }
 
   public void removeChild(String name) {
@@ -1210,34 +1298,45 @@ public class Element extends Base {
 
   @Override
   public boolean hasValidationInfo() {
-    return hasSource() ? source.hasValidationInfo() : super.hasValidationInfo();
+    return hasSource() ? extras.source.hasValidationInfo() : super.hasValidationInfo();
   }
 
   @Override
   public List<ValidationInfo> getValidationInfo() {
-    return hasSource() ? source.getValidationInfo() : super.getValidationInfo();
+    return hasSource() ? extras.source.getValidationInfo() : super.getValidationInfo();
   }
 
   @Override
   public ValidationInfo addDefinition(StructureDefinition source, ElementDefinition defn, ValidationMode mode) {
-    if (this.source != null) {
-      return this.source.addDefinition(source, defn, mode);
+    if (hasSource()) {
+      return extras.source.addDefinition(source, defn, mode);
     } else {
       return super.addDefinition(source, defn, mode);
     }
   }
 
+  @Override
+  public void clearValidationInfo() {
+    if (hasSource()) {
+      extras.source.clearValidationInfo();
+    } else {
+      super.clearValidationInfo();
+    }
+  }
+
   public boolean hasSource() {
-    return source != null;
+    return extras != null && extras.source != null;
   }
 
   
   public Base getSource() {
-    return source;
+    return extras == null ? null : extras.source;
   }
 
   public void setSource(Base source) {
-    this.source = source;
+    if (source != null || extras != null) {
+      extras().source = source;
+    }
   }
 
   public void printToOutput() {
@@ -1251,18 +1350,18 @@ public class Element extends Base {
   }
 
   private void printToOutput(PrintStream out, String indent) {
-    String s = indent+name +(index == -1 ? "" : "["+index+"]") +(special != null ? "$"+special.toHuman(): "")+ (type!= null || explicitType != null ? " : "+type+(explicitType != null ? "/'"+explicitType+"'" : "") : "");
+    String s = indent+name +(index == -1 ? "" : "["+index+"]") +(special != null ? "$"+special.toHuman(): "")+ (type!= null || getExplicitType() != null ? " : "+type+(getExplicitType() != null ? "/'"+getExplicitType()+"'" : "") : "");
     if (isNull) {
       s = s + " = (null)";
     } else if (value != null) {
       s = s + " = '"+value+"'";      
-    } else if (xhtml != null) {
+    } else if (getXhtml() != null) {
       s = s + " = (xhtml)";
     }
     if (property != null) {
       s = s +" {"+property.summary();
-      if (elementProperty != null) {
-        s = s +" -> "+elementProperty.summary();
+      if (hasElementProperty()) {
+        s = s +" -> "+extras.elementProperty.summary();
       }
       s = s + "}";
     }
@@ -1282,7 +1381,7 @@ public class Element extends Base {
     int e = 0;
     int w = 0;
     int h = 0;
-    for (ValidationMessage msg : messages) {
+    for (ValidationMessage msg : getMessages()) {
       switch (msg.getLevel()) {
       case ERROR:
         e++;
@@ -1332,7 +1431,7 @@ public class Element extends Base {
 
   public Element addElement(String name) {
     if (children == null)
-      children = new ArrayList<Element>();
+      children = new ChildList();
 
     for (Property p : property.getChildProperties(this.name, type)) {
       if (p.getName().equals(name)) {
@@ -1360,33 +1459,35 @@ public class Element extends Base {
     super.copyValues(dst);
     
     Element dest = (Element) dst;
-    if (comments != null) {
-      dest.comments = new ArrayList<>();
-      dest.comments.addAll(comments);
-    } else {
-      dest.comments = null;
+    if (hasComments()) {
+      dest.getComments().clear();
+      dest.getComments().addAll(extras.comments);
+    } else if (dest.extras != null) {
+      dest.extras.comments = null;
     }
     dest.value = value;
     if (children != null) {
-      dest.children = new ArrayList<>();
+      dest.children = new ChildList();
       dest.children.addAll(children);
     } else {
       dest.children = null;
     }
     dest.line = line;
     dest.col = col;
-    dest.xhtml = xhtml;
-    dest.explicitType = explicitType;
+    dest.setXhtml(getXhtml());
+    dest.setExplicitType(getExplicitType());
     dest.hasParentForValidator = false;
     dest.path = path;
-    dest.messages = null;
+    if (dest.extras != null) {
+      dest.extras.messages = null;
+    }
     dest.prohibited = prohibited;
     dest.required = required;
     dest.childMap = null;
     dest.descendentCount = descendentCount;
     dest.instanceId = instanceId;
     dest.isNull = isNull;
-    dest.source = source;
+    dest.setSource(getSource());
   }
   
   public Base setProperty(String name, Base value) throws FHIRException {
@@ -60,6 +60,8 @@ public class Property {
 	private StructureDefinition structure;
   private ProfileUtilities profileUtilities;
   private TypeRefComponent type;
+  private String name;
+  private String baseName;
 
   public Property(IWorkerContext context, ElementDefinition definition, StructureDefinition structure, ProfileUtilities profileUtilities) {
 		this.context = context;
@@ -86,9 +88,24 @@ public class Property {
 	}
 
 	public String getName() {
-		return definition.getPath().substring(definition.getPath().lastIndexOf(".")+1);
+	  if (name == null) {
+	    // cached, so that elements can share it (see Element)
+	    name = definition.getPath().substring(definition.getPath().lastIndexOf(".")+1);
+	  }
+		return name;
 	}
 
+  /**
+   * the name of the property, without the [x] if it's a choice. Children of the element for a choice are named this plus their type
+   */
+  public String getBaseName() {
+    if (baseName == null) {
+      String n = getName();
+      baseName = n.endsWith("[x]") ? n.substring(0, n.length()-3) : n;
+    }
+    return baseName;
+  }
+
   public String getJsonName() {
     if (definition.hasExtension(ToolingExtensions.EXT_JSON_NAME)) {
       return ToolingExtensions.readStringExtension(definition, ToolingExtensions.EXT_JSON_NAME);
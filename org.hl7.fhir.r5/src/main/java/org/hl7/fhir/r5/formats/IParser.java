@@ -74,6 +74,14 @@ public interface IParser {
    */
   public boolean isAllowUnknownContent();
   public IParser setAllowUnknownContent(boolean value);
+
+  /**
+   * @param streaming Whether to parse from a token stream instead of loading the whole source into a document first.
+   * This lowers peak memory when reading large content (e.g. bulk data Bundles), and produces the same resources.
+   * Formats that don't support streaming ignore this
+   */
+  public boolean isStreaming();
+  public IParser setStreaming(boolean value);
   
   
   public enum OutputStyle {
@@ -35149,324 +35149,168 @@ public class JsonParser extends JsonParserBase {
     String t = json.get("resourceType").getAsString();
     if (Utilities.noString(t)) {
       throw new FHIRFormatError("Unable to find resource type - maybe not a FHIR resource?");
-    } else if (t.equals("Account")) {
-      return parseAccount(json);
-    } else if (t.equals("ActivityDefinition")) {
-      return parseActivityDefinition(json);
-    } else if (t.equals("ActorDefinition")) {
-      return parseActorDefinition(json);
-    } else if (t.equals("AdministrableProductDefinition")) {
-      return parseAdministrableProductDefinition(json);
-    } else if (t.equals("AdverseEvent")) {
-      return parseAdverseEvent(json);
-    } else if (t.equals("AllergyIntolerance")) {
-      return parseAllergyIntolerance(json);
-    } else if (t.equals("Appointment")) {
-      return parseAppointment(json);
-    } else if (t.equals("AppointmentResponse")) {
-      return parseAppointmentResponse(json);
-    } else if (t.equals("ArtifactAssessment")) {
-      return parseArtifactAssessment(json);
-    } else if (t.equals("AuditEvent")) {
-      return parseAuditEvent(json);
-    } else if (t.equals("Basic")) {
-      return parseBasic(json);
-    } else if (t.equals("Binary")) {
-      return parseBinary(json);
-    } else if (t.equals("BiologicallyDerivedProduct")) {
-      return parseBiologicallyDerivedProduct(json);
-    } else if (t.equals("BiologicallyDerivedProductDispense")) {
-      return parseBiologicallyDerivedProductDispense(json);
-    } else if (t.equals("BodyStructure")) {
-      return parseBodyStructure(json);
-    } else if (t.equals("Bundle")) {
-      return parseBundle(json);
-    } else if (t.equals("CapabilityStatement")) {
-      return parseCapabilityStatement(json);
-    } else if (t.equals("CarePlan")) {
-      return parseCarePlan(json);
-    } else if (t.equals("CareTeam")) {
-      return parseCareTeam(json);
-    } else if (t.equals("ChargeItem")) {
-      return parseChargeItem(json);
-    } else if (t.equals("ChargeItemDefinition")) {
-      return parseChargeItemDefinition(json);
-    } else if (t.equals("Citation")) {
-      return parseCitation(json);
-    } else if (t.equals("Claim")) {
-      return parseClaim(json);
-    } else if (t.equals("ClaimResponse")) {
-      return parseClaimResponse(json);
-    } else if (t.equals("ClinicalImpression")) {
-      return parseClinicalImpression(json);
-    } else if (t.equals("ClinicalUseDefinition")) {
-      return parseClinicalUseDefinition(json);
-    } else if (t.equals("CodeSystem")) {
-      return parseCodeSystem(json);
-    } else if (t.equals("Communication")) {
-      return parseCommunication(json);
-    } else if (t.equals("CommunicationRequest")) {
-      return parseCommunicationRequest(json);
-    } else if (t.equals("CompartmentDefinition")) {
-      return parseCompartmentDefinition(json);
-    } else if (t.equals("Composition")) {
-      return parseComposition(json);
-    } else if (t.equals("ConceptMap")) {
-      return parseConceptMap(json);
-    } else if (t.equals("Condition")) {
-      return parseCondition(json);
-    } else if (t.equals("ConditionDefinition")) {
-      return parseConditionDefinition(json);
-    } else if (t.equals("Consent")) {
-      return parseConsent(json);
-    } else if (t.equals("Contract")) {
-      return parseContract(json);
-    } else if (t.equals("Coverage")) {
-      return parseCoverage(json);
-    } else if (t.equals("CoverageEligibilityRequest")) {
-      return parseCoverageEligibilityRequest(json);
-    } else if (t.equals("CoverageEligibilityResponse")) {
-      return parseCoverageEligibilityResponse(json);
-    } else if (t.equals("DetectedIssue")) {
-      return parseDetectedIssue(json);
-    } else if (t.equals("Device")) {
-      return parseDevice(json);
-    } else if (t.equals("DeviceAssociation")) {
-      return parseDeviceAssociation(json);
-    } else if (t.equals("DeviceDefinition")) {
-      return parseDeviceDefinition(json);
-    } else if (t.equals("DeviceDispense")) {
-      return parseDeviceDispense(json);
-    } else if (t.equals("DeviceMetric")) {
-      return parseDeviceMetric(json);
-    } else if (t.equals("DeviceRequest")) {
-      return parseDeviceRequest(json);
-    } else if (t.equals("DeviceUsage")) {
-      return parseDeviceUsage(json);
-    } else if (t.equals("DiagnosticReport")) {
-      return parseDiagnosticReport(json);
-    } else if (t.equals("DocumentReference")) {
-      return parseDocumentReference(json);
-    } else if (t.equals("Encounter")) {
-      return parseEncounter(json);
-    } else if (t.equals("EncounterHistory")) {
-      return parseEncounterHistory(json);
-    } else if (t.equals("Endpoint")) {
-      return parseEndpoint(json);
-    } else if (t.equals("EnrollmentRequest")) {
-      return parseEnrollmentRequest(json);
-    } else if (t.equals("EnrollmentResponse")) {
-      return parseEnrollmentResponse(json);
-    } else if (t.equals("EpisodeOfCare")) {
-      return parseEpisodeOfCare(json);
-    } else if (t.equals("EventDefinition")) {
-      return parseEventDefinition(json);
-    } else if (t.equals("Evidence")) {
-      return parseEvidence(json);
-    } else if (t.equals("EvidenceReport")) {
-      return parseEvidenceReport(json);
-    } else if (t.equals("EvidenceVariable")) {
-      return parseEvidenceVariable(json);
-    } else if (t.equals("ExampleScenario")) {
-      return parseExampleScenario(json);
-    } else if (t.equals("ExplanationOfBenefit")) {
-      return parseExplanationOfBenefit(json);
-    } else if (t.equals("FamilyMemberHistory")) {
-      return parseFamilyMemberHistory(json);
-    } else if (t.equals("Flag")) {
-      return parseFlag(json);
-    } else if (t.equals("FormularyItem")) {
-      return parseFormularyItem(json);
-    } else if (t.equals("GenomicStudy")) {
-      return parseGenomicStudy(json);
-    } else if (t.equals("Goal")) {
-      return parseGoal(json);
-    } else if (t.equals("GraphDefinition")) {
-      return parseGraphDefinition(json);
-    } else if (t.equals("Group")) {
-      return parseGroup(json);
-    } else if (t.equals("GuidanceResponse")) {
-      return parseGuidanceResponse(json);
-    } else if (t.equals("HealthcareService")) {
-      return parseHealthcareService(json);
-    } else if (t.equals("ImagingSelection")) {
-      return parseImagingSelection(json);
-    } else if (t.equals("ImagingStudy")) {
-      return parseImagingStudy(json);
-    } else if (t.equals("Immunization")) {
-      return parseImmunization(json);
-    } else if (t.equals("ImmunizationEvaluation")) {
-      return parseImmunizationEvaluation(json);
-    } else if (t.equals("ImmunizationRecommendation")) {
-      return parseImmunizationRecommendation(json);
-    } else if (t.equals("ImplementationGuide")) {
-      return parseImplementationGuide(json);
-    } else if (t.equals("Ingredient")) {
-      return parseIngredient(json);
-    } else if (t.equals("InsurancePlan")) {
-      return parseInsurancePlan(json);
-    } else if (t.equals("InventoryItem")) {
-      return parseInventoryItem(json);
-    } else if (t.equals("InventoryReport")) {
-      return parseInventoryReport(json);
-    } else if (t.equals("Invoice")) {
-      return parseInvoice(json);
-    } else if (t.equals("Library")) {
-      return parseLibrary(json);
-    } else if (t.equals("Linkage")) {
-      return parseLinkage(json);
-    } else if (t.equals("List")) {
-      return parseListResource(json);
-    } else if (t.equals("Location")) {
-      return parseLocation(json);
-    } else if (t.equals("ManufacturedItemDefinition")) {
-      return parseManufacturedItemDefinition(json);
-    } else if (t.equals("Measure")) {
-      return parseMeasure(json);
-    } else if (t.equals("MeasureReport")) {
-      return parseMeasureReport(json);
-    } else if (t.equals("Medication")) {
-      return parseMedication(json);
-    } else if (t.equals("MedicationAdministration")) {
-      return parseMedicationAdministration(json);
-    } else if (t.equals("MedicationDispense")) {
-      return parseMedicationDispense(json);
-    } else if (t.equals("MedicationKnowledge")) {
-      return parseMedicationKnowledge(json);
-    } else if (t.equals("MedicationRequest")) {
-      return parseMedicationRequest(json);
-    } else if (t.equals("MedicationStatement")) {
-      return parseMedicationStatement(json);
-    } else if (t.equals("MedicinalProductDefinition")) {
-      return parseMedicinalProductDefinition(json);
-    } else if (t.equals("MessageDefinition")) {
-      return parseMessageDefinition(json);
-    } else if (t.equals("MessageHeader")) {
-      return parseMessageHeader(json);
-    } else if (t.equals("MolecularSequence")) {
-      return parseMolecularSequence(json);
-    } else if (t.equals("NamingSystem")) {
-      return parseNamingSystem(json);
-    } else if (t.equals("NutritionIntake")) {
-      return parseNutritionIntake(json);
-    } else if (t.equals("NutritionOrder")) {
-      return parseNutritionOrder(json);
-    } else if (t.equals("NutritionProduct")) {
-      return parseNutritionProduct(json);
-    } else if (t.equals("Observation")) {
-      return parseObservation(json);
-    } else if (t.equals("ObservationDefinition")) {
-      return parseObservationDefinition(json);
-    } else if (t.equals("OperationDefinition")) {
-      return parseOperationDefinition(json);
-    } else if (t.equals("OperationOutcome")) {
-      return parseOperationOutcome(json);
-    } else if (t.equals("Organization")) {
-      return parseOrganization(json);
-    } else if (t.equals("OrganizationAffiliation")) {
-      return parseOrganizationAffiliation(json);
-    } else if (t.equals("PackagedProductDefinition")) {
-      return parsePackagedProductDefinition(json);
-    } else if (t.equals("Parameters")) {
-      return parseParameters(json);
-    } else if (t.equals("Patient")) {
-      return parsePatient(json);
-    } else if (t.equals("PaymentNotice")) {
-      return parsePaymentNotice(json);
-    } else if (t.equals("PaymentReconciliation")) {
-      return parsePaymentReconciliation(json);
-    } else if (t.equals("Permission")) {
-      return parsePermission(json);
-    } else if (t.equals("Person")) {
-      return parsePerson(json);
-    } else if (t.equals("PlanDefinition")) {
-      return parsePlanDefinition(json);
-    } else if (t.equals("Practitioner")) {
-      return parsePractitioner(json);
-    } else if (t.equals("PractitionerRole")) {
-      return parsePractitionerRole(json);
-    } else if (t.equals("Procedure")) {
-      return parseProcedure(json);
-    } else if (t.equals("Provenance")) {
-      return parseProvenance(json);
-    } else if (t.equals("Questionnaire")) {
-      return parseQuestionnaire(json);
-    } else if (t.equals("QuestionnaireResponse")) {
-      return parseQuestionnaireResponse(json);
-    } else if (t.equals("RegulatedAuthorization")) {
-      return parseRegulatedAuthorization(json);
-    } else if (t.equals("RelatedPerson")) {
-      return parseRelatedPerson(json);
-    } else if (t.equals("RequestOrchestration")) {
-      return parseRequestOrchestration(json);
-    } else if (t.equals("Requirements")) {
-      return parseRequirements(json);
-    } else if (t.equals("ResearchStudy")) {
-      return parseResearchStudy(json);
-    } else if (t.equals("ResearchSubject")) {
-      return parseResearchSubject(json);
-    } else if (t.equals("RiskAssessment")) {
-      return parseRiskAssessment(json);
-    } else if (t.equals("Schedule")) {
-      return parseSchedule(json);
-    } else if (t.equals("SearchParameter")) {
-      return parseSearchParameter(json);
-    } else if (t.equals("ServiceRequest")) {
-      return parseServiceRequest(json);
-    } else if (t.equals("Slot")) {
-      return parseSlot(json);
-    } else if (t.equals("Specimen")) {
-      return parseSpecimen(json);
-    } else if (t.equals("SpecimenDefinition")) {
-      return parseSpecimenDefinition(json);
-    } else if (t.equals("StructureDefinition")) {
-      return parseStructureDefinition(json);
-    } else if (t.equals("StructureMap")) {
-      return parseStructureMap(json);
-    } else if (t.equals("Subscription")) {
-      return parseSubscription(json);
-    } else if (t.equals("SubscriptionStatus")) {
-      return parseSubscriptionStatus(json);
-    } else if (t.equals("SubscriptionTopic")) {
-      return parseSubscriptionTopic(json);
-    } else if (t.equals("Substance")) {
-      return parseSubstance(json);
-    } else if (t.equals("SubstanceDefinition")) {
-      return parseSubstanceDefinition(json);
-    } else if (t.equals("SubstanceNucleicAcid")) {
-      return parseSubstanceNucleicAcid(json);
-    } else if (t.equals("SubstancePolymer")) {
-      return parseSubstancePolymer(json);
-    } else if (t.equals("SubstanceProtein")) {
-      return parseSubstanceProtein(json);
-    } else if (t.equals("SubstanceReferenceInformation")) {
-      return parseSubstanceReferenceInformation(json);
-    } else if (t.equals("SubstanceSourceMaterial")) {
-      return parseSubstanceSourceMaterial(json);
-    } else if (t.equals("SupplyDelivery")) {
-      return parseSupplyDelivery(json);
-    } else if (t.equals("SupplyRequest")) {
-      return parseSupplyRequest(json);
-    } else if (t.equals("Task")) {
-      return parseTask(json);
-    } else if (t.equals("TerminologyCapabilities")) {
-      return parseTerminologyCapabilities(json);
-    } else if (t.equals("TestPlan")) {
-      return parseTestPlan(json);
-    } else if (t.equals("TestReport")) {
-      return parseTestReport(json);
-    } else if (t.equals("TestScript")) {
-      return parseTestScript(json);
-    } else if (t.equals("Transport")) {
-      return parseTransport(json);
-    } else if (t.equals("ValueSet")) {
-      return parseValueSet(json);
-    } else if (t.equals("VerificationResult")) {
-      return parseVerificationResult(json);
-    } else if (t.equals("VisionPrescription")) {
-      return parseVisionPrescription(json);
-
-    } else {
+    }
+    switch (t) {
+    case "Account": return parseAccount(json);
+    case "ActivityDefinition": return parseActivityDefinition(json);
+    case "ActorDefinition": return parseActorDefinition(json);
+    case "AdministrableProductDefinition": return parseAdministrableProductDefinition(json);
+    case "AdverseEvent": return parseAdverseEvent(json);
+    case "AllergyIntolerance": return parseAllergyIntolerance(json);
+    case "Appointment": return parseAppointment(json);
+    case "AppointmentResponse": return parseAppointmentResponse(json);
+    case "ArtifactAssessment": return parseArtifactAssessment(json);
+    case "AuditEvent": return parseAuditEvent(json);
+    case "Basic": return parseBasic(json);
+    case "Binary": return parseBinary(json);
+    case "BiologicallyDerivedProduct": return parseBiologicallyDerivedProduct(json);
+    case "BiologicallyDerivedProductDispense": return parseBiologicallyDerivedProductDispense(json);
+    case "BodyStructure": return parseBodyStructure(json);
+    case "Bundle": return parseBundle(json);
+    case "CapabilityStatement": return parseCapabilityStatement(json);
+    case "CarePlan": return parseCarePlan(json);
+    case "CareTeam": return parseCareTeam(json);
+    case "ChargeItem": return parseChargeItem(json);
+    case "ChargeItemDefinition": return parseChargeItemDefinition(json);
+    case "Citation": return parseCitation(json);
+    case "Claim": return parseClaim(json);
+    case "ClaimResponse": return parseClaimResponse(json);
+    case "ClinicalImpression": return parseClinicalImpression(json);
+    case "ClinicalUseDefinition": return parseClinicalUseDefinition(json);
+    case "CodeSystem": return parseCodeSystem(json);
+    case "Communication": return parseCommunication(json);
+    case "CommunicationRequest": return parseCommunicationRequest(json);
+    case "CompartmentDefinition": return parseCompartmentDefinition(json);
+    case "Composition": return parseComposition(json);
+    case "ConceptMap": return parseConceptMap(json);
+    case "Condition": return parseCondition(json);
+    case "ConditionDefinition": return parseConditionDefinition(json);
+    case "Consent": return parseConsent(json);
+    case "Contract": return parseContract(json);
+    case "Coverage": return parseCoverage(json);
+    case "CoverageEligibilityRequest": return parseCoverageEligibilityRequest(json);
+    case "CoverageEligibilityResponse": return parseCoverageEligibilityResponse(json);
+    case "DetectedIssue": return parseDetectedIssue(json);
+    case "Device": return parseDevice(json);
+    case "DeviceAssociation": return parseDeviceAssociation(json);
+    case "DeviceDefinition": return parseDeviceDefinition(json);
+    case "DeviceDispense": return parseDeviceDispense(json);
+    case "DeviceMetric": return parseDeviceMetric(json);
+    case "DeviceRequest": return parseDeviceRequest(json);
+    case "DeviceUsage": return parseDeviceUsage(json);
+    case "DiagnosticReport": return parseDiagnosticReport(json);
+    case "DocumentReference": return parseDocumentReference(json);
+    case "Encounter": return parseEncounter(json);
+    case "EncounterHistory": return parseEncounterHistory(json);
+    case "Endpoint": return parseEndpoint(json);
+    case "EnrollmentRequest": return parseEnrollmentRequest(json);
+    case "EnrollmentResponse": return parseEnrollmentResponse(json);
+    case "EpisodeOfCare": return parseEpisodeOfCare(json);
+    case "EventDefinition": return parseEventDefinition(json);
+    case "Evidence": return parseEvidence(json);
+    case "EvidenceReport": return parseEvidenceReport(json);
+    case "EvidenceVariable": return parseEvidenceVariable(json);
+    case "ExampleScenario": return parseExampleScenario(json);
+    case "ExplanationOfBenefit": return parseExplanationOfBenefit(json);
+    case "FamilyMemberHistory": return parseFamilyMemberHistory(json);
+    case "Flag": return parseFlag(json);
+    case "FormularyItem": return parseFormularyItem(json);
+    case "GenomicStudy": return parseGenomicStudy(json);
+    case "Goal": return parseGoal(json);
+    case "GraphDefinition": return parseGraphDefinition(json);
+    case "Group": return parseGroup(json);
+    case "GuidanceResponse": return parseGuidanceResponse(json);
+    case "HealthcareService": return parseHealthcareService(json);
+    case "ImagingSelection": return parseImagingSelection(json);
+    case "ImagingStudy": return parseImagingStudy(json);
+    case "Immunization": return parseImmunization(json);
+    case "ImmunizationEvaluation": return parseImmunizationEvaluation(json);
+    case "ImmunizationRecommendation": return parseImmunizationRecommendation(json);
+    case "ImplementationGuide": return parseImplementationGuide(json);
+    case "Ingredient": return parseIngredient(json);
+    case "InsurancePlan": return parseInsurancePlan(json);
+    case "InventoryItem": return parseInventoryItem(json);
+    case "InventoryReport": return parseInventoryReport(json);
+    case "Invoice": return parseInvoice(json);
+    case "Library": return parseLibrary(json);
+    case "Linkage": return parseLinkage(json);
+    case "List": return parseListResource(json);
+    case "Location": return parseLocation(json);
+    case "ManufacturedItemDefinition": return parseManufacturedItemDefinition(json);
+    case "Measure": return parseMeasure(json);
+    case "MeasureReport": return parseMeasureReport(json);
+    case "Medication": return parseMedication(json);
+    case "MedicationAdministration": return parseMedicationAdministration(json);
+    case "MedicationDispense": return parseMedicationDispense(json);
+    case "MedicationKnowledge": return parseMedicationKnowledge(json);
+    case "MedicationRequest": return parseMedicationRequest(json);
+    case "MedicationStatement": return parseMedicationStatement(json);
+    case "MedicinalProductDefinition": return parseMedicinalProductDefinition(json);
+    case "MessageDefinition": return parseMessageDefinition(json);
+    case "MessageHeader": return parseMessageHeader(json);
+    case "MolecularSequence": return parseMolecularSequence(json);
+    case "NamingSystem": return parseNamingSystem(json);
+    case "NutritionIntake": return parseNutritionIntake(json);
+    case "NutritionOrder": return parseNutritionOrder(json);
+    case "NutritionProduct": return parseNutritionProduct(json);
+    case "Observation": return parseObservation(json);
+    case "ObservationDefinition": return parseObservationDefinition(json);
+    case "OperationDefinition": return parseOperationDefinition(json);
+    case "OperationOutcome": return parseOperationOutcome(json);
+    case "Organization": return parseOrganization(json);
+    case "OrganizationAffiliation": return parseOrganizationAffiliation(json);
+    case "PackagedProductDefinition": return parsePackagedProductDefinition(json);
+    case "Parameters": return parseParameters(json);
+    case "Patient": return parsePatient(json);
+    case "PaymentNotice": return parsePaymentNotice(json);
+    case "PaymentReconciliation": return parsePaymentReconciliation(json);
+    case "Permission": return parsePermission(json);
+    case "Person": return parsePerson(json);
+    case "PlanDefinition": return parsePlanDefinition(json);
+    case "Practitioner": return parsePractitioner(json);
+    case "PractitionerRole": return parsePractitionerRole(json);
+    case "Procedure": return parseProcedure(json);
+    case "Provenance": return parseProvenance(json);
+    case "Questionnaire": return parseQuestionnaire(json);
+    case "QuestionnaireResponse": return parseQuestionnaireResponse(json);
+    case "RegulatedAuthorization": return parseRegulatedAuthorization(json);
+    case "RelatedPerson": return parseRelatedPerson(json);
+    case "RequestOrchestration": return parseRequestOrchestration(json);
+    case "Requirements": return parseRequirements(json);
+    case "ResearchStudy": return parseResearchStudy(json);
+    case "ResearchSubject": return parseResearchSubject(json);
+    case "RiskAssessment": return parseRiskAssessment(json);
+    case "Schedule": return parseSchedule(json);
+    case "SearchParameter": return parseSearchParameter(json);
+    case "ServiceRequest": return parseServiceRequest(json);
+    case "Slot": return parseSlot(json);
+    case "Specimen": return parseSpecimen(json);
+    case "SpecimenDefinition": return parseSpecimenDefinition(json);
+    case "StructureDefinition": return parseStructureDefinition(json);
+    case "StructureMap": return parseStructureMap(json);
+    case "Subscription": return parseSubscription(json);
+    case "SubscriptionStatus": return parseSubscriptionStatus(json);
+    case "SubscriptionTopic": return parseSubscriptionTopic(json);
+    case "Substance": return parseSubstance(json);
+    case "SubstanceDefinition": return parseSubstanceDefinition(json);
+    case "SubstanceNucleicAcid": return parseSubstanceNucleicAcid(json);
+    case "SubstancePolymer": return parseSubstancePolymer(json);
+    case "SubstanceProtein": return parseSubstanceProtein(json);
+    case "SubstanceReferenceInformation": return parseSubstanceReferenceInformation(json);
+    case "SubstanceSourceMaterial": return parseSubstanceSourceMaterial(json);
+    case "SupplyDelivery": return parseSupplyDelivery(json);
+    case "SupplyRequest": return parseSupplyRequest(json);
+    case "Task": return parseTask(json);
+    case "TerminologyCapabilities": return parseTerminologyCapabilities(json);
+    case "TestPlan": return parseTestPlan(json);
+    case "TestReport": return parseTestReport(json);
+    case "TestScript": return parseTestScript(json);
+    case "Transport": return parseTransport(json);
+    case "ValueSet": return parseValueSet(json);
+    case "VerificationResult": return parseVerificationResult(json);
+    case "VisionPrescription": return parseVisionPrescription(json);
+
+    default:
       throw new FHIRFormatError("Unknown.Unrecognised resource type '"+t+"' (in property 'resourceType')");
     }
   }
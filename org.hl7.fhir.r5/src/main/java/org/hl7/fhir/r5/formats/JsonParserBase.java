@@ -61,13 +61,17 @@ POSSIBILITY OF SUCH DAMAGE.
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.hl7.fhir.exceptions.FHIRFormatError;
 import org.hl7.fhir.instance.model.api.IIdType;
+import org.hl7.fhir.r5.model.Bundle;
 import org.hl7.fhir.r5.model.DataType;
 import org.hl7.fhir.r5.model.DomainResource;
 import org.hl7.fhir.r5.model.Element;
@@ -87,6 +91,8 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -112,6 +118,7 @@ public abstract class JsonParserBase extends ParserBase implements IParser {
   // -- in descendent generated code --------------------------------------
   
   abstract protected Resource parseResource(JsonObject json) throws IOException, FHIRFormatError;
+  abstract protected Bundle.BundleEntryComponent parseBundleEntryComponent(JsonObject json) throws IOException, FHIRFormatError;
   abstract protected DataType parseType(JsonObject json, String type) throws IOException, FHIRFormatError;
   abstract protected DataType parseAnyType(JsonObject json, String type) throws IOException, FHIRFormatError;
   abstract protected DataType parseType(String prefix, JsonObject json) throws IOException, FHIRFormatError;
@@ -129,6 +136,9 @@ public abstract class JsonParserBase extends ParserBase implements IParser {
    */
   @Override
   public Resource parse(InputStream input) throws IOException, FHIRFormatError {
+    if (streaming && !allowComments && !allowUnknownContent) {
+      return parseStream(input);
+    }
     JsonObject json = loadJson(input);
     return parseResource(json);
   }
@@ -237,6 +247,46 @@ public abstract class JsonParserBase extends ParserBase implements IParser {
     }
   }
   
+  /**
+   * Reads the resource from a token stream rather than loading the whole source into a string and a JSON tree first.
+   * 
+   * The resources still parse from JSON objects, but the entries in a Bundle are read and parsed one at a time, so 
+   * at most one entry is held as a JSON tree. This relies on resourceType coming before entry, which it always does
+   * in practice; if it doesn't, the entries are read into the tree along with everything else
+   */
+  private Resource parseStream(InputStream input) throws IOException, FHIRFormatError {
+    JsonReader reader = new JsonReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    reader.setLenient(true);
+    if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+      throw new FHIRFormatError("Unable to find resource type - maybe not a FHIR resource?");
+    }
+    JsonObject json = new JsonObject();
+    List<Bundle.BundleEntryComponent> entries = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if ("entry".equals(name) && json.has("resourceType") && "Bundle".equals(json.get("resourceType").getAsString()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        entries = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+          entries.add(parseBundleEntryComponent(com.google.gson.JsonParser.parseReader(reader).getAsJsonObject()));
+        }
+        reader.endArray();
+      } else {
+        json.add(name, com.google.gson.JsonParser.parseReader(reader));
+      }
+    }
+    reader.endObject();
+    if (reader.peek() != JsonToken.END_DOCUMENT) {
+      throw new JsonSyntaxException("Did not consume the entire document.");
+    }
+    Resource res = parseResource(json);
+    if (entries != null) {
+      ((Bundle) res).getEntry().addAll(entries);
+    }
+    return res;
+  }
+
   protected void parseElementProperties(JsonObject json, Element e) throws IOException, FHIRFormatError {
     if (json != null && json.has("id"))
       e.setId(json.get("id").getAsString());
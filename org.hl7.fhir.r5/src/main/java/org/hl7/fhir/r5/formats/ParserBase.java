@@ -159,6 +159,20 @@ public abstract class ParserBase extends FormatUtilities implements IParser {
     this.allowComments = allowComments;
   }
 
+  /**
+   * whether to read the content as a stream of tokens rather than loading it all into a document first
+   */
+  protected boolean streaming;
+
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  public IParser setStreaming(boolean streaming) {
+    this.streaming = streaming;
+    return this;
+  }
+
   protected OutputStyle style = OutputStyle.NORMAL;
   
   public OutputStyle getOutputStyle() {
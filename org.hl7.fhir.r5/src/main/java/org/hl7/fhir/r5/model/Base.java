@@ -497,6 +497,10 @@ public abstract class Base implements Serializable, IBase, IElement {
     this.validationInfo.add(vi);
     return vi;
   }
+
+  public void clearValidationInfo() {
+    validationInfo = null;
+  }
   
   
   
@@ -43,6 +43,25 @@ public class ExpressionNode {
 		Name, Function, Constant, Group, Unary
 	}
 
+	/**
+	 * How a name is evaluated, worked out once when the name is set rather than each time the node is evaluated
+	 */
+	public enum NameKind {
+		This, Total, Index, TypeName, Element;
+
+		public static NameKind fromName(String name) {
+			if (name == null || name.isEmpty()) {
+				return Element;
+			}
+			switch (name) {
+			case "$this": return This;
+			case "$total": return Total;
+			case "$index": return Index;
+			default: return Character.isUpperCase(name.charAt(0)) ? TypeName : Element;
+			}
+		}
+	}
+
   public enum Function {
     Custom, 
     
@@ -365,6 +384,7 @@ public class ExpressionNode {
 	private String uniqueId;
 	private Kind kind;
 	private String name;
+	private NameKind nameKind = NameKind.Element;
 	private Base constant;
 	private Function function;
 	private List<ExpressionNode> parameters; // will be created if there is a function
@@ -456,6 +476,10 @@ public class ExpressionNode {
 	}
 	public void setName(String name) {
 		this.name = name;
+		this.nameKind = NameKind.fromName(name);
+	}
+	public NameKind getNameKind() {
+		return nameKind;
 	}
 	public Base getConstant() {
 		return constant;
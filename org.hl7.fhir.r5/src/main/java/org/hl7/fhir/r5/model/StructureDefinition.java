@@ -5194,7 +5194,7 @@ public String describeType() {
     } 
   }
 
-  private boolean generatedSnapshot;
+  private volatile boolean generatedSnapshot; // read without locking by SimpleWorkerContext.fetchResource
   private boolean generatingSnapshot;
 
   public boolean isGeneratedSnapshot() {
@@ -0,0 +1,439 @@
+package org.hl7.fhir.r5.terminologies;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hl7.fhir.exceptions.FHIRException;
+import org.hl7.fhir.r5.context.IWorkerContext;
+import org.hl7.fhir.r5.context.IWorkerContext.ValidationResult;
+import org.hl7.fhir.r5.context.SimpleWorkerContext;
+import org.hl7.fhir.r5.model.Bundle;
+import org.hl7.fhir.r5.model.Bundle.BundleEntryComponent;
+import org.hl7.fhir.r5.model.Bundle.BundleType;
+import org.hl7.fhir.r5.model.CanonicalResource;
+import org.hl7.fhir.r5.model.CapabilityStatement;
+import org.hl7.fhir.r5.model.CodeSystem;
+import org.hl7.fhir.r5.model.CodeSystem.ConceptDefinitionComponent;
+import org.hl7.fhir.r5.model.CodeSystem.ConceptDefinitionDesignationComponent;
+import org.hl7.fhir.r5.model.CodeableConcept;
+import org.hl7.fhir.r5.model.Coding;
+import org.hl7.fhir.r5.model.CodeSystem.CodeSystemContentMode;
+import org.hl7.fhir.r5.model.Parameters;
+import org.hl7.fhir.r5.model.Parameters.ParametersParameterComponent;
+import org.hl7.fhir.r5.model.Resource;
+import org.hl7.fhir.r5.model.TerminologyCapabilities;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.r5.model.ValueSet.ValueSetExpansionContainsComponent;
+import org.hl7.fhir.r5.terminologies.ValueSetExpander.TerminologyServiceErrorClass;
+import org.hl7.fhir.r5.terminologies.ValueSetExpander.ValueSetExpansionOutcome;
+import org.hl7.fhir.r5.utils.client.network.ClientHeaders;
+import org.hl7.fhir.utilities.FhirPublication;
+import org.hl7.fhir.utilities.ToolingClientLogger;
+import org.hl7.fhir.utilities.validation.ValidationMessage.IssueSeverity;
+import org.hl7.fhir.utilities.validation.ValidationOptions;
+
+/**
+ * A terminology client that doesn't talk to a server. $validate-code, $expand and $lookup are answered from the
+ * CodeSystems and ValueSets in a worker context, using the same ValueSetCheckerSimple and ValueSetExpanderSimple
+ * logic that the context uses for content it knows about. This is for places where there is no network access
+ * to a terminology server: only the code systems that are loaded can be checked (so no SNOMED CT, LOINC etc. unless
+ * they have been loaded).
+ *
+ * The usual store is a context image (see WorkerContextImage) along with a closure file that holds the precomputed
+ * membership of each value set that could be expanded, so the common case - an active code that is in the value set - 
+ * is a single lookup. Build them once with {@link #buildClosures()} and {@link #saveClosures(String)} (or use the 
+ * validator's -txImage mode), and then use {@link #fromImage(String)}.
+ *
+ * The context that holds the terminology content must not itself use this client as its terminology server.
+ */
+public class LocalTerminologyClient implements TerminologyClient {
+
+  public static final String ADDRESS_PREFIX = "local:";
+  public static final String CLOSURE_EXTENSION = ".closures";
+
+  private static final byte[] MAGIC = "FHIRTXCL".getBytes(StandardCharsets.US_ASCII);
+  private static final int FORMAT_VERSION = 2;
+
+  private final IWorkerContext context;
+  private final String address;
+  private ClientHeaders clientHeaders = new ClientHeaders();
+  private int retryCount;
+  // ValueSet url|version -> system|code -> display
+  private final Map<String, Map<String, String>> closures = new HashMap<>();
+
+  public LocalTerminologyClient(IWorkerContext context) {
+    this(context, ADDRESS_PREFIX);
+  }
+
+  private LocalTerminologyClient(IWorkerContext context, String address) {
+    this.context = context;
+    this.address = address;
+  }
+
+  /**
+   * Load a client from a context image, along with its closure file (the image name + {@link #CLOSURE_EXTENSION}) if
+   * there is one.
+   */
+  public static LocalTerminologyClient fromImage(String filename) throws IOException, FHIRException {
+    SimpleWorkerContext ctxt = new SimpleWorkerContext.SimpleWorkerContextBuilder().fromSnapshotImage(filename);
+    ctxt.setCanRunWithoutTerminology(true);
+    ctxt.setNoTerminologyServer(true);
+    LocalTerminologyClient client = new LocalTerminologyClient(ctxt, ADDRESS_PREFIX + filename);
+    if (new File(filename + CLOSURE_EXTENSION).exists()) {
+      client.loadClosures(filename + CLOSURE_EXTENSION);
+    }
+    return client;
+  }
+
+  public IWorkerContext getContext() {
+    return context;
+  }
+
+  // --- closures ----------------------------------------------------------------------------------------------------
+
+  /**
+   * Expand every value set in the context, and keep the membership of the ones that expand completely. Value sets
+   * that can't be expanded (too big, unknown code systems) are checked the long way when they are used. So are codes
+   * that are inactive or deprecated, or that come from a code system that isn't complete, so that they get the 
+   * same messages as they would from the checker.
+   *
+   * @return the number of value sets that were indexed
+   */
+  public int buildClosures() {
+    closures.clear();
+    for (ValueSet vs : context.fetchResourcesByType(ValueSet.class)) {
+      try {
+        ValueSetExpansionOutcome vso = new ValueSetExpanderSimple(context).expand(vs, new Parameters());
+        if (vso.getValueset() != null && vso.getError() == null) {
+          Map<String, String> members = new HashMap<>();
+          addMembers(members, vso.getValueset(), vso.getValueset().getExpansion().getContains());
+          closures.put(vs.getVUrl(), members);
+        }
+      } catch (Exception e) {
+        // not indexed
+      }
+    }
+    return closures.size();
+  }
+
+  private void addMembers(Map<String, String> members, ValueSet vs, List<ValueSetExpansionContainsComponent> contains) {
+    for (ValueSetExpansionContainsComponent c : contains) {
+      if (c.hasCode() && !c.getAbstract() && !c.getInactive() && !ValueSetUtilities.isDeprecated(vs, c) && isActiveInCodeSystem(c.getSystem(), c.getCode())) {
+        members.put(c.getSystem() + "|" + c.getCode(), c.getDisplay());
+      }
+      addMembers(members, vs, c.getContains());
+    }
+  }
+
+  private boolean isActiveInCodeSystem(String system, String code) {
+    CodeSystem cs = context.fetchCodeSystem(system);
+    if (cs == null || cs.getContent() != CodeSystemContentMode.COMPLETE) {
+      return false;
+    }
+    ConceptDefinitionComponent cd = CodeSystemUtilities.findCode(cs.getConcept(), code);
+    return cd != null && !CodeSystemUtilities.isInactive(cs, cd, false) && !CodeSystemUtilities.isInactive(cs, cd) && !CodeSystemUtilities.isDeprecated(cs, cd, false);
+  }
+
+  public void saveClosures(String filename) throws IOException {
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)))) {
+      out.write(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(closures.size());
+      for (String url : closures.keySet()) {
+        Map<String, String> members = closures.get(url);
+        writeString(out, url);
+        out.writeInt(members.size());
+        for (String key : members.keySet()) {
+          writeString(out, key);
+          writeString(out, members.get(key));
+        }
+      }
+    }
+  }
+
+  public void loadClosures(String filename) throws IOException, FHIRException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(filename)))) {
+      byte[] magic = new byte[MAGIC.length];
+      in.readFully(magic);
+      if (!Arrays.equals(magic, MAGIC) || in.readInt() != FORMAT_VERSION) {
+        throw new FHIRException("The file " + filename + " is not a terminology closure file that this version can read");
+      }
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        String url = readString(in);
+        int mc = in.readInt();
+        Map<String, String> members = new HashMap<>(mc * 2);
+        for (int j = 0; j < mc; j++) {
+          members.put(readString(in), readString(in));
+        }
+        closures.put(url, members);
+      }
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    if (s == null) {
+      out.writeInt(-1);
+    } else {
+      byte[] b = s.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(b.length);
+      out.write(b);
+    }
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length == -1) {
+      return null;
+    }
+    byte[] b = new byte[length];
+    in.readFully(b);
+    return new String(b, StandardCharsets.UTF_8);
+  }
+
+  // --- operations --------------------------------------------------------------------------------------------------
+
+  @Override
+  public Parameters validateCS(Parameters pin) throws FHIRException {
+    return validate(pin, null);
+  }
+
+  @Override
+  public Parameters validateVS(Parameters pin) throws FHIRException {
+    ValueSet vs = null;
+    if (pin.hasParameter("valueSet")) {
+      vs = (ValueSet) pin.getParameter("valueSet").getResource();
+    } else if (pin.hasParameterValue("url")) {
+      vs = context.fetchResource(ValueSet.class, pin.getParameterValue("url").primitiveValue());
+      if (vs == null) {
+        return result(new ValidationResult(IssueSeverity.ERROR, "Unable to find value set " + pin.getParameterValue("url").primitiveValue(), TerminologyServiceErrorClass.VALUESET_UNSUPPORTED));
+      }
+    }
+    return validate(pin, vs);
+  }
+
+  private Parameters validate(Parameters pin, ValueSet vs) {
+    ValidationOptions options = ValidationOptions.defaults().noServer();
+    if (pin.hasParameterValue("displayLanguage")) {
+      options = options.setLanguage(pin.getParameterValue("displayLanguage").primitiveValue());
+    }
+    if (pin.getParameterBool("implySystem")) {
+      options = options.guessSystem();
+    }
+    ValueSetCheckerSimple vsc = new ValueSetCheckerSimple(options, vs, context);
+    if (pin.hasParameterValue("codeableConcept")) {
+      return result(vsc.validateCode((CodeableConcept) pin.getParameterValue("codeableConcept")));
+    }
+    Coding coding;
+    if (pin.hasParameterValue("coding")) {
+      coding = (Coding) pin.getParameterValue("coding");
+    } else if (pin.hasParameterValue("code")) {
+      coding = new Coding(pin.hasParameterValue("system") ? pin.getParameterValue("system").primitiveValue() : null, pin.getParameterValue("code").primitiveValue(),
+          pin.hasParameterValue("display") ? pin.getParameterValue("display").primitiveValue() : null);
+      if (pin.hasParameterValue("version")) {
+        coding.setVersion(pin.getParameterValue("version").primitiveValue());
+      }
+    } else {
+      throw new FHIRException("No code to validate");
+    }
+    if (vs != null && coding.hasSystem() && !coding.hasVersion()) {
+      Map<String, String> members = closures.get(vs.getVUrl());
+      String key = coding.getSystem() + "|" + coding.getCode();
+      // only the simple case is answered from the closure: anything that produces a message goes the long way
+      if (members != null && members.containsKey(key) && (!coding.hasDisplay() || coding.getDisplay().equals(members.get(key)))) {
+        return result(new ValidationResult(coding.getSystem(), new ConceptDefinitionComponent().setCode(coding.getCode()).setDisplay(members.get(key))));
+      }
+    }
+    return result(vsc.validateCode(coding));
+  }
+
+  private Parameters result(ValidationResult vr) {
+    Parameters p = new Parameters();
+    p.addParameter("result", vr.isOk());
+    if (vr.getMessage() != null) {
+      p.addParameter("message", vr.getMessage());
+    }
+    if (vr.getSystem() != null) {
+      p.addParameter("system", vr.getSystem());
+    }
+    if (vr.getCode() != null) {
+      p.addParameter("code", vr.getCode());
+    }
+    if (vr.getDisplay() != null) {
+      p.addParameter("display", vr.getDisplay());
+    }
+    if (vr.getErrorClass() == TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED) {
+      p.addParameter("cause", "not-found");
+    } else if (vr.getErrorClass() == TerminologyServiceErrorClass.VALUESET_UNSUPPORTED) {
+      p.addParameter("cause", "not-supported");
+    } else if (vr.getErrorClass() == TerminologyServiceErrorClass.UNKNOWN) {
+      p.addParameter("cause", "unknown");
+    }
+    return p;
+  }
+
+  @Override
+  public ValueSet expandValueset(ValueSet vs, Parameters p, Map<String, String> params) throws FHIRException {
+    ValueSetExpansionOutcome vso = new ValueSetExpanderSimple(context).expand(vs, p == null ? new Parameters() : p);
+    if (vso.getValueset() == null) {
+      throw new FHIRException(vso.getError());
+    }
+    return vso.getValueset();
+  }
+
+  @Override
+  public Parameters lookupCode(Map<String, String> params) throws FHIRException {
+    String system = params.get("system");
+    String code = params.get("code");
+    CodeSystem cs = params.containsKey("version") ? context.fetchCodeSystem(system, params.get("version")) : context.fetchCodeSystem(system);
+    if (cs == null) {
+      throw new FHIRException("The code system " + system + " is not known");
+    }
+    ConceptDefinitionComponent cd = CodeSystemUtilities.findCode(cs.getConcept(), code);
+    if (cd == null) {
+      throw new FHIRException("The code " + code + " is not valid in the code system " + system);
+    }
+    Parameters p = new Parameters();
+    p.addParameter("name", cs.getName());
+    if (cs.hasVersion()) {
+      p.addParameter("version", cs.getVersion());
+    }
+    if (cd.hasDisplay()) {
+      p.addParameter("display", cd.getDisplay());
+    }
+    for (ConceptDefinitionDesignationComponent d : cd.getDesignation()) {
+      ParametersParameterComponent pp = p.addParameter().setName("designation");
+      if (d.hasLanguage()) {
+        pp.addPart().setName("language").setValue(d.getLanguageElement());
+      }
+      if (d.hasUse()) {
+        pp.addPart().setName("use").setValue(d.getUse());
+      }
+      pp.addPart().setName("value").setValue(d.getValueElement());
+    }
+    return p;
+  }
+
+  @Override
+  public Bundle validateBatch(Bundle batch) {
+    Bundle resp = new Bundle();
+    resp.setType(BundleType.BATCHRESPONSE);
+    for (BundleEntryComponent be : batch.getEntry()) {
+      BundleEntryComponent re = resp.addEntry();
+      try {
+        Parameters pin = (Parameters) be.getResource();
+        re.setResource(be.getRequest().getUrl().startsWith("ValueSet") ? validateVS(pin) : validateCS(pin));
+        re.getResponse().setStatus("200");
+      } catch (Exception e) {
+        re.getResponse().setStatus("500");
+      }
+    }
+    return resp;
+  }
+
+  @Override
+  public CanonicalResource read(String type, String id) {
+    Resource r = context.fetchResourceById(type, id);
+    return r instanceof CanonicalResource ? (CanonicalResource) r : null;
+  }
+
+  // --- capabilities and settings -----------------------------------------------------------------------------------
+
+  @Override
+  public TerminologyCapabilities getTerminologyCapabilities() throws FHIRException {
+    TerminologyCapabilities tc = new TerminologyCapabilities();
+    for (CodeSystem cs : context.fetchResourcesByType(CodeSystem.class)) {
+      if (cs.getContent() == CodeSystemContentMode.COMPLETE) {
+        tc.addCodeSystem().setUri(cs.getUrl());
+      }
+    }
+    return tc;
+  }
+
+  @Override
+  public CapabilityStatement getCapabilitiesStatementQuick() throws FHIRException {
+    CapabilityStatement cs = new CapabilityStatement();
+    cs.getSoftware().setName("Local Terminology Service").setVersion(getServerVersion());
+    return cs;
+  }
+
+  @Override
+  public String getServerVersion() {
+    return context.getVersion();
+  }
+
+  @Override
+  public String getAddress() {
+    return address;
+  }
+
+  @Override
+  public EnumSet<FhirPublication> supportableVersions() {
+    return EnumSet.of(FhirPublication.R5);
+  }
+
+  @Override
+  public void setAllowedVersions(EnumSet<FhirPublication> versions) {
+    // nothing
+  }
+
+  @Override
+  public EnumSet<FhirPublication> getAllowedVersions() {
+    return supportableVersions();
+  }
+
+  @Override
+  public FhirPublication getActualVersion() {
+    return FhirPublication.R5;
+  }
+
+  @Override
+  public TerminologyClient setTimeout(int i) throws FHIRException {
+    return this; // nothing to time out
+  }
+
+  @Override
+  public TerminologyClient setLogger(ToolingClientLogger txLog) throws FHIRException {
+    return this; // no http traffic to log
+  }
+
+  @Override
+  public int getRetryCount() throws FHIRException {
+    return retryCount;
+  }
+
+  @Override
+  public TerminologyClient setRetryCount(int retryCount) throws FHIRException {
+    this.retryCount = retryCount;
+    return this;
+  }
+
+  @Override
+  public ClientHeaders getClientHeaders() {
+    return clientHeaders;
+  }
+
+  @Override
+  public TerminologyClient setClientHeaders(ClientHeaders clientHeaders) {
+    this.clientHeaders = clientHeaders;
+    return this;
+  }
+
+  @Override
+  public TerminologyClient setUserAgent(String userAgent) {
+    return this;
+  }
+
+}
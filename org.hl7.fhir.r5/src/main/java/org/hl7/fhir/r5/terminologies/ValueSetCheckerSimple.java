@@ -689,6 +689,12 @@ public class ValueSetCheckerSimple extends ValueSetWorker implements ValueSetChe
     if (valueset.hasExpansion()) {
       return checkExpansion(new Coding(system, code, null));
     } else if (valueset.hasCompose()) {
+      if (system != null && version == null && localSystems.isEmpty()) {
+        ValueSetMembership vsm = context.getValueSetMembership(valueset);
+        if (vsm != null) {
+          return vsm.contains(system, code);
+        }
+      }
       int i = 0;
       for (ConceptSetComponent vsi : valueset.getCompose().getInclude()) {
         Boolean ok = inComponent(vsi, i, system, version, code, valueset.getCompose().getInclude().size() == 1, info);
@@ -0,0 +1,272 @@
+package org.hl7.fhir.r5.terminologies;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hl7.fhir.r5.context.IWorkerContext;
+import org.hl7.fhir.r5.model.CanonicalType;
+import org.hl7.fhir.r5.model.CodeSystem;
+import org.hl7.fhir.r5.model.CodeSystem.ConceptDefinitionComponent;
+import org.hl7.fhir.r5.model.CodeSystem.CodeSystemContentMode;
+import org.hl7.fhir.r5.model.PackageInformation;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.r5.model.ValueSet.ConceptReferenceComponent;
+import org.hl7.fhir.r5.model.ValueSet.ConceptSetComponent;
+import org.hl7.fhir.r5.model.ValueSet.ConceptSetFilterComponent;
+
+/**
+ * The membership of a value set, worked out once so that checking whether a code is in the value set is a few set
+ * lookups rather than a walk through the compose and the code systems it refers to.
+ *
+ * This gives the same answers as ValueSetCheckerSimple.codeInValueSet, and only covers what that can decide on its own
+ * from code systems in the context: every include and exclude must refer to a complete (or fragment) code system
+ * known to the context, have only 'concept' filters, and import only value sets that can themselves be compiled.
+ * Value sets with an expansion aren't compiled either. If the value set can't be compiled, {@link #isCompiled()} is
+ * false and the checker does what it always did.
+ *
+ * Instances are immutable once built and are shared through the worker context (see
+ * IWorkerContext.getValueSetMembership), so they can be used from multiple threads.
+ */
+public class ValueSetMembership {
+
+  private static class Component {
+    private String system;
+    private List<ValueSetMembership> imports = new ArrayList<>();
+    private boolean unionImports;
+    private Set<String> codes; // all the codes in the code system
+    private List<Set<String>> filters = new ArrayList<>();
+    private List<Boolean> negated = new ArrayList<>();
+    private Set<String> concepts; // the enumerated concepts, if there are any
+
+    private boolean contains(String system, String code) {
+      boolean ok = true;
+      if (!imports.isEmpty()) {
+        if (unionImports) {
+          for (ValueSetMembership vsm : imports) {
+            if (vsm.contains(system, code)) {
+              return true;
+            }
+          }
+          ok = false;
+        } else {
+          for (ValueSetMembership vsm : imports) {
+            ok = ok && vsm.contains(system, code);
+          }
+        }
+      }
+      if (this.system == null || !ok) {
+        return ok;
+      }
+      if (!system.equals(this.system)) {
+        return false;
+      }
+      for (int i = 0; i < filters.size(); i++) {
+        if (filters.get(i).contains(code) == negated.get(i)) {
+          return false;
+        }
+      }
+      ok = codes.contains(code);
+      if (ok && concepts != null) {
+        return concepts.contains(code);
+      }
+      return ok;
+    }
+  }
+
+  private final ValueSet valueSet;
+  private final boolean compiled;
+  private final List<Component> includes = new ArrayList<>();
+  private final List<Component> excludes = new ArrayList<>();
+
+  private ValueSetMembership(ValueSet valueSet, boolean compiled) {
+    this.valueSet = valueSet;
+    this.compiled = compiled;
+  }
+
+  /**
+   * @return the value set this was built from
+   */
+  public ValueSet getValueSet() {
+    return valueSet;
+  }
+
+  /**
+   * @return false if the value set couldn't be compiled, and codes have to be checked the long way
+   */
+  public boolean isCompiled() {
+    return compiled;
+  }
+
+  /**
+   * @return true if the code (from the stated system, any version) is in the value set
+   */
+  public boolean contains(String system, String code) {
+    boolean result = false;
+    for (Component c : includes) {
+      if (c.contains(system, code)) {
+        result = true;
+        break;
+      }
+    }
+    for (Component c : excludes) {
+      if (c.contains(system, code)) {
+        result = false;
+      }
+    }
+    return result;
+  }
+
+  public static ValueSetMembership compile(IWorkerContext context, ValueSet vs) {
+    ValueSetMembership vsm = new Compiler(context).compile(vs, new HashSet<>());
+    return vsm == null ? new ValueSetMembership(vs, false) : vsm;
+  }
+
+  private static class Compiler {
+    private final IWorkerContext context;
+    private final Map<CodeSystem, Set<String>> codeSystemCodes = new IdentityHashMap<>();
+
+    private Compiler(IWorkerContext context) {
+      this.context = context;
+    }
+
+    private ValueSetMembership compile(ValueSet vs, Set<ValueSet> stack) {
+      if (vs.hasExpansion() || !stack.add(vs)) {
+        return null;
+      }
+      try {
+        ValueSetMembership vsm = new ValueSetMembership(vs, true);
+        boolean unionImports = isValueSetUnionImports(vs);
+        for (ConceptSetComponent inc : vs.getCompose().getInclude()) {
+          Component c = compile(vs, inc, unionImports, stack);
+          if (c == null) {
+            return null;
+          }
+          vsm.includes.add(c);
+        }
+        for (ConceptSetComponent inc : vs.getCompose().getExclude()) {
+          Component c = compile(vs, inc, unionImports, stack);
+          if (c == null) {
+            return null;
+          }
+          vsm.excludes.add(c);
+        }
+        return vsm;
+      } finally {
+        stack.remove(vs);
+      }
+    }
+
+    private Component compile(ValueSet vs, ConceptSetComponent inc, boolean unionImports, Set<ValueSet> stack) {
+      Component c = new Component();
+      c.unionImports = unionImports;
+      for (CanonicalType uri : inc.getValueSet()) {
+        ValueSet ivs = context.fetchResource(ValueSet.class, uri.getValue(), vs);
+        if (ivs == null) {
+          c.imports.add(new ValueSetMembership(null, true)); // contains nothing
+        } else {
+          ValueSetMembership ivsm = compile(ivs, stack);
+          if (ivsm == null) {
+            return null;
+          }
+          c.imports.add(ivsm);
+        }
+      }
+      if (!inc.hasSystem()) {
+        return c;
+      }
+      c.system = inc.getSystem();
+      CodeSystem cs = context.fetchCodeSystem(inc.getSystem(), null);
+      if (cs == null || (cs.getContent() != CodeSystemContentMode.COMPLETE && cs.getContent() != CodeSystemContentMode.FRAGMENT)) {
+        return null;
+      }
+      for (ConceptSetFilterComponent f : inc.getFilter()) {
+        if (!"concept".equals(f.getProperty()) || f.getOp() == null) {
+          return null;
+        }
+        switch (f.getOp()) {
+        case ISA:
+          c.filters.add(descendants(cs, f.getValue(), f.getProperty()));
+          c.negated.add(false);
+          break;
+        case ISNOTA:
+          c.filters.add(descendants(cs, f.getValue(), f.getProperty()));
+          c.negated.add(true);
+          break;
+        case DESCENDENTOF:
+          c.filters.add(descendants(cs, f.getValue(), null));
+          c.negated.add(false);
+          break;
+        default:
+          return null;
+        }
+      }
+      c.codes = codeSystemCodes.computeIfAbsent(cs, this::allCodes);
+      if (inc.hasConcept()) {
+        c.concepts = new HashSet<>();
+        for (ConceptReferenceComponent cc : inc.getConcept()) {
+          c.concepts.add(cc.getCode());
+        }
+      }
+      return c;
+    }
+
+    private Set<String> allCodes(CodeSystem cs) {
+      // same matching as ValueSetCheckerSimple.validateCodeInConceptList
+      Set<String> codes = cs.getCaseSensitive() ? new HashSet<>() : new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+      addCodes(codes, cs.getConcept());
+      return codes;
+    }
+
+    private void addCodes(Set<String> codes, List<ConceptDefinitionComponent> list) {
+      for (ConceptDefinitionComponent cc : list) {
+        codes.add(cc.getCode());
+        addCodes(codes, cc.getConcept());
+      }
+    }
+
+    /**
+     * the codes that ValueSetCheckerSimple.codeInConceptIsAFilter accepts: the root concept and everything under it,
+     * following cross links
+     */
+    private Set<String> descendants(CodeSystem cs, String root, String property) {
+      Set<String> codes = new HashSet<>();
+      if (property != null) {
+        codes.add(property);
+      }
+      ConceptDefinitionComponent cc = CodeSystemUtilities.findCode(cs.getConcept(), root);
+      if (cc != null) {
+        addDescendants(codes, cc, new HashSet<>());
+      }
+      return codes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addDescendants(Set<String> codes, ConceptDefinitionComponent cc, Set<ConceptDefinitionComponent> visited) {
+      if (!visited.add(cc)) {
+        return;
+      }
+      codes.add(cc.getCode());
+      for (ConceptDefinitionComponent c : cc.getConcept()) {
+        addDescendants(codes, c, visited);
+      }
+      if (cc.hasUserData(CodeSystemUtilities.USER_DATA_CROSS_LINK)) {
+        for (ConceptDefinitionComponent c : (List<ConceptDefinitionComponent>) cc.getUserData(CodeSystemUtilities.USER_DATA_CROSS_LINK)) {
+          addDescendants(codes, c, visited);
+        }
+      }
+    }
+
+    private boolean isValueSetUnionImports(ValueSet vs) {
+      // see ValueSetCheckerSimple.isValueSetUnionImports
+      PackageInformation p = vs.getSourcePackage();
+      return p != null && p.getDate().before(new GregorianCalendar(2022, Calendar.MARCH, 31).getTime());
+    }
+  }
+}
@@ -43,6 +43,7 @@ import org.hl7.fhir.r5.model.ExpressionNode;
 import org.hl7.fhir.r5.model.ExpressionNode.CollectionStatus;
 import org.hl7.fhir.r5.model.ExpressionNode.Function;
 import org.hl7.fhir.r5.model.ExpressionNode.Kind;
+import org.hl7.fhir.r5.model.ExpressionNode.NameKind;
 import org.hl7.fhir.r5.model.ExpressionNode.Operation;
 import org.hl7.fhir.r5.model.IntegerType;
 import org.hl7.fhir.r5.model.Property;
@@ -520,6 +521,50 @@ public class FHIRPathEngine {
     return result;    
   }
 
+  /**
+   * Parse a path, using the parse cache shared through the worker context, so that the same expression is only 
+   * parsed once however many engines are using the context.
+   * 
+   * The node that is returned may be shared with other callers, so it must not be modified. Use parse() to get a 
+   * tree of your own. 
+   * 
+   * @param path
+   * @return
+   * @throws FHIRLexerException
+   */
+  public ExpressionNode parseCached(String path) throws FHIRLexerException {
+    FHIRPathExpressionCache cache = worker == null ? null : worker.getExpressionCache();
+    if (cache == null) {
+      return parse(path);
+    }
+    ExpressionNode result = cache.get(path);
+    if (result == null) {
+      result = parse(path);
+      // custom functions depend on the host services of this engine, so those expressions aren't shared 
+      if (!hasCustomFunction(result)) {
+        cache.put(path, result);
+      }
+    }
+    return result;
+  }
+
+  private boolean hasCustomFunction(ExpressionNode node) {
+    if (node == null) {
+      return false;
+    }
+    if (node.getKind() == Kind.Function) {
+      if (node.getFunction() == Function.Custom) {
+        return true;
+      }
+      for (ExpressionNode p : node.getParameters()) {
+        if (hasCustomFunction(p)) {
+          return true;
+        }
+      }
+    }
+    return hasCustomFunction(node.getGroup()) || hasCustomFunction(node.getInner()) || hasCustomFunction(node.getOpNext());
+  }
+
   public static class ExpressionNodeWithOffset {
     private int offset;
     private ExpressionNode node;
@@ -798,7 +843,7 @@ public class FHIRPathEngine {
    * @
    */
   public List<Base> evaluate(Base base, String path) throws FHIRException {
-    ExpressionNode exp = parse(path);
+    ExpressionNode exp = parseCached(path);
     List<Base> list = new ArrayList<Base>();
     if (base != null) {
       list.add(base);
@@ -853,7 +898,7 @@ public class FHIRPathEngine {
    * @
    */
   public List<Base> evaluate(Object appContext, Resource focusResource, Resource rootResource, Base base, String path) throws FHIRException {
-    ExpressionNode exp = parse(path);
+    ExpressionNode exp = parseCached(path);
     List<Base> list = new ArrayList<Base>();
     if (base != null) {
       list.add(base);
@@ -1502,20 +1547,15 @@ public class FHIRPathEngine {
       work.add(new IntegerType(0));
       break;
     case Name:
-      if (atEntry && exp.getName().equals("$this")) {
+      if (atEntry && exp.getNameKind() == NameKind.This) {
         work.add(context.getThisItem());
-      } else if (atEntry && exp.getName().equals("$total")) {
+      } else if (atEntry && exp.getNameKind() == NameKind.Total) {
         work.addAll(context.getTotal());
-      } else if (atEntry && exp.getName().equals("$index")) {
+      } else if (atEntry && exp.getNameKind() == NameKind.Index) {
         work.add(context.getIndex());
       } else {
         for (Base item : focus) {
-          List<Base> outcome = execute(context, item, exp, atEntry);
-          for (Base base : outcome) {
-            if (base != null) {
-              work.add(base);
-            }
-          }
+          execute(context, item, exp, atEntry, work);
         }     
       }
       break;
@@ -1527,8 +1567,7 @@ public class FHIRPathEngine {
       work.addAll(resolveConstant(context, exp.getConstant(), false, exp));
       break;
     case Group:
-      work2 = execute(context, focus, exp.getGroup(), atEntry);
-      work.addAll(work2);
+      work = execute(context, focus, exp.getGroup(), atEntry); // always a new list, so no need to copy it
     }
 
     if (exp.getInner() != null) {
@@ -1606,11 +1645,11 @@ public class FHIRPathEngine {
     TypeDetails result = new TypeDetails(null);
     switch (exp.getKind()) {
     case Name:
-      if (atEntry && exp.getName().equals("$this")) {
+      if (atEntry && exp.getNameKind() == NameKind.This) {
         result.update(context.getThisItem());
-      } else if (atEntry && exp.getName().equals("$total")) {
+      } else if (atEntry && exp.getNameKind() == NameKind.Total) {
         result.update(anything(CollectionStatus.UNORDERED));
-      } else if (atEntry && exp.getName().equals("$index")) {
+      } else if (atEntry && exp.getNameKind() == NameKind.Index) {
         result.addType(TypeDetails.FP_Integer);
       } else if (atEntry && focus == null) {
         result.update(executeContextType(context, exp.getName(), exp));
@@ -3103,17 +3142,20 @@ public class FHIRPathEngine {
     }
   }
 
-  private List<Base> execute(ExecutionContext context, Base item, ExpressionNode exp, boolean atEntry) throws FHIRException {
-    List<Base> result = new ArrayList<Base>(); 
+  /**
+   * evaluate a name on a single item, adding what it finds to result (which may already have the results for other items in it)
+   */
+  private void execute(ExecutionContext context, Base item, ExpressionNode exp, boolean atEntry, List<Base> result) throws FHIRException {
+    int start = result.size();
     if (atEntry && context.appInfo != null && hostServices != null) {
       // we'll see if the name matches a constant known by the context.
       List<Base> temp = hostServices.resolveConstant(context.appInfo, exp.getName(), true);
       if (!temp.isEmpty()) {
-        result.addAll(temp);
-        return result;
+        addNonNull(result, temp);
+        return;
       }
     }
-    if (atEntry && exp.getName() != null && Character.isUpperCase(exp.getName().charAt(0))) {// special case for start up
+    if (atEntry && exp.getNameKind() == NameKind.TypeName) {// special case for start up
       StructureDefinition sd = worker.fetchTypeDefinition(item.fhirType());
       if (sd == null) {
         // logical model
@@ -3132,14 +3174,21 @@ public class FHIRPathEngine {
     } else {
       getChildrenByName(item, exp.getName(), result);
     }
-    if (atEntry && context.appInfo != null && hostServices != null && result.isEmpty()) {
+    if (atEntry && context.appInfo != null && hostServices != null && result.size() == start) {
       // well, we didn't get a match on the name - we'll see if the name matches a constant known by the context.
       // (if the name does match, and the user wants to get the constant value, they'll have to try harder...
-      result.addAll(hostServices.resolveConstant(context.appInfo, exp.getName(), false));
+      addNonNull(result, hostServices.resolveConstant(context.appInfo, exp.getName(), false));
     }
-    return result;
   }	
 
+  private void addNonNull(List<Base> result, List<Base> items) {
+    for (Base base : items) {
+      if (base != null) {
+        result.add(base);
+      }
+    }
+  }
+
   private String getParent(String rn) {
     return null;
   }
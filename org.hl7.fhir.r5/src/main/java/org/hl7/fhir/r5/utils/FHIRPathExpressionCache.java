@@ -0,0 +1,104 @@
+package org.hl7.fhir.r5.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hl7.fhir.r5.model.ExpressionNode;
+
+/**
+ * A cache of parsed FHIRPath expressions, keyed by the text of the expression.
+ *
+ * One of these is held by the worker context (see IWorkerContext.getExpressionCache), and all the FHIRPathEngines
+ * that use the context share it through FHIRPathEngine.parseCached. The cache is bounded: once it is full, the least
+ * recently used expressions are dropped. It is safe to use from multiple threads.
+ *
+ * The parsed trees in the cache are shared, so they must not be modified by anything that gets them from here.
+ */
+public class FHIRPathExpressionCache {
+
+  public static final int DEFAULT_SIZE = 5000;
+
+  private final int maxSize;
+  private final Map<String, ExpressionNode> cache;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public FHIRPathExpressionCache() {
+    this(DEFAULT_SIZE);
+  }
+
+  public FHIRPathExpressionCache(int maxSize) {
+    this.maxSize = maxSize;
+    this.cache = new LinkedHashMap<String, ExpressionNode>(16, 0.75f, true) { // access order, for LRU
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, ExpressionNode> eldest) {
+        return size() > FHIRPathExpressionCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * @return the parsed expression, or null if it hasn't been parsed yet (or has been dropped)
+   */
+  public ExpressionNode get(String expression) {
+    ExpressionNode node;
+    synchronized (cache) {
+      node = cache.get(expression);
+    }
+    if (node == null) {
+      misses.incrementAndGet();
+    } else {
+      hits.incrementAndGet();
+    }
+    return node;
+  }
+
+  public void put(String expression, ExpressionNode node) {
+    if (maxSize > 0) {
+      synchronized (cache) {
+        cache.put(expression, node);
+      }
+    }
+  }
+
+  public int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * @return the proportion of lookups that found a parsed expression (0 if there haven't been any)
+   */
+  public double getHitRate() {
+    long h = hits.get();
+    long total = h + misses.get();
+    return total == 0 ? 0 : (double) h / total;
+  }
+
+  @Override
+  public String toString() {
+    return "FHIRPath expression cache: "+size()+"/"+maxSize+" expressions, "+getHits()+" hits, "+getMisses()+" misses";
+  }
+}
@@ -48,6 +48,8 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -346,6 +348,45 @@ public class FHIRToolingClient {
     return null;
   }
 
+  /**
+   * Asynchronous version of {@link #operateType(Class, String, Parameters)}, e.g. for CodeSystem/$validate-code. The
+   * future completes with an {@link EFhirClientException} if the operation fails.
+   */
+  public <T extends Resource> CompletableFuture<Parameters> operateTypeAsync(Class<T> resourceClass, String name, Parameters params) {
+    boolean complex = false;
+    for (ParametersParameterComponent p : params.getParameter())
+      complex = complex || !(p.getValue() instanceof PrimitiveType);
+    String ps = "";
+    try {
+      if (!complex)
+        for (ParametersParameterComponent p : params.getParameter())
+          if (p.getValue() instanceof PrimitiveType)
+            ps += p.getName() + "=" + Utilities.encodeUri(((PrimitiveType) p.getValue()).asStringValue()) + "&";
+      CompletableFuture<ResourceRequest<T>> result;
+      URI url = resourceAddress.resolveOperationURLFromClass(resourceClass, name, ps);
+      if (complex) {
+        byte[] body = ByteUtils.resourceToByteArray(params, false, isJson(getPreferredResourceFormat()));
+        result = client.issuePostRequestAsync(url, body, getPreferredResourceFormat(), generateHeaders(),
+            "POST " + resourceClass.getName() + "/$" + name, TIMEOUT_OPERATION_LONG);
+      } else {
+        result = client.issueGetResourceRequestAsync(url, getPreferredResourceFormat(), generateHeaders(), "GET " + resourceClass.getName() + "/$" + name, TIMEOUT_OPERATION_LONG);
+      }
+      String message = "Error performing tx5 operation '"+name+"' (parameters = \"" + ps+"\")";
+      return handleAsync(result.thenApply(r -> {
+        checkSuccessful(r);
+        if (r.getPayload() instanceof Parameters) {
+          return (Parameters) r.getPayload();
+        } else {
+          Parameters p_out = new Parameters();
+          p_out.addParameter().setName("return").setResource(r.getPayload());
+          return p_out;
+        }
+      }), message);
+    } catch (Exception e) {
+      return failedAsync("Error performing tx5 operation '"+name+": "+e.getMessage()+"' (parameters = \"" + ps+"\")", e);
+    }
+  }
+
   public Bundle transaction(Bundle batch) {
     Bundle transactionResult = null;
     try {
@@ -358,6 +399,20 @@ public class FHIRToolingClient {
     return transactionResult;
   }
 
+  /**
+   * Asynchronous version of {@link #transaction(Bundle)}
+   */
+  public CompletableFuture<Bundle> transactionAsync(Bundle batch) {
+    try {
+      return handleAsync(client.postBatchRequestAsync(resourceAddress.getBaseServiceUri(), ByteUtils.resourceToByteArray(batch, false, isJson(getPreferredResourceFormat())), getPreferredResourceFormat(),
+          generateHeaders(),
+          "transaction", TIMEOUT_OPERATION + (TIMEOUT_ENTRY * batch.getEntry().size())),
+        "An error occurred trying to process this transaction request");
+    } catch (Exception e) {
+      return failedAsync("An error occurred trying to process this transaction request", e);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   public <T extends Resource> OperationOutcome validate(Class<T> resourceClass, T resource, String id) {
     ResourceRequest<T> result = null;
@@ -389,6 +444,30 @@ public class FHIRToolingClient {
     }
   }
 
+  private <T> CompletableFuture<T> handleAsync(CompletableFuture<T> future, String message) {
+    return future.handle((r, e) -> {
+      if (e instanceof CompletionException && e.getCause() != null) {
+        e = e.getCause();
+      }
+      if (e != null) {
+        handleException(message, e instanceof Exception ? (Exception) e : new Exception(e));
+      }
+      return r;
+    });
+  }
+
+  private <T> CompletableFuture<T> failedAsync(String message, Exception e) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(e instanceof EFhirClientException ? e : new EFhirClientException(message, e));
+    return future;
+  }
+
+  private void checkSuccessful(ResourceRequest<?> result) {
+    if (result.isUnsuccessfulRequest()) {
+      throw new EFhirClientException("Server returned error code " + result.getHttpStatus(), (OperationOutcome) result.getPayload());
+    }
+  }
+
   /**
    * Helper method to determine whether desired resource representation
    * is Json or XML.
@@ -435,6 +514,29 @@ public class FHIRToolingClient {
   }
 
 
+  /**
+   * Asynchronous version of {@link #expandValueset(ValueSet, Parameters)}. Unlike the synchronous version, errors are
+   * reported through the future rather than returning null.
+   */
+  public CompletableFuture<ValueSet> expandValuesetAsync(ValueSet source, Parameters expParams) {
+    Parameters p = expParams == null ? new Parameters() : expParams.copy();
+    p.addParameter().setName("valueSet").setResource(source);
+    try {
+      CompletableFuture<ResourceRequest<Resource>> result = client.issuePostRequestAsync(resourceAddress.resolveOperationUri(ValueSet.class, "expand"),
+        ByteUtils.resourceToByteArray(p, false, isJson(getPreferredResourceFormat())),
+        getPreferredResourceFormat(),
+        generateHeaders(),
+        "ValueSet/$expand?url=" + source.getUrl(),
+        TIMEOUT_OPERATION_EXPAND);
+      return handleAsync(result.thenApply(r -> {
+        checkSuccessful(r);
+        return (ValueSet) r.getPayload();
+      }), "An error has occurred while trying to expand " + source.getUrl());
+    } catch (Exception e) {
+      return failedAsync("An error has occurred while trying to expand " + source.getUrl(), e);
+    }
+  }
+
   public Parameters lookupCode(Map<String, String> params) {
     org.hl7.fhir.r5.utils.client.network.ResourceRequest<Resource> result = null;
     try {
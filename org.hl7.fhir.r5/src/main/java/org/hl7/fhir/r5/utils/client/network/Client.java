@@ -12,6 +12,7 @@ import org.hl7.fhir.utilities.ToolingClientLogger;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 public class Client {
@@ -124,6 +125,38 @@ public class Client {
     return executeFhirRequest(request, resourceFormat, headers, message, retryCount, timeout);
   }
 
+  /**
+   * Asynchronous version of {@link #issuePostRequest(URI, byte[], String, Headers, String, long)}
+   */
+  public <T extends Resource> CompletableFuture<ResourceRequest<T>> issuePostRequestAsync(URI resourceUri,
+                                                                                          byte[] payload,
+                                                                                          String resourceFormat,
+                                                                                          Headers headers,
+                                                                                          String message,
+                                                                                          long timeout) throws IOException {
+    if (payload == null) throw new EFhirClientException("POST requests require a non-null payload");
+    RequestBody body = RequestBody.create(MediaType.parse(resourceFormat + ";charset=" + DEFAULT_CHARSET), payload);
+    Request.Builder request = new Request.Builder()
+      .url(resourceUri.toURL())
+      .post(body);
+
+    return fhirRequest(request, resourceFormat, headers, message, retryCount, timeout).executeAsync();
+  }
+
+  /**
+   * Asynchronous version of {@link #issueGetResourceRequest(URI, String, Headers, String, long)}
+   */
+  public <T extends Resource> CompletableFuture<ResourceRequest<T>> issueGetResourceRequestAsync(URI resourceUri,
+                                                                                                 String resourceFormat,
+                                                                                                 Headers headers,
+                                                                                                 String message,
+                                                                                                 long timeout) throws IOException {
+    Request.Builder request = new Request.Builder()
+      .url(resourceUri.toURL());
+
+    return fhirRequest(request, resourceFormat, headers, message, retryCount, timeout).executeAsync();
+  }
+
   public boolean issueDeleteRequest(URI resourceUri) throws IOException {
     Request.Builder request = new Request.Builder()
       .url(resourceUri.toURL())
@@ -168,20 +201,31 @@ public class Client {
     return executeBundleRequest(request, resourceFormat, headers, message, retryCount, timeout);
   }
 
+  /**
+   * Asynchronous version of {@link #postBatchRequest(URI, byte[], String, Headers, String, int)}
+   */
+  public CompletableFuture<Bundle> postBatchRequestAsync(URI resourceUri,
+                                                         byte[] payload,
+                                                         String resourceFormat,
+                                                         Headers headers,
+                                                         String message,
+                                                         int timeout) throws IOException {
+    if (payload == null) throw new EFhirClientException("POST requests require a non-null payload");
+    RequestBody body = RequestBody.create(MediaType.parse(resourceFormat + ";charset=" + DEFAULT_CHARSET), payload);
+    Request.Builder request = new Request.Builder()
+      .url(resourceUri.toURL())
+      .post(body);
+
+    return fhirRequest(request, resourceFormat, headers, message, retryCount, timeout).executeAsBatchAsync();
+  }
+
   public <T extends Resource> Bundle executeBundleRequest(Request.Builder request,
                                                              String resourceFormat,
                                                              Headers headers,
                                                              String message,
                                                              int retryCount,
                                                              long timeout) throws IOException {
-    return new FhirRequestBuilder(request)
-      .withLogger(fhirLoggingInterceptor)
-      .withResourceFormat(resourceFormat)
-      .withRetryCount(retryCount)
-      .withMessage(message)
-      .withHeaders(headers == null ? new Headers.Builder().build() : headers)
-      .withTimeout(timeout, TimeUnit.MILLISECONDS)
-      .executeAsBatch();
+    return fhirRequest(request, resourceFormat, headers, message, retryCount, timeout).executeAsBatch();
   }
 
   public <T extends Resource> ResourceRequest<T> executeFhirRequest(Request.Builder request,
@@ -190,13 +234,21 @@ public class Client {
                                                                        String message,
                                                                        int retryCount,
                                                                        long timeout) throws IOException {
+    return fhirRequest(request, resourceFormat, headers, message, retryCount, timeout).execute();
+  }
+
+  private FhirRequestBuilder fhirRequest(Request.Builder request,
+                                         String resourceFormat,
+                                         Headers headers,
+                                         String message,
+                                         int retryCount,
+                                         long timeout) {
     return new FhirRequestBuilder(request)
       .withLogger(fhirLoggingInterceptor)
       .withResourceFormat(resourceFormat)
       .withRetryCount(retryCount)
       .withMessage(message)
       .withHeaders(headers == null ? new Headers.Builder().build() : headers)
-      .withTimeout(timeout, TimeUnit.MILLISECONDS)
-      .execute();
+      .withTimeout(timeout, TimeUnit.MILLISECONDS);
   }
 }
@@ -14,8 +14,11 @@ import org.hl7.fhir.r5.utils.client.ResourceFormat;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 public class FhirRequestBuilder {
@@ -30,6 +33,14 @@ public class FhirRequestBuilder {
    * The singleton instance of the HttpClient, used for all requests.
    */
   private static OkHttpClient okHttpClient;
+  /**
+   * Settings for the shared {@link ConnectionPool} and {@link Dispatcher}. The defaults are the OkHttp defaults.
+   */
+  private static int maxIdleConnections = 5;
+  private static long keepAliveDuration = 5;
+  private static TimeUnit keepAliveUnit = TimeUnit.MINUTES;
+  private static int maxRequestsPerHost = 5;
+  private static boolean http2 = true;
   private final Request.Builder httpRequest;
   private String resourceFormat = null;
   private Headers headers = null;
@@ -148,15 +159,15 @@ public class FhirRequestBuilder {
    * @return {@link OkHttpClient} instance
    */
   protected OkHttpClient getHttpClient() {
-    if (okHttpClient == null) {
-      okHttpClient = new OkHttpClient();
-    }
+    return getHttpClient(true);
+  }
 
+  private OkHttpClient getHttpClient(boolean retry) {
     Authenticator proxyAuthenticator = getAuthenticator();
 
-    OkHttpClient.Builder builder = okHttpClient.newBuilder();
+    OkHttpClient.Builder builder = getSharedClient().newBuilder();
     if (logger != null) builder.addInterceptor(logger);
-    builder.addInterceptor(new RetryInterceptor(retryCount));
+    if (retry) builder.addInterceptor(new RetryInterceptor(retryCount));
     return builder.connectTimeout(timeout, timeoutUnit)
       .writeTimeout(timeout, timeoutUnit)
       .readTimeout(timeout, timeoutUnit)
@@ -164,6 +175,54 @@ public class FhirRequestBuilder {
       .build();
   }
 
+  private static synchronized OkHttpClient getSharedClient() {
+    if (okHttpClient == null) {
+      Dispatcher dispatcher = new Dispatcher();
+      dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+      okHttpClient = new OkHttpClient.Builder()
+        .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveDuration, keepAliveUnit))
+        .dispatcher(dispatcher)
+        .protocols(http2 ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1) : Collections.singletonList(Protocol.HTTP_1_1))
+        .build();
+    }
+    return okHttpClient;
+  }
+
+  /**
+   * Sets up the connection pool that is shared by all requests. Connections to the same server are kept open and
+   * reused, so a client that talks to one terminology server a lot may want to keep more of them around.
+   * <p>
+   * Takes effect for requests made after the call; connections already in use are not affected.
+   *
+   * @param maxIdleConnections the maximum number of idle connections to keep open
+   * @param keepAliveDuration how long an idle connection is kept open for
+   * @param unit the unit for keepAliveDuration
+   */
+  public static synchronized void configureConnectionPool(int maxIdleConnections, long keepAliveDuration, TimeUnit unit) {
+    FhirRequestBuilder.maxIdleConnections = maxIdleConnections;
+    FhirRequestBuilder.keepAliveDuration = keepAliveDuration;
+    FhirRequestBuilder.keepAliveUnit = unit;
+    okHttpClient = null;
+  }
+
+  /**
+   * @param maxRequestsPerHost the maximum number of asynchronous requests that run at once against one server. Any
+   *                           more are queued until one finishes
+   */
+  public static synchronized void setMaxRequestsPerHost(int maxRequestsPerHost) {
+    FhirRequestBuilder.maxRequestsPerHost = maxRequestsPerHost;
+    okHttpClient = null;
+  }
+
+  /**
+   * @param http2 whether to use HTTP/2 (which multiplexes requests over a single connection) with servers that
+   *              support it. If false, only HTTP/1.1 is used
+   */
+  public static synchronized void setHttp2(boolean http2) {
+    FhirRequestBuilder.http2 = http2;
+    okHttpClient = null;
+  }
+
   @Nonnull
   private static Authenticator getAuthenticator() {
     return (route, response) -> {
@@ -227,6 +286,61 @@ public class FhirRequestBuilder {
     return unmarshalFeed(response, resourceFormat);
   }
 
+  /**
+   * Asynchronous version of {@link #execute()}. The request is queued on the shared dispatcher, and the calling thread
+   * is not held while it runs. Failed attempts are retried as for {@link #execute()}, but the pause between attempts
+   * doesn't hold a thread either.
+   */
+  public <T extends Resource> CompletableFuture<ResourceRequest<T>> executeAsync() {
+    formatHeaders(httpRequest, resourceFormat, headers);
+    return enqueue(httpRequest.build()).thenApply(response -> {
+      T resource = unmarshalReference(response, resourceFormat);
+      return new ResourceRequest<T>(resource, response.code(), getLocationHeader(response.headers()));
+    });
+  }
+
+  /**
+   * Asynchronous version of {@link #executeAsBatch()}.
+   */
+  public CompletableFuture<Bundle> executeAsBatchAsync() {
+    formatHeaders(httpRequest, resourceFormat, null);
+    return enqueue(httpRequest.build()).thenApply(response -> unmarshalFeed(response, resourceFormat));
+  }
+
+  private CompletableFuture<Response> enqueue(Request request) {
+    CompletableFuture<Response> future = new CompletableFuture<>();
+    enqueue(getHttpClient(false), request, 0, future);
+    return future;
+  }
+
+  /**
+   * the asynchronous equivalent of {@link RetryInterceptor}: the next attempt is queued from the callback, after a
+   * pause if the server couldn't be reached
+   */
+  private void enqueue(OkHttpClient client, Request request, int attempt, CompletableFuture<Response> future) {
+    client.newCall(request).enqueue(new Callback() {
+      @Override
+      public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+        if (attempt < retryCount) {
+          CompletableFuture.delayedExecutor(RetryInterceptor.RETRY_TIME, TimeUnit.MILLISECONDS)
+            .execute(() -> enqueue(client, request, attempt + 1, future));
+        } else {
+          future.completeExceptionally(e);
+        }
+      }
+
+      @Override
+      public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+        if (!response.isSuccessful() && attempt < retryCount) {
+          response.close();
+          enqueue(client, request, attempt + 1, future);
+        } else {
+          future.complete(response);
+        }
+      }
+    });
+  }
+
   /**
    * Unmarshalls a resource from the response stream.
    */
@@ -14,7 +14,7 @@ import java.io.IOException;
 public class RetryInterceptor implements Interceptor {
 
   // Delay between retying failed requests, in millis
-  private final long RETRY_TIME = 2000;
+  static final long RETRY_TIME = 2000;
 
   // Maximum number of times to retry the request before failing
   private final int maxRetry;
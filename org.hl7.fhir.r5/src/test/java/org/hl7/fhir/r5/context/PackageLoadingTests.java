@@ -0,0 +1,172 @@
+package org.hl7.fhir.r5.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hl7.fhir.exceptions.FHIRException;
+import org.hl7.fhir.r5.context.IWorkerContext.IContextResourceLoader;
+import org.hl7.fhir.r5.formats.JsonParser;
+import org.hl7.fhir.r5.model.Bundle;
+import org.hl7.fhir.r5.model.Bundle.BundleType;
+import org.hl7.fhir.r5.model.CodeSystem;
+import org.hl7.fhir.r5.model.Resource;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.utilities.npm.BasePackageCacheManager;
+import org.hl7.fhir.utilities.npm.NpmPackage;
+import org.junit.jupiter.api.Test;
+
+public class PackageLoadingTests {
+
+  private static final String SHARED_URL = "http://example.org/ValueSet/shared";
+
+  /**
+   * a package tree where 4 packages all have a value set with the same url and version:
+   * test.root depends on test.b and test.c, and test.b depends on test.d
+   */
+  private static class TestPackageCacheManager extends BasePackageCacheManager {
+    private final Map<String, NpmPackage> packages = new HashMap<>();
+
+    public TestPackageCacheManager() throws IOException {
+      add("test.b", "test.d");
+      add("test.c");
+      add("test.d");
+    }
+
+    private NpmPackage add(String name, String... dependencies) throws IOException {
+      NpmPackage npm = makePackage(name, dependencies);
+      packages.put(name+"#1.0.0", npm);
+      return npm;
+    }
+
+    @Override
+    public NpmPackage loadPackageFromCacheOnly(String id, String version) throws IOException {
+      return packages.get(version == null ? id : id+"#"+version);
+    }
+
+    @Override
+    public NpmPackage loadPackage(String id, String version) throws FHIRException, IOException {
+      return loadPackageFromCacheOnly(id, version);
+    }
+
+    @Override
+    public String getPackageId(String canonicalUrl) throws IOException {
+      return null;
+    }
+
+    @Override
+    public NpmPackage addPackageToCache(String id, String version, InputStream packageTgzInputStream, String sourceDesc) throws IOException {
+      throw new IOException("not supported");
+    }
+  }
+
+  /**
+   * a loader that records which thread it was used on (they're not thread safe)
+   */
+  private static class TestLoader implements IContextResourceLoader {
+    private final Thread thread;
+
+    public TestLoader(Thread thread) {
+      this.thread = thread;
+    }
+
+    @Override
+    public String[] getTypes() {
+      return new String[] { "ValueSet" };
+    }
+
+    @Override
+    public Bundle loadBundle(InputStream stream, boolean isJson) throws FHIRException, IOException {
+      assertSame(thread, Thread.currentThread());
+      Resource r = new JsonParser().parse(stream);
+      Bundle b = new Bundle();
+      b.setType(BundleType.COLLECTION);
+      b.addEntry().setResource(r);
+      return b;
+    }
+
+    @Override
+    public Resource loadResource(InputStream stream, boolean isJson) throws FHIRException, IOException {
+      return new JsonParser().parse(stream);
+    }
+
+    @Override
+    public String getResourcePath(Resource resource) {
+      return null;
+    }
+
+    @Override
+    public IContextResourceLoader getNewLoader(NpmPackage npm) throws IOException {
+      return new TestLoader(thread);
+    }
+
+    @Override
+    public List<CodeSystem> getCodeSystems() {
+      return null;
+    }
+
+    @Override
+    public void setPatchUrls(boolean value) {
+    }
+
+    @Override
+    public String patchUrl(String url, String resourceType) {
+      return url;
+    }
+  }
+
+  private static NpmPackage makePackage(String name, String... dependencies) throws IOException {
+    StringBuilder deps = new StringBuilder();
+    for (String d : dependencies) {
+      deps.append(deps.length() == 0 ? "" : ", ").append("\""+d+"\" : \"1.0.0\"");
+    }
+    String json = "{ \"name\" : \""+name+"\", \"version\" : \"1.0.0\", \"fhirVersions\" : [\"5.0.0\"], \"dependencies\" : { "+deps+" } }";
+    NpmPackage npm = NpmPackage.empty();
+    npm.addFile("package", "package.json", json.getBytes(StandardCharsets.UTF_8), null);
+    npm.addFile("package", "ValueSet-shared.json", valueSet("shared", SHARED_URL, "from-"+name), "ValueSet");
+    npm.addFile("package", "ValueSet-"+name+".json", valueSet(name, "http://example.org/ValueSet/"+name, name), "ValueSet");
+    return npm;
+  }
+
+  private static byte[] valueSet(String id, String url, String name) throws IOException {
+    ValueSet vs = new ValueSet();
+    vs.setId(id);
+    vs.setUrl(url);
+    vs.setVersion("1.0.0");
+    vs.setName(name);
+    return new JsonParser().composeBytes(vs);
+  }
+
+  private SimpleWorkerContext load(int threads) throws IOException {
+    SimpleWorkerContext context = new SimpleWorkerContext.SimpleWorkerContextBuilder().fromNothing();
+    context.setAllowLoadingDuplicates(true);
+    context.setLoadingThreads(threads);
+    TestPackageCacheManager pcm = new TestPackageCacheManager();
+    context.loadFromPackageAndDependencies(makePackage("test.root", "test.b", "test.c"), new TestLoader(Thread.currentThread()), pcm);
+    return context;
+  }
+
+  @Test
+  public void testParallelKeepsPrecedence() throws IOException {
+    SimpleWorkerContext serial = load(1);
+    SimpleWorkerContext parallel = load(4);
+
+    assertEquals(List.of("test.d#1.0.0", "test.b#1.0.0", "test.c#1.0.0", "test.root#1.0.0"), serial.getLoadedPackages());
+    assertEquals(serial.getLoadedPackages(), parallel.getLoadedPackages());
+
+    ValueSet vs = serial.fetchResource(ValueSet.class, SHARED_URL);
+    assertNotNull(vs);
+    assertEquals(vs.getName(), parallel.fetchResource(ValueSet.class, SHARED_URL).getName());
+    assertEquals(vs.getName(), parallel.fetchResource(ValueSet.class, SHARED_URL+"|1.0.0").getName());
+    for (String name : new String[] { "test.root", "test.b", "test.c", "test.d" }) {
+      assertNotNull(parallel.fetchResource(ValueSet.class, "http://example.org/ValueSet/"+name));
+    }
+  }
+}
@@ -13,6 +13,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Stream;
 
+import org.hl7.fhir.r5.model.Bundle;
 import org.hl7.fhir.r5.model.CapabilityStatement;
 import org.hl7.fhir.r5.model.CodeableConcept;
 import org.hl7.fhir.r5.model.Coding;
@@ -34,6 +35,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -256,6 +258,76 @@ public class SimpleWorkerContextTests {
     Mockito.verify(context).validateOnServer(valueSet, pIn, validationOptions);
   }
 
+  private TerminologyCache.CacheToken mockCacheToken(String request) {
+    TerminologyCache.CacheToken token = mock(TerminologyCache.CacheToken.class);
+    Mockito.doReturn(request).when(token).getRequest();
+    return token;
+  }
+
+  @Test
+  public void testPreValidateCodesBatchesValueSetChecks() throws IOException {
+    ValidationOptions validationOptions = new ValidationOptions().noClient();
+    ValidationOptions valueSetOptions = validationOptions.checkValueSetOnly();
+    ValueSet valueSet = new ValueSet();
+    valueSet.setUrl("http://example.org/ValueSet/test");
+    Coding coding = new Coding("http://example.org/CodeSystem/test", "code", null);
+    CodeableConcept codeableConcept = new CodeableConcept(coding);
+
+    IWorkerContext.CodingValidationRequest codeSystemRequest = new IWorkerContext.CodingValidationRequest(coding);
+    IWorkerContext.ValueSetValidationRequest codingRequest = new IWorkerContext.ValueSetValidationRequest(valueSetOptions, coding, valueSet);
+    IWorkerContext.ValueSetValidationRequest codeableConceptRequest = new IWorkerContext.ValueSetValidationRequest(valueSetOptions, codeableConcept, valueSet);
+    IWorkerContext.ValueSetValidationRequest duplicateRequest = new IWorkerContext.ValueSetValidationRequest(valueSetOptions, codeableConcept, valueSet);
+
+    TerminologyCache.CacheToken codeSystemToken = mockCacheToken("cs");
+    TerminologyCache.CacheToken codingToken = mockCacheToken("coding");
+    TerminologyCache.CacheToken codeableConceptToken = mockCacheToken("cc");
+    Mockito.doReturn(codeSystemToken).when(terminologyCache).generateValidationToken(validationOptions, coding, null);
+    Mockito.doReturn(codingToken).when(terminologyCache).generateValidationToken(valueSetOptions, coding, valueSet);
+    Mockito.doReturn(codeableConceptToken).when(terminologyCache).generateValidationToken(valueSetOptions, codeableConcept, valueSet);
+
+    Bundle response = new Bundle();
+    for (int i = 0; i < 3; i++) {
+      response.addEntry().setResource(new Parameters().addParameter("result", true));
+    }
+    Mockito.doReturn(response).when(terminologyClient).validateBatch(any());
+
+    context.preValidateCodes(validationOptions, List.of(codeSystemRequest), List.of(codingRequest, codeableConceptRequest, duplicateRequest));
+
+    // one round trip for all of them, and the duplicate isn't sent 
+    ArgumentCaptor<Bundle> batch = ArgumentCaptor.forClass(Bundle.class);
+    Mockito.verify(terminologyClient).validateBatch(batch.capture());
+    assertEquals(3, batch.getValue().getEntry().size());
+    assertEquals("CodeSystem/$validate-code", batch.getValue().getEntry().get(0).getRequest().getUrl());
+    assertEquals("ValueSet/$validate-code", batch.getValue().getEntry().get(1).getRequest().getUrl());
+    assertEquals("ValueSet/$validate-code", batch.getValue().getEntry().get(2).getRequest().getUrl());
+    assertNotNull(((Parameters) batch.getValue().getEntry().get(2).getResource()).getParameter("valueSet"));
+
+    // and the results are cached under the tokens validateCode will look for
+    Mockito.verify(terminologyCache).cacheValidation(codeSystemToken, codeSystemRequest.getResult(), true);
+    Mockito.verify(terminologyCache).cacheValidation(codingToken, codingRequest.getResult(), true);
+    Mockito.verify(terminologyCache).cacheValidation(codeableConceptToken, codeableConceptRequest.getResult(), true);
+    assertTrue(codingRequest.getResult().isOk());
+    assertTrue(codeableConceptRequest.getResult().isOk());
+    assertFalse(duplicateRequest.hasResult());
+  }
+
+  @Test
+  public void testPreValidateCodesSkipsCachedValueSetChecks() throws IOException {
+    ValidationOptions valueSetOptions = new ValidationOptions().noClient().checkValueSetOnly();
+    ValueSet valueSet = new ValueSet();
+    CodeableConcept codeableConcept = new CodeableConcept(new Coding("http://example.org/CodeSystem/test", "code", null));
+    IWorkerContext.ValueSetValidationRequest request = new IWorkerContext.ValueSetValidationRequest(valueSetOptions, codeableConcept, valueSet);
+
+    TerminologyCache.CacheToken token = mockCacheToken("cc");
+    Mockito.doReturn(token).when(terminologyCache).generateValidationToken(valueSetOptions, codeableConcept, valueSet);
+    Mockito.doReturn(expectedValidationResult).when(terminologyCache).getValidation(token);
+
+    context.preValidateCodes(valueSetOptions, List.of(), List.of(request));
+
+    assertEquals(expectedValidationResult, request.getResult());
+    Mockito.verify(terminologyClient, times(0)).validateBatch(any());
+  }
+
   @Test
   public void testExpandValueSetWithCache() throws IOException {
 
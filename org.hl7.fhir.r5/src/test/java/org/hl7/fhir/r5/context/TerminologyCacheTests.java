@@ -9,6 +9,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -157,6 +158,83 @@ public class TerminologyCacheTests implements ResourceLoaderTests {
     deleteTempCacheDirectory(tempCacheDirectory);
   }
 
+  @Test
+  public void testCacheAppendReplacesEarlierEntry() throws IOException {
+    Path tempCacheDirectory = createTempCacheDirectory();
+    ValueSet valueSet = new ValueSet();
+    Coding coding = new Coding().setSystem("dummySystem").setCode("dummyCode");
+
+    TerminologyCache terminologyCacheA = new TerminologyCache(new Object(), tempCacheDirectory.toString());
+    TerminologyCache.CacheToken token = terminologyCacheA.generateValidationToken(CacheTestUtils.validationOptions, coding, valueSet);
+    terminologyCacheA.cacheValidation(token, new IWorkerContext.ValidationResult(ValidationMessage.IssueSeverity.INFORMATION, "first"), true);
+    terminologyCacheA.cacheValidation(token, new IWorkerContext.ValidationResult(ValidationMessage.IssueSeverity.WARNING, "second"), true);
+    assertEquals("second", terminologyCacheA.getValidation(token).getMessage());
+
+    TerminologyCache terminologyCacheB = new TerminologyCache(new Object(), tempCacheDirectory.toString());
+    IWorkerContext.ValidationResult result = terminologyCacheB.getValidation(terminologyCacheB.generateValidationToken(CacheTestUtils.validationOptions, coding, valueSet));
+    assertEquals("second", result.getMessage());
+    assertEquals(ValidationMessage.IssueSeverity.WARNING, result.getSeverity());
+    deleteTempCacheDirectory(tempCacheDirectory);
+  }
+
+  @Test
+  public void testCacheFileRewrittenByAnotherCache() throws IOException {
+    Path tempCacheDirectory = createTempCacheDirectory();
+    ValueSet valueSet = new ValueSet();
+    Coding coding1 = new Coding().setSystem("dummySystem").setCode("code1");
+    Coding coding2 = new Coding().setSystem("dummySystem").setCode("code2");
+
+    TerminologyCache terminologyCacheA = new TerminologyCache(new Object(), tempCacheDirectory.toString());
+    terminologyCacheA.cacheValidation(terminologyCacheA.generateValidationToken(CacheTestUtils.validationOptions, coding1, valueSet), 
+        new IWorkerContext.ValidationResult(ValidationMessage.IssueSeverity.INFORMATION, "one"), true);
+    terminologyCacheA.cacheValidation(terminologyCacheA.generateValidationToken(CacheTestUtils.validationOptions, coding2, valueSet), 
+        new IWorkerContext.ValidationResult(ValidationMessage.IssueSeverity.INFORMATION, "two"), true);
+
+    // B only notes where the entries are in the file
+    TerminologyCache terminologyCacheB = new TerminologyCache(new Object(), tempCacheDirectory.toString());
+
+    // then the file is rewritten with the entries in different places (as if it had been compacted somewhere else)
+    File[] files = tempCacheDirectory.toFile().listFiles((dir, name) -> name.endsWith(".cache"));
+    assertEquals(1, files.length);
+    String content = new String(Files.readAllBytes(files[0].toPath()), StandardCharsets.UTF_8);
+    String marker = content.substring(0, content.indexOf("\r\n"));
+    String filler = "{\"filler\" : true}####\r\nv: {\r\n  \"error\" : \"filler\"\r\n}\r\n"+marker+"\r\n";
+    Files.write(files[0].toPath(), (marker+"\r\n"+filler+content.substring(marker.length()+2)).getBytes(StandardCharsets.UTF_8));
+
+    assertEquals("one", terminologyCacheB.getValidation(terminologyCacheB.generateValidationToken(CacheTestUtils.validationOptions, coding1, valueSet)).getMessage());
+    assertEquals("two", terminologyCacheB.getValidation(terminologyCacheB.generateValidationToken(CacheTestUtils.validationOptions, coding2, valueSet)).getMessage());
+    deleteTempCacheDirectory(tempCacheDirectory);
+  }
+
+  @Test
+  public void testTransientEviction() throws IOException {
+    TerminologyCache terminologyCache = createTerminologyCache();
+    terminologyCache.setMaxTransientWeight(2);
+    ValueSet valueSet = new ValueSet();
+
+    TerminologyCache.CacheToken persistentToken = terminologyCache.generateValidationToken(CacheTestUtils.validationOptions,
+      new Coding().setSystem("dummySystem").setCode("persistent"), valueSet);
+    terminologyCache.cacheValidation(persistentToken, new IWorkerContext.ValidationResult(ValidationMessage.IssueSeverity.INFORMATION, "persistent"), TerminologyCache.PERMANENT);
+
+    TerminologyCache.CacheToken[] tokens = new TerminologyCache.CacheToken[3];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = terminologyCache.generateValidationToken(CacheTestUtils.validationOptions,
+        new Coding().setSystem("dummySystem").setCode("code"+i), valueSet);
+      terminologyCache.cacheValidation(tokens[i], new IWorkerContext.ValidationResult(ValidationMessage.IssueSeverity.INFORMATION, "info"+i), TerminologyCache.TRANSIENT);
+    }
+
+    // code0 is the least recently used, so it goes
+    assertNull(terminologyCache.getValidation(tokens[0]));
+    assertEquals("info1", terminologyCache.getValidation(tokens[1]).getMessage());
+    assertEquals("info2", terminologyCache.getValidation(tokens[2]).getMessage());
+    assertEquals("persistent", terminologyCache.getValidation(persistentToken).getMessage());
+    assertEquals(1, terminologyCache.getEvictionCount());
+    assertEquals(2, terminologyCache.getTransientWeight());
+    assertEquals(4, terminologyCache.getRequestCount());
+    assertEquals(3, terminologyCache.getHitCount());
+    assertEquals(1, terminologyCache.getNetworkCount());
+  }
+
   private void assertCanonicalResourceEquals(CanonicalResource a, CanonicalResource b) {
     assertTrue(a.equalsDeep(b));
   }
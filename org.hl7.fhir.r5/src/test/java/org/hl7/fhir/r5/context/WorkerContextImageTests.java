@@ -0,0 +1,123 @@
+package org.hl7.fhir.r5.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Date;
+
+import org.hl7.fhir.exceptions.FHIRException;
+import org.hl7.fhir.r5.conformance.profile.ProfileUtilities;
+import org.hl7.fhir.r5.model.CodeSystem;
+import org.hl7.fhir.r5.model.Enumerations.FHIRVersion;
+import org.hl7.fhir.r5.model.PackageInformation;
+import org.hl7.fhir.r5.model.StructureDefinition;
+import org.hl7.fhir.r5.model.StructureDefinition.StructureDefinitionKind;
+import org.hl7.fhir.r5.model.StructureDefinition.TypeDerivationRule;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.utilities.TextFile;
+import org.junit.jupiter.api.Test;
+
+public class WorkerContextImageTests {
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    SimpleWorkerContext context = new SimpleWorkerContext.SimpleWorkerContextBuilder().fromNothing();
+    PackageInformation pi = new PackageInformation("test.package", "1.0.0", new Date());
+    pi.getDependencies().add("other.package#2.0.0");
+
+    CodeSystem cs = new CodeSystem();
+    cs.setId("cs1");
+    cs.setUrl("http://example.org/CodeSystem/cs1");
+    cs.setVersion("1.0.0");
+    cs.addConcept().setCode("a").setDisplay("A");
+    cs.setUserData("path", "CodeSystem-cs1.html");
+    context.cacheResourceFromPackage(cs, pi);
+
+    ValueSet vs = new ValueSet();
+    vs.setId("vs1");
+    vs.setUrl("http://example.org/ValueSet/vs1");
+    vs.getCompose().addInclude().setSystem(cs.getUrl());
+    context.cacheResourceFromPackage(vs, pi);
+    context.getLoadedPackages().add(pi.getVID());
+    context.binaries.put("test.bin", new byte[] { 1, 2, 3 });
+
+    File f = Files.createTempFile("context", ".image").toFile();
+    try {
+      context.saveSnapshotImage(f.getAbsolutePath());
+      SimpleWorkerContext loaded = new SimpleWorkerContext.SimpleWorkerContextBuilder().fromSnapshotImage(f.getAbsolutePath());
+
+      CodeSystem lcs = loaded.fetchResource(CodeSystem.class, "http://example.org/CodeSystem/cs1|1.0.0");
+      assertNotNull(lcs);
+      assertEquals("A", lcs.getConceptFirstRep().getDisplay());
+      assertEquals("CodeSystem-cs1.html", lcs.getUserString("path"));
+      assertEquals("test.package#1.0.0", lcs.getSourcePackage().getVID());
+      assertEquals("other.package#2.0.0", lcs.getSourcePackage().getDependencies().get(0));
+
+      ValueSet lvs = loaded.fetchResource(ValueSet.class, "http://example.org/ValueSet/vs1");
+      assertNotNull(lvs);
+      assertEquals(cs.getUrl(), lvs.getCompose().getIncludeFirstRep().getSystem());
+
+      assertTrue(loaded.hasPackage("test.package", "1.0.0"));
+      assertEquals(3, loaded.getBinaryForKey("test.bin").length);
+    } finally {
+      f.delete();
+    }
+  }
+
+  @Test
+  public void testSnapshotsAndSupportedSystemsSaved() throws IOException {
+    SimpleWorkerContext context = new SimpleWorkerContext.SimpleWorkerContextBuilder().fromNothing();
+    context.cacheResource(ProfileUtilities.makeBaseDefinition(FHIRVersion._5_0_0));
+    StructureDefinition sd = new StructureDefinition();
+    sd.setId("profile");
+    sd.setUrl("http://example.org/StructureDefinition/profile");
+    sd.setName("Profile");
+    sd.setFhirVersion(FHIRVersion._5_0_0);
+    sd.setKind(StructureDefinitionKind.COMPLEXTYPE);
+    sd.setAbstract(false);
+    sd.setType("Base");
+    sd.setBaseDefinition("http://hl7.org/fhir/StructureDefinition/Base");
+    sd.setDerivation(TypeDerivationRule.CONSTRAINT);
+    sd.getDifferential().addElement().setPath("Base").setShort("a profile").setId("Base");
+    context.cacheResource(sd);
+    context.supportedCodeSystems.add("http://example.org/CodeSystem/supported");
+    assertFalse(sd.hasSnapshot());
+
+    File f = Files.createTempFile("context", ".image").toFile();
+    try {
+      context.saveSnapshotImage(f.getAbsolutePath());
+      SimpleWorkerContext loaded = new SimpleWorkerContext.SimpleWorkerContextBuilder().fromSnapshotImage(f.getAbsolutePath());
+
+      // fetchResourcesByType doesn't generate snapshots, so this one came from the image
+      StructureDefinition lsd = null;
+      for (StructureDefinition t : loaded.fetchResourcesByType(StructureDefinition.class)) {
+        if (sd.getUrl().equals(t.getUrl())) {
+          lsd = t;
+        }
+      }
+      assertNotNull(lsd);
+      assertTrue(lsd.hasSnapshot());
+      assertEquals("a profile", lsd.getSnapshot().getElementFirstRep().getShort());
+      assertTrue(loaded.supportedCodeSystems.contains("http://example.org/CodeSystem/supported"));
+    } finally {
+      f.delete();
+    }
+  }
+
+  @Test
+  public void testNotAnImage() throws IOException {
+    File f = Files.createTempFile("context", ".image").toFile();
+    try {
+      TextFile.stringToFile("this is not a context image", f.getAbsolutePath());
+      assertThrows(FHIRException.class, () -> new SimpleWorkerContext.SimpleWorkerContextBuilder().fromSnapshotImage(f.getAbsolutePath()));
+    } finally {
+      f.delete();
+    }
+  }
+}
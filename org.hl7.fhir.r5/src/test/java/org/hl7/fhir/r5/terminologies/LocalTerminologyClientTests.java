@@ -0,0 +1,135 @@
+package org.hl7.fhir.r5.terminologies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hl7.fhir.r5.context.SimpleWorkerContext;
+import org.hl7.fhir.r5.model.BooleanType;
+import org.hl7.fhir.r5.model.CodeSystem;
+import org.hl7.fhir.r5.model.Coding;
+import org.hl7.fhir.r5.model.CodeSystem.CodeSystemContentMode;
+import org.hl7.fhir.r5.model.Enumerations.PublicationStatus;
+import org.hl7.fhir.r5.model.Parameters;
+import org.hl7.fhir.r5.model.UriType;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LocalTerminologyClientTests {
+
+  private static final String CS_URL = "http://example.org/CodeSystem/cs1";
+  private static final String VS_URL = "http://example.org/ValueSet/vs1";
+
+  private SimpleWorkerContext context;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    context = new SimpleWorkerContext.SimpleWorkerContextBuilder().fromNothing();
+    context.setCanRunWithoutTerminology(true);
+    context.setNoTerminologyServer(true);
+
+    CodeSystem cs = new CodeSystem();
+    cs.setId("cs1");
+    cs.setUrl(CS_URL);
+    cs.setName("CS1");
+    cs.setStatus(PublicationStatus.ACTIVE);
+    cs.setContent(CodeSystemContentMode.COMPLETE);
+    cs.addConcept().setCode("a").setDisplay("A");
+    cs.addConcept().setCode("b").setDisplay("B");
+    cs.addConcept().setCode("c").setDisplay("C").addProperty().setCode("inactive").setValue(new BooleanType(true));
+    context.cacheResource(cs);
+
+    ValueSet vs = new ValueSet();
+    vs.setId("vs1");
+    vs.setUrl(VS_URL);
+    vs.setStatus(PublicationStatus.ACTIVE);
+    vs.getCompose().addInclude().setSystem(CS_URL).addConcept().setCode("a");
+    context.cacheResource(vs);
+  }
+
+  private Parameters validateVS(LocalTerminologyClient client, String code) {
+    return validateVS(client, VS_URL, code);
+  }
+
+  private Parameters validateVS(LocalTerminologyClient client, String url, String code) {
+    Parameters pin = new Parameters();
+    pin.addParameter().setName("coding").setValue(new Coding(CS_URL, code, null));
+    pin.addParameter().setName("url").setValue(new UriType(url));
+    return client.validateVS(pin);
+  }
+
+  private String summary(Parameters res) {
+    return res.getParameterBool("result")+" "+(res.hasParameterValue("message") ? res.getParameterValue("message").primitiveValue() : "");
+  }
+
+  @Test
+  public void testValidateCode() {
+    LocalTerminologyClient client = new LocalTerminologyClient(context);
+    Parameters pin = new Parameters();
+    pin.addParameter().setName("coding").setValue(new Coding(CS_URL, "b", null));
+    Parameters res = client.validateCS(pin);
+    assertTrue(res.getParameterBool("result"));
+    assertEquals("B", res.getParameterValue("display").primitiveValue());
+
+    assertTrue(validateVS(client, "a").getParameterBool("result"));
+    assertFalse(validateVS(client, "b").getParameterBool("result"));
+  }
+
+  @Test
+  public void testClosures() throws IOException {
+    LocalTerminologyClient client = new LocalTerminologyClient(context);
+    assertEquals(1, client.buildClosures());
+    Parameters res = validateVS(client, "a");
+    assertTrue(res.getParameterBool("result"));
+    assertEquals("A", res.getParameterValue("display").primitiveValue());
+
+    File f = Files.createTempFile("tx", LocalTerminologyClient.CLOSURE_EXTENSION).toFile();
+    try {
+      client.saveClosures(f.getAbsolutePath());
+      LocalTerminologyClient loaded = new LocalTerminologyClient(context);
+      loaded.loadClosures(f.getAbsolutePath());
+      assertTrue(validateVS(loaded, "a").getParameterBool("result"));
+      assertFalse(validateVS(loaded, "b").getParameterBool("result"));
+    } finally {
+      f.delete();
+    }
+  }
+
+  @Test
+  public void testClosuresMatchChecker() {
+    ValueSet vs = new ValueSet();
+    vs.setId("vs2");
+    vs.setUrl("http://example.org/ValueSet/vs2");
+    vs.setStatus(PublicationStatus.ACTIVE);
+    vs.getCompose().setInactive(true).addInclude().setSystem(CS_URL);
+    context.cacheResource(vs);
+
+    LocalTerminologyClient checker = new LocalTerminologyClient(context);
+    LocalTerminologyClient client = new LocalTerminologyClient(context);
+    assertEquals(2, client.buildClosures());
+    // the inactive code isn't answered from the closure, so it gets whatever the checker says about it 
+    for (String code : new String[] { "a", "b", "c" }) {
+      assertEquals(summary(validateVS(checker, vs.getUrl(), code)), summary(validateVS(client, vs.getUrl(), code)), code);
+    }
+  }
+
+  @Test
+  public void testLookupAndExpand() {
+    LocalTerminologyClient client = new LocalTerminologyClient(context);
+    Map<String, String> params = new HashMap<>();
+    params.put("system", CS_URL);
+    params.put("code", "a");
+    assertEquals("A", client.lookupCode(params).getParameterValue("display").primitiveValue());
+
+    ValueSet exp = client.expandValueset(context.fetchResource(ValueSet.class, VS_URL), null, null);
+    assertEquals(1, exp.getExpansion().getContains().size());
+    assertEquals("a", exp.getExpansion().getContainsFirstRep().getCode());
+  }
+}
@@ -0,0 +1,100 @@
+package org.hl7.fhir.r5.terminologies;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.hl7.fhir.r5.context.SimpleWorkerContext;
+import org.hl7.fhir.r5.model.CodeSystem;
+import org.hl7.fhir.r5.model.CodeSystem.ConceptDefinitionComponent;
+import org.hl7.fhir.r5.model.CodeSystem.CodeSystemContentMode;
+import org.hl7.fhir.r5.model.Enumerations.FilterOperator;
+import org.hl7.fhir.r5.model.Enumerations.PublicationStatus;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.utilities.validation.ValidationOptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ValueSetMembershipTests {
+
+  private static final String CS_URL = "http://example.org/CodeSystem/cs1";
+
+  private SimpleWorkerContext context;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    context = new SimpleWorkerContext.SimpleWorkerContextBuilder().fromNothing();
+    context.setCanRunWithoutTerminology(true);
+    context.setNoTerminologyServer(true);
+
+    CodeSystem cs = new CodeSystem();
+    cs.setId("cs1");
+    cs.setUrl(CS_URL);
+    cs.setStatus(PublicationStatus.ACTIVE);
+    cs.setContent(CodeSystemContentMode.COMPLETE);
+    cs.setCaseSensitive(true);
+    ConceptDefinitionComponent a = cs.addConcept().setCode("a");
+    ConceptDefinitionComponent b = a.addConcept().setCode("b");
+    b.addConcept().setCode("c");
+    b.addConcept().setCode("d");
+    cs.addConcept().setCode("e");
+    context.cacheResource(cs);
+  }
+
+  private ValueSet makeValueSet(String id) {
+    ValueSet vs = new ValueSet();
+    vs.setId(id);
+    vs.setUrl("http://example.org/ValueSet/" + id);
+    vs.setStatus(PublicationStatus.ACTIVE);
+    return vs;
+  }
+
+  @Test
+  public void testFiltersAndExcludes() {
+    ValueSet vs = makeValueSet("vs1");
+    vs.getCompose().addInclude().setSystem(CS_URL).addFilter().setProperty("concept").setOp(FilterOperator.ISA).setValue("b");
+    vs.getCompose().addExclude().setSystem(CS_URL).addConcept().setCode("d");
+    context.cacheResource(vs);
+
+    ValueSetMembership vsm = context.getValueSetMembership(vs);
+    assertNotNull(vsm);
+    assertSame(vsm, context.getValueSetMembership(vs));
+    assertTrue(vsm.contains(CS_URL, "b"));
+    assertTrue(vsm.contains(CS_URL, "c"));
+    assertFalse(vsm.contains(CS_URL, "d"));
+    assertFalse(vsm.contains(CS_URL, "a"));
+    assertFalse(vsm.contains(CS_URL, "e"));
+    assertFalse(vsm.contains("http://example.org/other", "c"));
+
+    ValueSetCheckerSimple vsc = new ValueSetCheckerSimple(ValidationOptions.defaults().noServer(), vs, context);
+    assertTrue(vsc.codeInValueSet(CS_URL, null, "c", null));
+    assertFalse(vsc.codeInValueSet(CS_URL, null, "e", null));
+  }
+
+  @Test
+  public void testImports() {
+    ValueSet inner = makeValueSet("inner");
+    inner.getCompose().addInclude().setSystem(CS_URL).addConcept().setCode("e");
+    context.cacheResource(inner);
+    ValueSet vs = makeValueSet("outer");
+    vs.getCompose().addInclude().addValueSet(inner.getUrl());
+    context.cacheResource(vs);
+
+    ValueSetMembership vsm = context.getValueSetMembership(vs);
+    assertNotNull(vsm);
+    assertTrue(vsm.contains(CS_URL, "e"));
+    assertFalse(vsm.contains(CS_URL, "a"));
+  }
+
+  @Test
+  public void testNotCompiled() {
+    ValueSet vs = makeValueSet("vs2");
+    vs.getCompose().addInclude().setSystem("http://example.org/unknown").addConcept().setCode("x");
+    context.cacheResource(vs);
+    assertNull(context.getValueSetMembership(vs));
+  }
+}
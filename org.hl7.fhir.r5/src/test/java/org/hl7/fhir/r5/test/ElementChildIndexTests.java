@@ -0,0 +1,102 @@
+package org.hl7.fhir.r5.test;
+
+import java.util.List;
+
+import org.hl7.fhir.r5.context.IWorkerContext;
+import org.hl7.fhir.r5.elementmodel.Element;
+import org.hl7.fhir.r5.elementmodel.ResourceParser;
+import org.hl7.fhir.r5.model.CodeableConcept;
+import org.hl7.fhir.r5.model.Enumerations.ObservationStatus;
+import org.hl7.fhir.r5.model.Observation;
+import org.hl7.fhir.r5.model.StringType;
+import org.hl7.fhir.r5.test.utils.TestingUtilities;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ElementChildIndexTests {
+
+  /**
+   * an observation with a valueString, and enough components (if asked) that the element has
+   * more than 20 children, so lookups go through the index
+   */
+  private Element observation(int components) {
+    IWorkerContext ctxt = TestingUtilities.getSharedWorkerContext();
+    Observation obs = new Observation();
+    obs.setStatus(ObservationStatus.FINAL);
+    obs.setCode(new CodeableConcept().setText("test"));
+    obs.setValue(new StringType("value"));
+    for (int i = 0; i < components; i++) {
+      obs.addComponent().setCode(new CodeableConcept().setText("c" + i));
+    }
+    return new ResourceParser(ctxt).parse(obs);
+  }
+
+  private void checkChoice(Element e) {
+    Element v = e.getNamedChild("valueString");
+    Assertions.assertNotNull(v);
+    Assertions.assertSame(v, e.getNamedChild("value"));
+    Assertions.assertEquals(List.of(v), e.getNamedChildrenView("value"));
+    Assertions.assertEquals(List.of(v), e.getNamedChildrenView("valueString"));
+    Assertions.assertNull(e.getNamedChild("valueQuantity"));
+  }
+
+  @Test
+  public void testChoiceBaseNameScan() {
+    Element e = observation(0);
+    Assertions.assertTrue(e.getChildren().size() <= 20);
+    checkChoice(e);
+  }
+
+  @Test
+  public void testChoiceBaseNameIndexed() {
+    Element e = observation(25);
+    Assertions.assertTrue(e.getChildren().size() > 20);
+    checkChoice(e);
+    Assertions.assertEquals(25, e.getNamedChildrenView("component").size());
+  }
+
+  @Test
+  public void testChildRemovedAndAdded() {
+    Element e = observation(25);
+    Element status = e.getNamedChild("status");
+    Assertions.assertNotNull(status);
+
+    // swap a child for another through getChildren(), so the number of children is the same
+    Element comp = e.getNamedChildrenView("component").get(0);
+    List<Element> children = e.getChildren();
+    int size = children.size();
+    children.remove(status);
+    children.add(comp);
+    Assertions.assertEquals(size, children.size());
+
+    Assertions.assertNull(e.getNamedChild("status"));
+    Assertions.assertTrue(e.getNamedChildrenView("status").isEmpty());
+    Assertions.assertEquals(26, e.getNamedChildrenView("component").size());
+  }
+
+  @Test
+  public void testChildReplaced() {
+    Element e = observation(25);
+    Element v = e.getNamedChild("value");
+    Element status = e.getNamedChild("status");
+    Assertions.assertNotNull(v);
+
+    List<Element> children = e.getChildren();
+    children.set(children.indexOf(v), status);
+
+    Assertions.assertNull(e.getNamedChild("value"));
+    Assertions.assertNull(e.getNamedChild("valueString"));
+    Assertions.assertEquals(2, e.getNamedChildrenView("status").size());
+  }
+
+  @Test
+  public void testChildrenSorted() {
+    Element e = observation(25);
+    Element first = e.getNamedChildrenView("component").get(0);
+
+    e.getChildren().sort((e0, e1) -> e0 == first ? 1 : e1 == first ? -1 : 0);
+
+    List<Element> components = e.getNamedChildrenView("component");
+    Assertions.assertSame(first, components.get(components.size() - 1));
+  }
+}
@@ -1,7 +1,12 @@
 package org.hl7.fhir.r5.test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
+import org.hl7.fhir.r5.model.Bundle;
+import org.hl7.fhir.r5.model.Patient;
+import org.hl7.fhir.r5.model.Resource;
 import org.hl7.fhir.r5.test.utils.TestingUtilities;
 import org.hl7.fhir.utilities.json.model.JsonElement;
 import org.hl7.fhir.utilities.json.model.JsonObject;
@@ -29,6 +34,32 @@ public class JsonParserTests {
     checkLine(json.get("type"), 50, 11);
   }
 
+  @Test
+  public void testStreaming() throws IOException {
+    Bundle bnd = new Bundle();
+    bnd.setId("b1");
+    bnd.setType(Bundle.BundleType.COLLECTION);
+    for (int i = 0; i < 3; i++) {
+      Patient pat = new Patient();
+      pat.setId("p"+i);
+      pat.addName().setFamily("Family"+i);
+      bnd.addEntry().setFullUrl("http://example.org/Patient/p"+i).setResource(pat);
+    }
+    bnd.getMeta().setVersionId("2.0");
+    String src = new org.hl7.fhir.r5.formats.JsonParser().composeString(bnd);
+    checkStreaming(src, 3);
+    // entry before resourceType is read into the tree as usual
+    checkStreaming("{\"entry\" : [{\"fullUrl\" : \"http://example.org/Patient/p0\"}], \"resourceType\" : \"Bundle\", \"type\" : \"collection\"}", 1);
+  }
+
+  private void checkStreaming(String src, int count) throws IOException {
+    Resource expected = new org.hl7.fhir.r5.formats.JsonParser().parse(src);
+    Resource actual = new org.hl7.fhir.r5.formats.JsonParser().setStreaming(true).parse(new ByteArrayInputStream(src.getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertEquals(count, ((Bundle) actual).getEntry().size());
+    Assertions.assertTrue(expected.equalsDeep(actual));
+    Assertions.assertEquals(new org.hl7.fhir.r5.formats.JsonParser().composeString(expected), new org.hl7.fhir.r5.formats.JsonParser().composeString(actual));
+  }
+
   private void checkLine(JsonElement e, int line, int col) {
     Assertions.assertEquals(line, e.getStart().getLine(), "line");
     Assertions.assertEquals(col, e.getStart().getCol(), "col");
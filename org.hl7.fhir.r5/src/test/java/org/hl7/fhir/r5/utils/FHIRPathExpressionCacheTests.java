@@ -0,0 +1,46 @@
+package org.hl7.fhir.r5.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+
+import org.hl7.fhir.r5.context.SimpleWorkerContext;
+import org.hl7.fhir.r5.model.ExpressionNode;
+import org.junit.jupiter.api.Test;
+
+public class FHIRPathExpressionCacheTests {
+
+  @Test
+  public void testSharedBetweenEngines() throws IOException {
+    SimpleWorkerContext context = new SimpleWorkerContext.SimpleWorkerContextBuilder().fromNothing();
+    FHIRPathEngine fpe1 = new FHIRPathEngine(context);
+    FHIRPathEngine fpe2 = new FHIRPathEngine(context);
+
+    ExpressionNode n = fpe1.parseCached("name.given.first()");
+    assertSame(n, fpe2.parseCached("name.given.first()"));
+    assertNotSame(n, fpe2.parse("name.given.first()"));
+
+    FHIRPathExpressionCache cache = context.getExpressionCache();
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    assertEquals(0.5, cache.getHitRate());
+  }
+
+  @Test
+  public void testBounded() {
+    FHIRPathExpressionCache cache = new FHIRPathExpressionCache(2);
+    cache.put("a", new ExpressionNode(0));
+    cache.put("b", new ExpressionNode(1));
+    assertNotNull(cache.get("a"));
+    cache.put("c", new ExpressionNode(2));
+    assertEquals(2, cache.size());
+    assertNull(cache.get("b"));
+    assertNotNull(cache.get("a"));
+    assertNotNull(cache.get("c"));
+  }
+}
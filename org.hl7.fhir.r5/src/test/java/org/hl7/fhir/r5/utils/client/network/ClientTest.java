@@ -97,6 +97,40 @@ class ClientTest {
       "GET request returned resource does not match expected.");
   }
 
+  @Test
+  @DisplayName("Asynchronous GET request, happy path.")
+  void test_get_async_happy_path() throws Exception {
+    server.enqueue(
+      new MockResponse()
+        .setBody(new String(generateResourceBytes(patient)))
+    );
+    ResourceRequest<Resource> resourceRequest = client.<Resource>issueGetResourceRequestAsync(new URI(serverUrl.toString()),
+      "json", null, null, TIMEOUT).get(TIMEOUT, TimeUnit.MILLISECONDS);
+    Assertions.assertTrue(resourceRequest.isSuccessfulRequest());
+    Assertions.assertTrue(patient.equalsDeep(resourceRequest.getPayload()),
+      "GET request returned resource does not match expected.");
+  }
+
+  @Test
+  @DisplayName("Asynchronous GET request, test client retries after bad response.")
+  void test_get_async_retries_with_unsuccessful_response() throws Exception {
+    int failedAttempts = new Random().nextInt(5) + 1;
+    for (int i = 0; i < failedAttempts; i++) {
+      server.enqueue(
+        new MockResponse()
+          .setResponseCode(400 + i)
+          .setBody(new String(generateResourceBytes(patient)))
+      );
+    }
+    server.enqueue(new MockResponse().setBody(new String(generateResourceBytes(patient))));
+    client.setRetryCount(failedAttempts + 1);
+
+    ResourceRequest<Resource> resourceRequest = client.<Resource>issueGetResourceRequestAsync(new URI(serverUrl.toString()),
+      "json", null, null, TIMEOUT).get(TIMEOUT, TimeUnit.MILLISECONDS);
+    Assertions.assertTrue(resourceRequest.isSuccessfulRequest());
+    Assertions.assertEquals(failedAttempts + 1, server.getRequestCount());
+  }
+
   @Test
   @DisplayName("GET request, test client retries after bad response.")
   void test_get_retries_with_unsuccessful_response() throws IOException, URISyntaxException {
@@ -64,6 +64,26 @@ public class TimeTracker {
     c.length = c.length + System.nanoTime() - session.start;
   }
   
+  /**
+   * add the counts and times recorded by another tracker (e.g. one used by another thread) to this one
+   */
+  public void merge(TimeTracker other) {
+    for (Counter oc : other.records) {
+      Counter c = null;
+      for (Counter t : records) {
+        if (t.name.equals(oc.name)) {
+          c = t;
+        }
+      }
+      if (c == null) {
+        c = new Counter(oc.name);
+        records.add(c);
+      }
+      c.count = c.count + oc.count;
+      c.length = c.length + oc.length;
+    }
+  }
+
   public String report() {
     CommaSeparatedStringBuilder b = new CommaSeparatedStringBuilder();
     for (Counter c : records) {
@@ -165,6 +165,9 @@ public class NpmPackage {
     private Map<String, byte[]> content = new HashMap<>();
     private JsonObject index;
     private File folder;
+    // lookups built from the index the first time they're needed, so finding a resource doesn't scan the index
+    private Map<String, JsonObject> canonicalLookup;
+    private Map<String, JsonObject> typeIdLookup;
 
     public NpmPackageFolder(String name) {
       super();
@@ -184,6 +187,8 @@ public class NpmPackage {
         return false;
       }
       this.index = index;
+      this.canonicalLookup = null;
+      this.typeIdLookup = null;
       for (JsonObject file : index.getJsonObjects("files")) {
         String type = file.asString("resourceType");
         String name = file.asString("filename");
@@ -194,6 +199,51 @@ public class NpmPackage {
       return true;
     }
 
+    private synchronized void buildLookups() {
+      if (canonicalLookup == null) {
+        Map<String, JsonObject> cl = new HashMap<>();
+        Map<String, JsonObject> tl = new HashMap<>();
+        for (JsonObject file : index.getJsonObjects("files")) {
+          String url = file.asString("url");
+          if (url != null) {
+            // where there's more than one entry, the first one in the index wins
+            cl.putIfAbsent(url, file);
+            if (file.asString("version") != null) {
+              cl.putIfAbsent(url+"|"+file.asString("version"), file);
+            }
+          }
+          String id = file.asString("id");
+          if (id != null) {
+            tl.putIfAbsent(file.asString("resourceType")+"/"+id, file);
+          }
+        }
+        typeIdLookup = tl;
+        canonicalLookup = cl;
+      }
+    }
+
+    /**
+     * @return the index entry for the resource with the given url (and version, if not null), or null
+     */
+    public JsonObject findByCanonical(String url, String version) {
+      if (index == null) {
+        return null;
+      }
+      buildLookups();
+      return canonicalLookup.get(version == null ? url : url+"|"+version);
+    }
+
+    /**
+     * @return the index entry for the resource with the given type and id, or null
+     */
+    public JsonObject findByTypeAndId(String type, String id) {
+      if (index == null) {
+        return null;
+      }
+      buildLookups();
+      return typeIdLookup.get(type+"/"+id);
+    }
+
     public List<String> listFiles() {
       List<String> res = new ArrayList<>();
       if (folder != null) {
@@ -642,25 +692,8 @@ public class NpmPackage {
    */
   public InputStream loadByCanonicalVersion(String folder, String canonical, String version) throws IOException {
     NpmPackageFolder f = folders.get(folder);
-    List<JsonObject> matches = new ArrayList<>();
-    for (JsonObject file : f.index.getJsonObjects("files")) {
-      if (canonical.equals(file.asString("url"))) {
-        if (version != null && version.equals(file.asString("version"))) {
-          return load("package", file.asString("filename"));
-        } else if (version == null) {
-          matches.add(file);
-        }
-      }
-      if (matches.size() > 0) {
-        if (matches.size() == 1) {
-          return load("package", matches.get(0).asString("filename"));          
-        } else {
-          Collections.sort(matches, new IndexVersionSorter());
-          return load("package", matches.get(matches.size()-1).asString("filename"));          
-        }
-      }
-    }
-    return null;        
+    JsonObject file = f.findByCanonical(canonical, version);
+    return file == null ? null : load("package", file.asString("filename"));
   }
     
   /**
@@ -858,14 +891,8 @@ public class NpmPackage {
 
   public InputStream loadResource(String type, String id) throws IOException {
     NpmPackageFolder f = folders.get("package");
-    JsonArray files = f.index.getJsonArray("files");
-    for (JsonElement e : files.getItems()) {
-      JsonObject i = (JsonObject) e;
-      if (type.equals(i.asString("resourceType")) && id.equals(i.asString("id"))) {
-        return load("package", i.asString("filename"));
-      }
-    }
-    return null;
+    JsonObject i = f.findByTypeAndId(type, id);
+    return i == null ? null : load("package", i.asString("filename"));
   }
 
   public InputStream loadExampleResource(String type, String id) throws IOException {
@@ -874,12 +901,9 @@ public class NpmPackage {
       f = folders.get("package/example");      
     }
     if (f != null) {
-      JsonArray files = f.index.getJsonArray("files");
-      for (JsonElement e : files.getItems()) {
-        JsonObject i = (JsonObject) e;
-        if (type.equals(i.asString("resourceType")) && id.equals(i.asString("id"))) {
-          return load("example", i.asString("filename"));
-        }
+      JsonObject i = f.findByTypeAndId(type, id);
+      if (i != null) {
+        return load("example", i.asString("filename"));
       }
     }
     return null;
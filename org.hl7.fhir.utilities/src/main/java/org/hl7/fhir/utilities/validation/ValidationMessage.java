@@ -66,6 +66,7 @@ import java.text.SimpleDateFormat;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.EnumMap;
+import java.util.Objects;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -733,6 +734,12 @@ public class ValidationMessage implements Comparator<ValidationMessage>, Compara
     return (this.getMessage() != null && this.getMessage().equals(((ValidationMessage)o).getMessage())) && (this.getLocation() != null && this.getLocation().equals(((ValidationMessage)o).getLocation()));
   }
 
+  @Override
+  public int hashCode() {
+    // consistent with equals, which only looks at the message and location
+    return Objects.hash(getMessage(), getLocation());
+  }
+
   @Override
   public int compare(ValidationMessage x, ValidationMessage y) {
     String sx = x.getLevel().getDisplay() + x.getType().getDisplay() + String.format("%06d", x.getLine()) + x.getMessage();
@@ -0,0 +1,120 @@
+package org.hl7.fhir.utilities.validation;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * A list of validation messages that keeps them in the order they were added, but also keeps a hash index of them,
+ * so that contains() doesn't have to look through the whole list. The validator checks whether a message has
+ * already been reported before adding it, and with a plain list that gets slow when there's a lot of messages.
+ *
+ * contains() gives the same answer as it does for any other list (see ValidationMessage.equals). Messages must
+ * not have their message or location changed once they're in the list.
+ */
+public class ValidationMessageList extends AbstractList<ValidationMessage> implements RandomAccess {
+
+  private final List<ValidationMessage> list;
+  private final Map<ValidationMessage, Integer> index = new HashMap<>(); // how many messages in the list are equal to the key
+
+  public ValidationMessageList() {
+    list = new ArrayList<>();
+  }
+
+  public ValidationMessageList(Collection<? extends ValidationMessage> messages) {
+    list = new ArrayList<>(messages.size());
+    addAll(messages);
+  }
+
+  @Override
+  public ValidationMessage get(int i) {
+    return list.get(i);
+  }
+
+  @Override
+  public int size() {
+    return list.size();
+  }
+
+  @Override
+  public void add(int i, ValidationMessage vm) {
+    list.add(i, vm);
+    modCount++;
+    addToIndex(vm);
+  }
+
+  @Override
+  public ValidationMessage set(int i, ValidationMessage vm) {
+    ValidationMessage old = list.set(i, vm);
+    removeFromIndex(old);
+    addToIndex(vm);
+    return old;
+  }
+
+  @Override
+  public ValidationMessage remove(int i) {
+    ValidationMessage old = list.remove(i);
+    modCount++;
+    removeFromIndex(old);
+    return old;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o instanceof ValidationMessage && isIndexed((ValidationMessage) o) && index.containsKey(o);
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super ValidationMessage> filter) {
+    boolean removed = list.removeIf(filter);
+    if (removed) {
+      modCount++;
+      index.clear();
+      for (ValidationMessage vm : list) {
+        addToIndex(vm);
+      }
+    }
+    return removed;
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    return removeIf(c::contains);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    return removeIf(vm -> !c.contains(vm));
+  }
+
+  @Override
+  public void clear() {
+    list.clear();
+    modCount++;
+    index.clear();
+  }
+
+  /**
+   * ValidationMessage.equals is never true for a message with no message or location, so those aren't indexed
+   */
+  private boolean isIndexed(ValidationMessage vm) {
+    return vm != null && vm.getMessage() != null && vm.getLocation() != null;
+  }
+
+  private void addToIndex(ValidationMessage vm) {
+    if (isIndexed(vm)) {
+      index.merge(vm, 1, Integer::sum);
+    }
+  }
+
+  private void removeFromIndex(ValidationMessage vm) {
+    if (isIndexed(vm)) {
+      index.computeIfPresent(vm, (k, v) -> v == 1 ? null : v - 1);
+    }
+  }
+}
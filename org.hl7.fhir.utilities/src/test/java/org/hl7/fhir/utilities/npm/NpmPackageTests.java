@@ -11,6 +11,7 @@ import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class NpmPackageTests implements ResourceLoaderTests {
   @Test
@@ -32,4 +33,23 @@ public class NpmPackageTests implements ResourceLoaderTests {
     assertNotNull(thrown);
     assertEquals("Entry with an illegal name: ../evil.txt", thrown.getMessage());
   }
+
+  @Test
+  public void testIndexLookups() throws IOException {
+    NpmPackage npm = NpmPackage.empty();
+    npm.loadFile("package/package.json", "{\"name\" : \"test.package\", \"version\" : \"1.0.0\"}".getBytes(StandardCharsets.UTF_8));
+    npm.loadFile("package/ValueSet-a.json", "{\"resourceType\" : \"ValueSet\", \"id\" : \"a\", \"url\" : \"http://example.org/ValueSet/a\", \"version\" : \"1.0\"}".getBytes(StandardCharsets.UTF_8));
+    npm.loadFile("package/ValueSet-b.json", "{\"resourceType\" : \"ValueSet\", \"id\" : \"b\", \"url\" : \"http://example.org/ValueSet/b\"}".getBytes(StandardCharsets.UTF_8));
+    npm.indexFolder("test", npm.getFolders().get("package"));
+
+    assertNotNull(npm.loadByCanonical("http://example.org/ValueSet/a"));
+    assertNotNull(npm.loadByCanonicalVersion("http://example.org/ValueSet/a", "1.0"));
+    assertNull(npm.loadByCanonicalVersion("http://example.org/ValueSet/a", "2.0"));
+    assertNotNull(npm.loadByCanonical("http://example.org/ValueSet/b"));
+    assertNull(npm.loadByCanonical("http://example.org/ValueSet/c"));
+
+    String b = IOUtils.toString(npm.loadResource("ValueSet", "b"), StandardCharsets.UTF_8.name());
+    assertEquals(true, b.contains("http://example.org/ValueSet/b"));
+    assertNull(npm.loadResource("CodeSystem", "b"));
+  }
 }
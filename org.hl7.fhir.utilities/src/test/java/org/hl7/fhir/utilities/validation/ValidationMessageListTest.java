@@ -0,0 +1,65 @@
+package org.hl7.fhir.utilities.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hl7.fhir.utilities.validation.ValidationMessage.IssueSeverity;
+import org.hl7.fhir.utilities.validation.ValidationMessage.IssueType;
+import org.hl7.fhir.utilities.validation.ValidationMessage.Source;
+import org.junit.jupiter.api.Test;
+
+public class ValidationMessageListTest {
+
+  private ValidationMessage vm(String path, String msg) {
+    return new ValidationMessage(Source.InstanceValidator, IssueType.INVALID, path, msg, IssueSeverity.ERROR);
+  }
+
+  @Test
+  public void testContainsLikeAList() {
+    List<ValidationMessage> list = new ValidationMessageList();
+    list.add(vm("Patient.name", "a"));
+    list.add(vm("Patient.name", "b"));
+    list.add(vm(null, "c"));
+
+    assertTrue(list.contains(vm("Patient.name", "a")));
+    assertFalse(list.contains(vm("Patient.gender", "a")));
+    // ValidationMessage.equals is never true without a location
+    assertFalse(list.contains(list.get(2)));
+    assertFalse(new ArrayList<>(list).contains(list.get(2)));
+  }
+
+  @Test
+  public void testOrderAndRemoval() {
+    ValidationMessage a = vm("Patient.name", "a");
+    ValidationMessage b = vm("Patient.name", "b");
+    ValidationMessage a2 = vm("Patient.name", "a");
+    List<ValidationMessage> list = new ValidationMessageList();
+    list.add(a);
+    list.add(b);
+    list.add(a2);
+
+    list.remove(0);
+    assertSame(b, list.get(0));
+    assertSame(a2, list.get(1));
+    assertTrue(list.contains(a)); // a2 is still there
+
+    List<ValidationMessage> toRemove = new ValidationMessageList();
+    toRemove.add(a);
+    list.removeAll(toRemove);
+    assertEquals(1, list.size());
+    assertFalse(list.contains(a));
+
+    for (Iterator<ValidationMessage> i = list.iterator(); i.hasNext(); ) {
+      i.next();
+      i.remove();
+    }
+    assertTrue(list.isEmpty());
+    assertFalse(list.contains(b));
+  }
+}
@@ -70,6 +70,7 @@ import org.hl7.fhir.utilities.validation.ValidationMessage;
 import org.hl7.fhir.utilities.validation.ValidationMessage.IssueSeverity;
 import org.hl7.fhir.utilities.validation.ValidationMessage.IssueType;
 import org.hl7.fhir.utilities.validation.ValidationMessage.Source;
+import org.hl7.fhir.utilities.validation.ValidationMessageList;
 import org.hl7.fhir.validation.cli.utils.ValidationLevel;
 import org.hl7.fhir.validation.instance.utils.IndexedElement;
 
@@ -152,7 +153,7 @@ public class BaseValidator implements IValidationContextResourceLoader {
   protected TimeTracker timeTracker = new TimeTracker();
   protected XVerExtensionManager xverManager;
   protected List<TrackedLocationRelatedMessage> trackedMessages = new ArrayList<>();
-  protected List<ValidationMessage> messagesToRemove = new ArrayList<>();
+  protected List<ValidationMessage> messagesToRemove = new ValidationMessageList();
   private ValidationLevel level = ValidationLevel.HINTS;
   protected Coding jurisdiction;
 
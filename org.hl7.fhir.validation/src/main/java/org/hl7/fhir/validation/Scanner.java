@@ -9,7 +9,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -22,7 +21,7 @@ import java.util.zip.ZipInputStream;
 import org.hl7.fhir.exceptions.FHIRException;
 import org.hl7.fhir.r5.context.ContextUtilities;
 import org.hl7.fhir.r5.context.SimpleWorkerContext;
-import org.hl7.fhir.r5.elementmodel.Element;
+import org.hl7.fhir.r5.elementmodel.ParserBase.NamedElement;
 import org.hl7.fhir.r5.model.ImplementationGuide;
 import org.hl7.fhir.r5.model.OperationOutcome;
 import org.hl7.fhir.r5.model.StructureDefinition;
@@ -35,6 +34,7 @@ import org.hl7.fhir.utilities.SimpleHTTPClient;
 import org.hl7.fhir.utilities.SimpleHTTPClient.HTTPResult;
 import org.hl7.fhir.utilities.TextFile;
 import org.hl7.fhir.utilities.Utilities;
+import org.hl7.fhir.utilities.i18n.I18nConstants;
 import org.hl7.fhir.utilities.validation.ValidationMessage;
 import org.hl7.fhir.utilities.xhtml.XhtmlComposer;
 import org.hl7.fhir.validation.cli.model.ScanOutputItem;
@@ -82,31 +82,40 @@ public class Scanner {
 
     for (String ref : refs) {
       Content cnt = getIgLoader().loadContent(ref, "validate", false);
-      List<ValidationMessage> messages = new ArrayList<>();
-      Element e = null;
+      List<ValidationMessage> parseMessages = new ArrayList<>();
+      List<NamedElement> elements = null;
       try {
         System.out.println("Validate " + ref);
-        messages.clear();
-        e = getValidator().validate(null, messages, new ByteArrayInputStream(cnt.focus), cnt.cntType);
+        // parse once, and then validate the parsed content against the core spec and all the profiles
+        List<StructureDefinition> implied = new ArrayList<>();
+        elements = getValidator().parseForValidation(parseMessages, new ByteArrayInputStream(cnt.focus), cnt.cntType, implied);
+        List<ValidationMessage> messages = new ArrayList<>(parseMessages);
+        for (NamedElement ne : elements) {
+          getValidator().validate(null, messages, ne.getName(), ne.getElement(), implied);
+        }
         res.add(new ScanOutputItem(ref, null, null, ValidatorUtils.messagesToOutcome(messages, getContext(), getFhirPathEngine())));
       } catch (Exception ex) {
+        elements = null;
         res.add(new ScanOutputItem(ref, null, null, exceptionToOutcome(ex)));
       }
-      if (e != null) {
-        String rt = e.fhirType();
+      if (elements != null && !elements.isEmpty()) {
+        String rt = elements.get(0).getElement().fhirType();
+        List<ImplementationGuide> profileGuides = new ArrayList<>();
+        List<StructureDefinition> profiles = new ArrayList<>();
+        List<StructureDefinition> reported = new ArrayList<>(); // what each is reported as: null for the global profile
         for (String u : guides) {
           ImplementationGuide ig = getContext().fetchResource(ImplementationGuide.class, u);
           System.out.println("Check Guide " + ig.getUrl());
           String canonical = ig.getUrl().contains("/Impl") ? ig.getUrl().substring(0, ig.getUrl().indexOf("/Impl")) : ig.getUrl();
           String url = getGlobal(ig, rt);
           if (url != null) {
-            try {
-              System.out.println("Validate " + ref + " against " + ig.getUrl());
-              messages.clear();
-              getValidator().validate(null, messages, new ByteArrayInputStream(cnt.focus), cnt.cntType, url);
-              res.add(new ScanOutputItem(ref, ig, null, ValidatorUtils.messagesToOutcome(messages, getContext(), getFhirPathEngine())));
-            } catch (Exception ex) {
-              res.add(new ScanOutputItem(ref, ig, null, exceptionToOutcome(ex)));
+            StructureDefinition sd = getContext().fetchResource(StructureDefinition.class, url);
+            if (sd == null) {
+              res.add(new ScanOutputItem(ref, ig, null, exceptionToOutcome(new FHIRException(getContext().formatMessage(I18nConstants.UNABLE_TO_LOCATE_THE_PROFILE__IN_ORDER_TO_VALIDATE_AGAINST_IT, url)))));
+            } else {
+              profileGuides.add(ig);
+              profiles.add(sd);
+              reported.add(null);
             }
           }
           Set<String> done = new HashSet<>();
@@ -114,18 +123,27 @@ public class Scanner {
             if (!done.contains(sd.getUrl())) {
               done.add(sd.getUrl());
               if (sd.getUrl().startsWith(canonical) && rt.equals(sd.getType())) {
-                try {
-                  System.out.println("Validate " + ref + " against " + sd.getUrl());
-                  messages.clear();
-                  validator.validate(null, messages, new ByteArrayInputStream(cnt.focus), cnt.cntType, Collections.singletonList(sd));
-                  res.add(new ScanOutputItem(ref, ig, sd, ValidatorUtils.messagesToOutcome(messages, getContext(), getFhirPathEngine())));
-                } catch (Exception ex) {
-                  res.add(new ScanOutputItem(ref, ig, sd, exceptionToOutcome(ex)));
-                }
+                profileGuides.add(ig);
+                profiles.add(sd);
+                reported.add(sd);
               }
             }
           }
         }
+        System.out.println("Validate " + ref + " against " + profiles.size() + " profiles");
+        List<List<ValidationMessage>> outcomes = new ArrayList<>();
+        for (int i = 0; i < profiles.size(); i++) {
+          outcomes.add(new ArrayList<>(parseMessages));
+        }
+        for (NamedElement ne : elements) {
+          List<List<ValidationMessage>> list = getValidator().validateAgainstEach(null, ne.getName(), ne.getElement(), profiles);
+          for (int i = 0; i < profiles.size(); i++) {
+            outcomes.get(i).addAll(list.get(i));
+          }
+        }
+        for (int i = 0; i < profiles.size(); i++) {
+          res.add(new ScanOutputItem(ref, profileGuides.get(i), reported.get(i), ValidatorUtils.messagesToOutcome(outcomes.get(i), getContext(), getFhirPathEngine())));
+        }
       }
     }
     return res;
@@ -16,7 +16,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.fhir.ucum.UcumEssenceService;
 import org.hl7.fhir.convertors.factory.VersionConvertorFactory_10_50;
@@ -62,6 +68,7 @@ import org.hl7.fhir.r5.renderers.RendererFactory;
 import org.hl7.fhir.r5.renderers.utils.RenderingContext;
 import org.hl7.fhir.r5.renderers.utils.RenderingContext.GenerationRules;
 import org.hl7.fhir.r5.renderers.utils.RenderingContext.ResourceRendererMode;
+import org.hl7.fhir.r5.terminologies.LocalTerminologyClient;
 import org.hl7.fhir.r5.utils.EOperationOutcome;
 import org.hl7.fhir.r5.utils.FHIRPathEngine;
 import org.hl7.fhir.r5.utils.ToolingExtensions;
@@ -211,6 +218,7 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
   @Getter @Setter private List<String> extensionDomains = new ArrayList<>();
 
   @Getter @Setter private boolean showTimes;
+  @Getter private int threads = 1;
   @Getter @Setter private List<BundleValidationRule> bundleValidationRules = new ArrayList<>();
   @Getter @Setter private QuestionnaireMode questionnaireMode;
   @Getter @Setter private ValidationLevel level = ValidationLevel.HINTS;
@@ -285,7 +293,10 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
    * the validation framework in their own implementation context
    */
   @Getter @Setter private Map<String, ValidationControl> validationControl = new HashMap<>();
-  private Map<String, Boolean> resolvedUrls = new HashMap<>();
+  private Map<String, Boolean> resolvedUrls = new ConcurrentHashMap<>();
+  private SimpleWorkerContext preparedContext; // the context that language and locale were last applied to
+  private String preparedLanguage;
+  private Locale preparedLocale;
 
   private ValidationEngine()  {
 
@@ -503,6 +514,9 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
       return "n/a: No Terminology Server";
     } else {
       try {
+        if (url.startsWith(LocalTerminologyClient.ADDRESS_PREFIX)) {
+          return context.connectToTSServer(LocalTerminologyClient.fromImage(url.substring(LocalTerminologyClient.ADDRESS_PREFIX.length())), log);
+        }
         return context.connectToTSServer(TerminologyClientFactory.makeClient(url, context.getUserAgent(), version), log);
       } catch (Exception e) {
         if (context.isCanRunWithoutTerminology()) {
@@ -561,21 +575,27 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     boolean asBundle = ValidatorUtils.parseSources(sources, refs, context);
     Bundle results = new Bundle();
     results.setType(Bundle.BundleType.COLLECTION);
-    for (String ref : refs) {
-      TimeTracker.Session tts = context.clock().start("validation");
-      context.clock().milestone();
-      System.out.println("  Validate " + ref);
-      Content cnt = igLoader.loadContent(ref, "validate", false);
-      try {
-        OperationOutcome outcome = validate(ref, cnt.focus, cnt.cntType, profiles, record);
-        ToolingExtensions.addStringExtension(outcome, ToolingExtensions.EXT_OO_FILE, ref);
-        System.out.println(" " + context.clock().milestone());
+    if (threads > 1 && refs.size() > 1) {
+      for (OperationOutcome outcome : validateInParallel(refs, profiles, record)) {
         results.addEntry().setResource(outcome);
-        tts.end();
-      } catch (Exception e) {
-        System.out.println("Validation Infrastructure fail validating " + ref + ": " + e.getMessage());
-        tts.end();
-        throw new FHIRException(e);
+      }
+    } else {
+      for (String ref : refs) {
+        TimeTracker.Session tts = context.clock().start("validation");
+        context.clock().milestone();
+        System.out.println("  Validate " + ref);
+        Content cnt = igLoader.loadContent(ref, "validate", false);
+        try {
+          OperationOutcome outcome = validate(ref, cnt.focus, cnt.cntType, profiles, record);
+          ToolingExtensions.addStringExtension(outcome, ToolingExtensions.EXT_OO_FILE, ref);
+          System.out.println(" " + context.clock().milestone());
+          results.addEntry().setResource(outcome);
+          tts.end();
+        } catch (Exception e) {
+          System.out.println("Validation Infrastructure fail validating " + ref + ": " + e.getMessage());
+          tts.end();
+          throw new FHIRException(e);
+        }
       }
     }
     if (asBundle)
@@ -584,6 +604,57 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
       return results.getEntryFirstRep().getResource();
   }
 
+  private class ValidationTaskResult {
+    private OperationOutcome outcome;
+    private TimeTracker clock = new TimeTracker();
+    private List<ValidationRecord> record;
+  }
+
+  /**
+   * validate each source on a pool of threads. Each source gets its own InstanceValidator, all sharing the context.
+   * The outcomes and records are returned in the same order as the sources, and the times are added to the context clock
+   */
+  private List<OperationOutcome> validateInParallel(List<String> refs, List<String> profiles, List<ValidationRecord> record) throws FHIRException {
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, refs.size()));
+    try {
+      List<Future<ValidationTaskResult>> futures = new ArrayList<>();
+      for (String ref : refs) {
+        futures.add(executor.submit(() -> {
+          ValidationTaskResult res = new ValidationTaskResult();
+          res.record = record == null ? null : new ArrayList<>();
+          TimeTracker.Session tts = res.clock.start("validation");
+          Content cnt = igLoader.loadContent(ref, "validate", false);
+          res.outcome = validate(ref, cnt.focus, cnt.cntType, profiles, res.record);
+          ToolingExtensions.addStringExtension(res.outcome, ToolingExtensions.EXT_OO_FILE, ref);
+          tts.end();
+          System.out.println("  Validate " + ref + " " + res.clock.milestone());
+          return res;
+        }));
+      }
+      List<OperationOutcome> outcomes = new ArrayList<>();
+      for (int i = 0; i < refs.size(); i++) {
+        ValidationTaskResult res;
+        try {
+          res = futures.get(i).get();
+        } catch (ExecutionException e) {
+          System.out.println("Validation Infrastructure fail validating " + refs.get(i) + ": " + e.getCause().getMessage());
+          throw new FHIRException(e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new FHIRException(e);
+        }
+        context.clock().merge(res.clock);
+        if (record != null) {
+          record.addAll(res.record);
+        }
+        outcomes.add(res.outcome);
+      }
+      return outcomes;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   public OperationOutcome validate(byte[] source, FhirFormat cntType, List<String> profiles, List<ValidationMessage> messages) throws FHIRException, IOException, EOperationOutcome {
     InstanceValidator validator = getValidator(cntType);
 
@@ -735,7 +806,7 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     Content cnt = igLoader.loadContent(source, "validate", false);
     FHIRPathEngine fpe = this.getValidator(null).getFHIRPathEngine();
     Element e = Manager.parseSingle(context, new ByteArrayInputStream(cnt.focus), cnt.cntType);
-    ExpressionNode exp = fpe.parse(expression);
+    ExpressionNode exp = fpe.parseCached(expression);
     return fpe.evaluateToString(new ValidatorHostContext(context, e), e, e, e, exp);
   }
 
@@ -778,9 +849,6 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     validator.setNoInvariantChecks(isNoInvariantChecks());
     validator.setWantInvariantInMessage(isWantInvariantInMessage());
     validator.setValidationLanguage(language);
-    if (language != null) {
-      validator.getContext().setValidationMessageLanguage(Locale.forLanguageTag(language));
-    }
     validator.setAssumeValidRestReferences(assumeValidRestReferences);
     validator.setNoExtensibleWarnings(noExtensibleBindingMessages);
     validator.setSecurityChecks(securityChecks);
@@ -788,7 +856,6 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     validator.setForPublication(forPublication);
     validator.setAllowExamples(allowExampleUrls);
     validator.setShowMessagesFromReferences(showMessagesFromReferences);
-    validator.getContext().setLocale(locale);
     validator.setFetcher(this);
     validator.getImplementationGuides().addAll(igs);
     validator.getBundleValidationRules().addAll(bundleValidationRules);
@@ -798,14 +865,37 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     validator.setHtmlInMarkdownCheck(htmlInMarkdownCheck);
     validator.setNoUnicodeBiDiControlChars(noUnicodeBiDiControlChars);
     validator.setDoImplicitFHIRPathStringConversion(doImplicitFHIRPathStringConversion);
-    if (format == FhirFormat.SHC) {
-      igLoader.loadIg(getIgs(), getBinaries(), SHCParser.CURRENT_PACKAGE, true);      
-    }
+    prepareContext(format);
     validator.setJurisdiction(jurisdiction);
     validator.setLogProgress(true);
     return validator;
   }
 
+  /**
+   * Applies the settings that validators share through the context: the message language and locale, and
+   * the SHC package for SHC content. Validators may be in use on other threads, so the language and locale
+   * are only re-applied when they change. Call this before handing out validators to several threads so that
+   * packages aren't loaded while they are validating
+   * 
+   * @param format
+   * @throws FHIRException
+   * @throws IOException
+   */
+  public synchronized void prepareContext(FhirFormat format) throws FHIRException, IOException {
+    if (preparedContext != context || !Objects.equals(preparedLanguage, language) || !Objects.equals(preparedLocale, locale)) {
+      if (language != null) {
+        context.setValidationMessageLanguage(Locale.forLanguageTag(language));
+      }
+      context.setLocale(locale);
+      preparedContext = context;
+      preparedLanguage = language;
+      preparedLocale = locale;
+    }
+    if (format == FhirFormat.SHC && !context.getLoadedPackages().contains(SHCParser.CURRENT_PACKAGE)) {
+      igLoader.loadIg(getIgs(), getBinaries(), SHCParser.CURRENT_PACKAGE, true);      
+    }
+  }
+
   public void prepare() {
     for (StructureDefinition sd : new ContextUtilities(context).allStructures()) {
       try {
@@ -965,6 +1055,16 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     return this;
   }
 
+  /**
+   * The number of threads used to validate multiple sources, and to load packages and their dependencies into the context
+   */
+  public void setThreads(int threads) {
+    this.threads = threads;
+    if (context != null) {
+      context.setLoadingThreads(threads);
+    }
+  }
+
   public ValidationEngine setSnomedExtension(String sct) {
     getContext().getExpansionParameters().addParameter("system-version", "http://snomed.info/sct|http://snomed.info/sct/" + sct);
     return this;
@@ -298,6 +298,9 @@ public class ValidatorCli {
       case SPREADSHEET:
         validationService.generateSpreadsheet(cliContext, validator);
         break;
+      case TX_IMAGE:
+        validationService.generateTerminologyImage(cliContext, validator);
+        break;
       case CONVERT:
         validationService.convertSources(cliContext, validator);
         break;
@@ -108,6 +108,9 @@ public class CliContext {
   
   @JsonProperty("showTimes")
   private boolean showTimes = false;
+
+  @JsonProperty("threads")
+  private int threads = 1;
   
   @JsonProperty("locale")
   private String locale = Locale.ENGLISH.getDisplayLanguage();
@@ -606,6 +609,14 @@ public class CliContext {
     this.showTimes = showTimes;
   }
 
+  public int getThreads() {
+    return threads;
+  }
+
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
   public String getOutputStyle() {
     return outputStyle;
   }
@@ -669,6 +680,7 @@ public class CliContext {
       Objects.equals(forPublication, that.forPublication) &&
       Objects.equals(allowExampleUrls, that.allowExampleUrls) &&
       Objects.equals(showTimes, that.showTimes) &&
+      threads == that.threads &&
       mode == that.mode &&
       Objects.equals(locale, that.locale) &&
       Objects.equals(outputStyle, that.outputStyle) &&
@@ -680,7 +692,7 @@ public class CliContext {
   public int hashCode() {
     return Objects.hash(doNative, extensions, hintAboutNonMustSupport, recursive, doDebug, assumeValidRestReferences, canDoNative, noInternalCaching, 
             noExtensibleBindingMessages, noInvariants, wantInvariantsInMessages, map, output, outputSuffix, htmlOutput, txServer, sv, txLog, txCache, mapLog, lang, fhirpath, snomedCT,
-            targetVer, igs, questionnaireMode, level, profiles, sources, mode, locale, locations, crumbTrails, forPublication, showTimes, allowExampleUrls, outputStyle, jurisdiction, noUnicodeBiDiControlChars);
+            targetVer, igs, questionnaireMode, level, profiles, sources, mode, locale, locations, crumbTrails, forPublication, showTimes, threads, allowExampleUrls, outputStyle, jurisdiction, noUnicodeBiDiControlChars);
   }
 
   @Override
@@ -724,6 +736,7 @@ public class CliContext {
       ", jurisdiction=" + jurisdiction +
       ", allowExampleUrls=" + allowExampleUrls +
       ", showTimes=" + showTimes +
+      ", threads=" + threads +
       ", locale='" + locale + '\'' +
       ", locations=" + locations +
       ", bundleValidationRules=" + bundleValidationRules +
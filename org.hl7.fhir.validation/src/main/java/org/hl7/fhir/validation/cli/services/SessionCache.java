@@ -1,25 +1,62 @@
 package org.hl7.fhir.validation.cli.services;
 
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.collections4.map.PassiveExpiringMap;
 import org.hl7.fhir.validation.ValidationEngine;
 
 /**
  * SessionCache for storing and retrieving ValidationEngine instances, so callers do not have to re-instantiate a new
  * instance for each validation request.
+ *
+ * The cache is safe to use from concurrent requests. Each engine holds a full worker context, so as well as expiring
+ * sessions after their time to live, the cache is bounded by the estimated heap footprint of the engines it holds:
+ * when the total goes over the limit, the least recently used sessions are dropped. Sessions that were set up the
+ * same way can share an engine (see {@link #registerSharedEngine(String, ValidationEngine)}), and a shared engine
+ * only counts once.
  */
 public class SessionCache {
 
   protected static final long TIME_TO_LIVE = 60;
   protected static final TimeUnit TIME_UNIT = TimeUnit.MINUTES;
 
-  private final PassiveExpiringMap<String, ValidationEngine> cachedSessions;
+  /**
+   * rough heap cost of a loaded canonical resource, including its snapshot and indexes
+   */
+  protected static final long RESOURCE_FOOTPRINT = 20 * 1024;
+
+  private static final long MAX_SWEEP_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+  private static ScheduledExecutorService sweeper;
+
+  private static class CachedSession {
+    private final ValidationEngine engine;
+    private final long expiry;
+
+    private CachedSession(ValidationEngine engine, long expiry) {
+      this.engine = engine;
+      this.expiry = expiry;
+    }
+  }
+
+  private final Map<String, CachedSession> cachedSessions = new LinkedHashMap<>(16, 0.75f, true); // access order, for LRU
+  private final Map<String, ValidationEngine> sharedEngines = new HashMap<>();
+  private final long timeToLive;
+  private final long maxFootprint;
 
   public SessionCache() {
-    cachedSessions = new PassiveExpiringMap<>(TIME_TO_LIVE, TIME_UNIT);
+    this(TIME_TO_LIVE, TIME_UNIT);
   }
 
   /**
@@ -28,7 +65,22 @@ public class SessionCache {
    * @param sessionLengthUnit the unit of time for the timeToLive parameter, must not be null
    */
   public SessionCache(long sessionLength, TimeUnit sessionLengthUnit) {
-    cachedSessions = new PassiveExpiringMap<>(sessionLength, sessionLengthUnit);
+    this(sessionLength, sessionLengthUnit, Runtime.getRuntime().maxMemory() / 2);
+  }
+
+  /**
+   * @param sessionLength the constant amount of time an entry is available before it expires. A negative value results
+   *                      in entries that NEVER expire. A zero value results in entries that ALWAYS expire.
+   * @param sessionLengthUnit the unit of time for the timeToLive parameter, must not be null
+   * @param maxFootprint the maximum total estimated size in bytes of the cached engines. The most recently used session
+   *                     is always kept, even if it is larger than this on its own
+   */
+  public SessionCache(long sessionLength, TimeUnit sessionLengthUnit, long maxFootprint) {
+    this.timeToLive = sessionLengthUnit.toMillis(sessionLength);
+    this.maxFootprint = maxFootprint;
+    if (timeToLive > 0) {
+      scheduleSweep(Math.min(timeToLive, MAX_SWEEP_INTERVAL));
+    }
   }
 
   /**
@@ -37,9 +89,9 @@ public class SessionCache {
    * @param validationEngine {@link ValidationEngine}
    * @return The {@link String} id associated with the stored instance.
    */
-  public String cacheSession(ValidationEngine validationEngine) {
+  public synchronized String cacheSession(ValidationEngine validationEngine) {
     String generatedId = generateID();
-    cachedSessions.put(generatedId, validationEngine);
+    put(generatedId, validationEngine);
     return generatedId;
   }
 
@@ -50,26 +102,52 @@ public class SessionCache {
    * @param validationEngine The {@link ValidationEngine} instance to cache.
    * @return The {@link String} id that will be associated with the stored {@link ValidationEngine}
    */
-  public String cacheSession(String sessionId, ValidationEngine validationEngine) {
+  public synchronized String cacheSession(String sessionId, ValidationEngine validationEngine) {
     if(sessionId == null) {
       sessionId = cacheSession(validationEngine);
     } else {
-      cachedSessions.put(sessionId, validationEngine);
+      put(sessionId, validationEngine);
     }
     return sessionId;
   }
 
+  /**
+   * Makes a cached {@link ValidationEngine} available to other sessions that would set up an engine in the same way.
+   * The engine stays available as long as at least one session is using it.
+   * @param engineKey A {@link String} that describes how the engine was set up (version, packages, settings)
+   * @param validationEngine The {@link ValidationEngine} instance, which must already be cached for a session.
+   */
+  public synchronized void registerSharedEngine(String engineKey, ValidationEngine validationEngine) {
+    sharedEngines.put(engineKey, validationEngine);
+  }
+
+  /**
+   * Returns a {@link ValidationEngine} registered with {@link #registerSharedEngine(String, ValidationEngine)} that is
+   * still in use by a session.
+   * @param engineKey The {@link String} that describes how the engine was set up.
+   * @return The shared {@link ValidationEngine}, or null if there isn't one.
+   */
+  public synchronized ValidationEngine fetchSharedEngine(String engineKey) {
+    removeExpiredSessions();
+    return sharedEngines.get(engineKey);
+  }
+
   /**
    * When called, this actively checks the cache for expired entries and removes
-   * them.
+   * them. This is also done periodically in the background.
    */
-  public void removeExpiredSessions() {
-    /*
-    The PassiveExpiringMap will remove entries when accessing the mapped value
-    for a key, OR when invoking methods that involve accessing the entire map
-    contents. So, we call keySet below to force removal of all expired entries.
-    * */
-    cachedSessions.keySet();
+  public synchronized void removeExpiredSessions() {
+    long now = System.currentTimeMillis();
+    boolean removed = false;
+    for (Iterator<CachedSession> i = cachedSessions.values().iterator(); i.hasNext(); ) {
+      if (isExpired(i.next(), now)) {
+        i.remove();
+        removed = true;
+      }
+    }
+    if (removed) {
+      releaseSharedEngines();
+    }
   }
 
   /**
@@ -77,8 +155,8 @@ public class SessionCache {
    * @param sessionId The {@link String} id to search for.
    * @return {@link Boolean#TRUE} if such id exists.
    */
-  public boolean sessionExists(String sessionId) {
-    return cachedSessions.containsKey(sessionId);
+  public synchronized boolean sessionExists(String sessionId) {
+    return sessionId != null && getSession(sessionId) != null;
   }
 
   /**
@@ -86,16 +164,127 @@ public class SessionCache {
    * @param sessionId The {@link String} session id.
    * @return The {@link ValidationEngine} associated with the passed in id, or null if none exists.
    */
-  public ValidationEngine fetchSessionValidatorEngine(String sessionId) {
-    return cachedSessions.get(sessionId);
+  public synchronized ValidationEngine fetchSessionValidatorEngine(String sessionId) {
+    CachedSession session = getSession(sessionId);
+    return session == null ? null : session.engine;
   }
 
   /**
-   * Returns the set of stored session ids.
+   * Returns a copy of the set of stored session ids.
    * @return {@link Set} of session ids.
    */
-  public Set<String> getSessionIds() {
-    return cachedSessions.keySet();
+  public synchronized Set<String> getSessionIds() {
+    removeExpiredSessions();
+    return new HashSet<>(cachedSessions.keySet());
+  }
+
+  /**
+   * @return the total estimated size in bytes of the cached engines
+   */
+  public synchronized long getFootprint() {
+    long total = 0;
+    for (ValidationEngine engine : distinctEngines()) {
+      total += estimateFootprint(engine);
+    }
+    return total;
+  }
+
+  /**
+   * Estimates how much heap an engine is holding on to. This is an approximation based on the number of resources
+   * loaded into its context (which changes as resources are loaded, so it is worked out each time it is needed).
+   */
+  protected long estimateFootprint(ValidationEngine engine) {
+    long size = (long) engine.getContext().countAllCaches() * RESOURCE_FOOTPRINT;
+    for (byte[] b : engine.getBinaries().values()) {
+      size += b.length;
+    }
+    return size;
+  }
+
+  private void put(String sessionId, ValidationEngine validationEngine) {
+    cachedSessions.put(sessionId, new CachedSession(validationEngine, timeToLive < 0 ? Long.MAX_VALUE : System.currentTimeMillis() + timeToLive));
+    trimToFootprint();
+  }
+
+  private CachedSession getSession(String sessionId) {
+    CachedSession session = cachedSessions.get(sessionId);
+    if (session != null && isExpired(session, System.currentTimeMillis())) {
+      cachedSessions.remove(sessionId);
+      releaseSharedEngines();
+      return null;
+    }
+    return session;
+  }
+
+  private boolean isExpired(CachedSession session, long now) {
+    return session.expiry <= now;
+  }
+
+  /**
+   * drop the least recently used sessions until the engines that are left fit, always keeping the latest one. The 
+   * footprint of each engine is only estimated once, and an engine stops counting when the last session using it goes
+   */
+  private void trimToFootprint() {
+    Map<ValidationEngine, Integer> sessionCounts = new IdentityHashMap<>();
+    for (CachedSession session : cachedSessions.values()) {
+      sessionCounts.merge(session.engine, 1, Integer::sum);
+    }
+    Map<ValidationEngine, Long> footprints = new IdentityHashMap<>();
+    long total = 0;
+    for (ValidationEngine engine : sessionCounts.keySet()) {
+      long size = estimateFootprint(engine);
+      footprints.put(engine, size);
+      total += size;
+    }
+    boolean removed = false;
+    Iterator<CachedSession> i = cachedSessions.values().iterator();
+    while (cachedSessions.size() > 1 && total > maxFootprint) {
+      ValidationEngine engine = i.next().engine;
+      i.remove();
+      removed = true;
+      if (sessionCounts.merge(engine, -1, Integer::sum) == 0) {
+        total -= footprints.get(engine);
+      }
+    }
+    if (removed) {
+      releaseSharedEngines();
+    }
+  }
+
+  private void releaseSharedEngines() {
+    Set<ValidationEngine> inUse = distinctEngines();
+    sharedEngines.values().removeIf(engine -> !inUse.contains(engine));
+  }
+
+  private Set<ValidationEngine> distinctEngines() {
+    Set<ValidationEngine> engines = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (CachedSession session : cachedSessions.values()) {
+      engines.add(session.engine);
+    }
+    return engines;
+  }
+
+  private void scheduleSweep(long interval) {
+    // the sweep only holds a weak reference, so it doesn't keep an abandoned cache alive
+    WeakReference<SessionCache> ref = new WeakReference<>(this);
+    getSweeper().scheduleWithFixedDelay(() -> {
+      SessionCache cache = ref.get();
+      if (cache == null) {
+        throw new IllegalStateException("Session cache has been discarded"); // stops further runs
+      }
+      cache.removeExpiredSessions();
+    }, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  private static synchronized ScheduledExecutorService getSweeper() {
+    if (sweeper == null) {
+      sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "session-cache-sweeper");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return sweeper;
   }
 
   /**
@@ -1,13 +1,28 @@
 package org.hl7.fhir.validation.cli.services;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.hl7.fhir.convertors.txClient.TerminologyClientFactory;
 import org.hl7.fhir.exceptions.FHIRException;
@@ -27,30 +42,70 @@ import org.hl7.fhir.r5.utils.validation.constants.BindingKind;
 import org.hl7.fhir.r5.utils.validation.constants.CodedContentValidationPolicy;
 import org.hl7.fhir.r5.utils.validation.constants.ContainedReferenceValidationPolicy;
 import org.hl7.fhir.r5.utils.validation.constants.ReferenceValidationPolicy;
+import org.hl7.fhir.utilities.TextFile;
 import org.hl7.fhir.utilities.Utilities;
 import org.hl7.fhir.utilities.VersionUtilities;
 import org.hl7.fhir.utilities.VersionUtilities.VersionURLInfo;
+import org.hl7.fhir.utilities.json.model.JsonArray;
 import org.hl7.fhir.utilities.json.model.JsonObject;
+import org.hl7.fhir.utilities.json.model.JsonProperty;
 import org.hl7.fhir.utilities.json.parser.JsonParser;
 import org.hl7.fhir.utilities.npm.FilesystemPackageCacheManager;
 import org.hl7.fhir.utilities.npm.NpmPackage;
+import org.hl7.fhir.validation.instance.InstanceValidator;
+import org.hl7.fhir.validation.instance.utils.ValidatorHostContext;
 
-
+/**
+ * Resolves references to FHIR urls on the fly for the standalone validator, by finding and loading the packages
+ * they come from.
+ * 
+ * The fetcher can be used by several validations at once. Lookups are expensive (they can mean installing a package
+ * or searching the package cache), so the answer for each url is kept, and if a url is already being looked up, 
+ * anything else that asks for it waits for that lookup rather than doing it again. Packages are loaded into the 
+ * context one at a time, on the thread that asked about the url. When a bundle (or any resource) is being validated, 
+ * the packages for the urls in it are found and downloaded into the package cache in the background (see 
+ * {@link #prefetch(IResourceValidator, Element)}), so they are often ready by the time the validator asks about them.
+ * The package cache manager isn't thread safe, so every call to it (or to the installer, which uses it) is made 
+ * synchronized on the pcm, whichever thread it's on. Nothing waits for another lookup while holding the pcm.
+ * 
+ * The answers that don't depend on what has been loaded into the context (which package a canonical comes from, 
+ * the mapping spaces, version specific urls) are saved in the package cache, and reused by later runs for a day.
+ */
 public class StandAloneValidatorFetcher implements IValidatorResourceFetcher, IValidationPolicyAdvisor, IWorkerContextManager.ICanonicalResourceLocator {
 
-  List<String> mappingsUris = new ArrayList<>();
+  private static final String RESOLUTION_FILE = "validator-resolutions.json";
+  private static final long RESOLUTION_FILE_AGE = TimeUnit.DAYS.toMillis(1);
+
+  private static final Object FILE_LOCK = new Object();
+  private static ExecutorService prefetcher;
+
+  private volatile List<String> mappingsUris;
+  private final Object mappingsLock = new Object();
+  private long resolutionsDate = System.currentTimeMillis();
+  private final AtomicBoolean resolutionsChanged = new AtomicBoolean();
   private FilesystemPackageCacheManager pcm;
   private IWorkerContext context;
   private IPackageInstaller installer;
-  private Map<String, Boolean> urlList = new HashMap<>();
+  // the lookups done (or being done) for each url. A null answer means that the url couldn't be found in a package
+  private Map<String, CompletableFuture<Boolean>> urlList = new ConcurrentHashMap<>();
+  // the answers that are saved for later runs
+  private Map<String, Boolean> savedUrls = new ConcurrentHashMap<>();
+  private Map<String, String> savedPackages = new ConcurrentHashMap<>();
+  // the package id for each base url (null if there isn't one). Access is synchronized on the map
   private Map<String, String> pidList = new HashMap<>();
-  private Map<String, NpmPackage> pidMap = new HashMap<>();
+  // the packages found (or being found) for each package id|version. Finding a package only puts it in the package 
+  // cache, so it can be done in the background
+  private Map<String, CompletableFuture<NpmPackage>> packageList = new ConcurrentHashMap<>();
+  // whether each package id|version was loaded into the context. Only used while looking up a url, which is done one at a time
+  private Map<String, Boolean> loadedPackages = new HashMap<>();
+  private Set<Element> prefetched = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
 
   public StandAloneValidatorFetcher(FilesystemPackageCacheManager pcm, IWorkerContext context, IPackageInstaller installer) {
     super();
     this.pcm = pcm;
     this.context = context;
     this.installer = installer;
+    loadResolutions();
   }
 
   @Override
@@ -91,35 +146,144 @@ public class StandAloneValidatorFetcher implements IValidatorResourceFetcher, IV
       return true;
     }
 
+    if (appContext instanceof ValidatorHostContext) {
+      prefetch(validator, ((ValidatorHostContext) appContext).getRootResource());
+    }
+
     // if we've got to here, it's a reference to a FHIR URL. We're going to try to resolve it on the fly
-    String pid = null;
-    String ver = null;
     String base = findBaseUrl(url);
     if (base == null) {
       return !url.startsWith("http://hl7.org/fhir") && !type.equals("canonical");
     }
 
-    // the next operations are expensive. we're going to cache them 
-    if (urlList.containsKey(url)) {
-      return urlList.get(url);
+    Boolean res;
+    try {
+      res = lookup(url, base);
+    } finally {
+      saveResolutions();
     }
-    if (base.equals("http://terminology.hl7.org")) {
-      pid = "hl7.terminology";
-    } else if (base.equals("http://hl7.org/fhir")) {
-      return false;
-    } else if (url.startsWith("http://hl7.org/fhir")) {
-      pid = pcm.getPackageId(base);
-    } else {
-      if (pidList.containsKey(base)) {
-        pid = pidList.get(base);
-      } else {
-        pid = pcm.findCanonicalInLocalCache(base);
-        pidList.put(base, pid);
+    if (res != null) {
+      return res;
+    }
+    // we don't bother with urls outside fhir space in the standalone validator - we assume they are valid
+    return !url.startsWith("http://hl7.org/fhir") && !type.equals("canonical");
+  }
+
+  /**
+   * Start finding the packages for the urls in the resource in the background, so that they are in the package cache 
+   * before the validator gets to them. Only the urls that the validator will ask about are looked at. Nothing is 
+   * loaded into the context in the background: that is done when the validator asks about the url, and if the package 
+   * is still being found then, the validator waits for it. This is done automatically for the resource being 
+   * validated the first time the validator asks about a url in it.
+   */
+  public void prefetch(IResourceValidator validator, Element resource) {
+    if (resource == null || !prefetched.add(resource)) {
+      return;
+    }
+    if (mappingsUris == null) {
+      getPrefetcher().submit(this::getMappingUris);
+    }
+    Set<String> urls = new HashSet<>();
+    collectUrls(validator, resource, urls);
+    for (String url : urls) {
+      String base = findBaseUrl(url);
+      if (base != null && !urlList.containsKey(url)) {
+        getPrefetcher().submit(() -> {
+          try {
+            prefetchPackage(url, base);
+          } catch (Exception e) {
+            // nothing - the validator will look it up again when it gets to it
+          }
+        });
+      }
+    }
+    getPrefetcher().submit(this::saveResolutions);
+  }
+
+  private void collectUrls(IResourceValidator validator, Element element, Set<String> urls) {
+    if (Utilities.existsInList(element.fhirType(), "uri", "url", "canonical") && element.hasPrimitiveValue()) {
+      String url = element.primitiveValue();
+      if (Utilities.isAbsoluteUrl(url) && !isKnownToValidator(validator, url)) {
+        url = url.contains("|") ? url.substring(0, url.lastIndexOf("|")) : url;
+        List<String> mappings = mappingsUris;
+        if (mappings == null || !mappings.contains(url)) {
+          urls.add(url);
+        }
+      }
+    }
+    if (element.hasChildren()) {
+      for (Element child : element.getChildren()) {
+        collectUrls(validator, child, urls);
       }
     }
-    ver = url.contains("|") ? url.substring(url.indexOf("|") + 1) : null;
+  }
+
+  /**
+   * the validator accepts some urls without asking the fetcher about them (see InstanceValidator.validateReference), 
+   * so there's no need to look for them
+   */
+  private boolean isKnownToValidator(IResourceValidator validator, String url) {
+    return validator instanceof InstanceValidator && ((InstanceValidator) validator).isKnownUrl(url);
+  }
+
+  private void prefetchPackage(String url, String base) throws IOException {
+    if (base.equals("http://hl7.org/fhir") || (url.startsWith("http://hl7.org/fhir") && VersionUtilities.parseVersionUrl(url) != null)) {
+      return;
+    }
+    String pid = findPackageId(url, base);
+    if (pid != null && !"sharedhealth.fhir.ca.common".equals(pid)) {
+      findPackage(pid, null);
+    }
+  }
+
+  /**
+   * look up the url, unless it's already been looked up, or is being looked up on another thread, in which case 
+   * wait for that
+   * 
+   * @return whether the url was found, or null if it's not in a package that can be found 
+   */
+  private Boolean lookup(String url, String base) throws IOException {
+    CompletableFuture<Boolean> future = new CompletableFuture<>();
+    CompletableFuture<Boolean> existing = urlList.putIfAbsent(url, future);
+    if (existing != null && !existing.isDone() && Thread.holdsLock(this)) {
+      // we're already in the middle of a lookup on this thread (loading a package led back here), so waiting 
+      // for another thread that is waiting for us would never finish
+      return lookupInPackages(url, base);
+    }
+    if (existing != null) {
+      try {
+        return existing.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new FHIRException(e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        } else if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        } else {
+          throw new FHIRException(e.getCause());
+        }
+      }
+    }
+    try {
+      Boolean res = lookupInPackages(url, base);
+      future.complete(res);
+      return res;
+    } catch (IOException | RuntimeException e) {
+      urlList.remove(url, future); // so it's tried again next time
+      future.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private synchronized Boolean lookupInPackages(String url, String base) throws IOException {
+    if (base.equals("http://hl7.org/fhir")) {
+      return false;
+    }
+    String pid = findPackageId(url, base);
+    String ver = url.contains("|") ? url.substring(url.indexOf("|") + 1) : null;
     if (pid == null && Utilities.startsWithInList(url, "http://hl7.org/fhir", "http://terminology.hl7.org")) {
-      urlList.put(url, false);
       return false;
     }
 
@@ -127,9 +291,13 @@ public class StandAloneValidatorFetcher implements IValidatorResourceFetcher, IV
       // first possibility: it's a reference to a version specific URL http://hl7.org/fhir/X.X/...
       VersionURLInfo vu = VersionUtilities.parseVersionUrl(url);
       if (vu != null) {
-        NpmPackage pi = pcm.loadPackage(VersionUtilities.packageForVersion(vu.getVersion()), VersionUtilities.getCurrentVersion(vu.getVersion()));
+        NpmPackage pi;
+        synchronized (pcm) {
+          pi = pcm.loadPackage(VersionUtilities.packageForVersion(vu.getVersion()), VersionUtilities.getCurrentVersion(vu.getVersion()));
+        }
         boolean res = pi.hasCanonical(vu.getUrl());
-        urlList.put(url, res);
+        savedUrls.put(url, res);
+        resolutionsChanged.set(true);
         return res;
       }
     }
@@ -139,87 +307,171 @@ public class StandAloneValidatorFetcher implements IValidatorResourceFetcher, IV
       if ("sharedhealth.fhir.ca.common".equals(pid)) { // special case - optimise this
         return false;
       }
-      NpmPackage pi = null;
-      if (pidMap.containsKey(pid+"|"+ver)) {
-        pi = pidMap.get(pid+"|"+ver);
-      } else  if (installer.packageExists(pid, ver)) {
+      NpmPackage pi = findPackage(pid, ver);
+      if (pi != null && !loadedPackages.containsKey(pid+"|"+ver)) {
         try {
-          installer.loadPackage(pid, ver);
-          pi = pcm.loadPackage(pid);
-          pidMap.put(pid+"|"+ver, pi);
+          synchronized (pcm) {
+            installer.loadPackage(pid, ver);
+          }
+          loadedPackages.put(pid+"|"+ver, true);
         } catch (Exception e) {
-          pidMap.put(pid+"|"+ver, null);          
+          loadedPackages.put(pid+"|"+ver, false);
         }
-      } else {
-        pidMap.put(pid+"|"+ver, null);
       }
-      if (pi != null) {
+      if (pi != null && loadedPackages.get(pid+"|"+ver)) {
         context.loadFromPackage(pi, null);
         return pi.hasCanonical(url) ||  context.fetchResource(Resource.class, url) != null;
       }
     }
+    return null;
+  }
 
-    // we don't bother with urls outside fhir space in the standalone validator - we assume they are valid
-    return !url.startsWith("http://hl7.org/fhir") && !type.equals("canonical");
+  // the next operations are expensive. we cache them 
+  private String findPackageId(String url, String base) throws IOException {
+    if (base.equals("http://terminology.hl7.org")) {
+      return "hl7.terminology";
+    } else if (url.startsWith("http://hl7.org/fhir")) {
+      synchronized (pcm) {
+        return pcm.getPackageId(base);
+      }
+    }
+    synchronized (pidList) {
+      if (pidList.containsKey(base)) {
+        return pidList.get(base);
+      }
+    }
+    // pidList isn't held while the cache is searched: loading a package holds the pcm, and can lead back here
+    String pid;
+    synchronized (pcm) {
+      pid = pcm.findCanonicalInLocalCache(base);
+    }
+    synchronized (pidList) {
+      if (pidList.containsKey(base)) {
+        return pidList.get(base);
+      }
+      pidList.put(base, pid);
+    }
+    if (pid != null) {
+      savedPackages.put(base, pid);
+      resolutionsChanged.set(true);
+    }
+    return pid;
   }
 
-  private boolean isMappingUri(String url) {
-    if (mappingsUris.isEmpty()) {
-      JsonObject json;
+  /**
+   * find the package, installing it in the package cache if it isn't there yet. This doesn't change the context, so 
+   * it can be done in the background. If the package is already being found on another thread, wait for that
+   * 
+   * @return the package, or null if it can't be found
+   */
+  private NpmPackage findPackage(String pid, String ver) {
+    CompletableFuture<NpmPackage> future = new CompletableFuture<>();
+    CompletableFuture<NpmPackage> existing = packageList.putIfAbsent(pid+"|"+ver, future);
+    if (existing != null && !existing.isDone() && Thread.holdsLock(pcm)) {
+      // we're loading a package on this thread (which led back here), and the thread finding this one needs the pcm
+      return findPackageInCache(pid, ver);
+    }
+    if (existing != null) {
       try {
-        json = JsonParser.parseObjectFromUrl("http://hl7.org/fhir/mappingspaces.json");
-        for (JsonObject ms : json.getJsonObjects("spaces")) {
-          mappingsUris.add(ms.asString("url"));
+        return existing.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new FHIRException(e);
+      } catch (ExecutionException e) {
+        return null;
+      }
+    }
+    NpmPackage pi = findPackageInCache(pid, ver);
+    future.complete(pi);
+    return pi;
+  }
+
+  private NpmPackage findPackageInCache(String pid, String ver) {
+    try {
+      synchronized (pcm) {
+        return installer.packageExists(pid, ver) ? pcm.loadPackage(pid, ver) : null;
+      }
+    } catch (Exception e) {
+      // the same as not finding it
+      return null;
+    }
+  }
+
+  private boolean isMappingUri(String url) {
+    return getMappingUris().contains(url);
+  }
+
+  private List<String> getMappingUris() {
+    List<String> list = mappingsUris;
+    if (list == null) {
+      synchronized (mappingsLock) {
+        if (mappingsUris == null) {
+          mappingsUris = loadMappingUris();
+          resolutionsChanged.set(true);
+          saveResolutions();
         }
-      } catch (IOException e) {
-        // frozen R4 list
-        mappingsUris.add("http://hl7.org/fhir/fivews");
-        mappingsUris.add("http://hl7.org/fhir/workflow");
-        mappingsUris.add("http://hl7.org/fhir/interface");
-        mappingsUris.add("http://hl7.org/v2");
-        mappingsUris.add("http://loinc.org");
-        mappingsUris.add("http://snomed.org/attributebinding");
-        mappingsUris.add("http://snomed.info/conceptdomain");
-        mappingsUris.add("http://hl7.org/v3/cda");
-        mappingsUris.add("http://hl7.org/v3");
-        mappingsUris.add("http://nema.org/dicom");
-        mappingsUris.add("http://w3.org/vcard");
-        mappingsUris.add("http://ihe.net/xds");
-        mappingsUris.add("http://www.w3.org/ns/prov");
-        mappingsUris.add("http://ietf.org/rfc/2445");
-        mappingsUris.add("http://www.omg.org/spec/ServD/1.0/");
-        mappingsUris.add("http://metadata-standards.org/11179/");
-        mappingsUris.add("http://ihe.net/data-element-exchange");
-        mappingsUris.add("http://openehr.org");
-        mappingsUris.add("http://siframework.org/ihe-sdc-profile");
-        mappingsUris.add("http://siframework.org/cqf");
-        mappingsUris.add("http://www.cdisc.org/define-xml");
-        mappingsUris.add("http://www.cda-adc.ca/en/services/cdanet/");
-        mappingsUris.add("http://www.pharmacists.ca/");
-        mappingsUris.add("http://www.healthit.gov/quality-data-model");
-        mappingsUris.add("http://hl7.org/orim");
-        mappingsUris.add("http://hl7.org/fhir/w5");
-        mappingsUris.add("http://hl7.org/fhir/logical");
-        mappingsUris.add("http://hl7.org/fhir/auditevent");
-        mappingsUris.add("http://hl7.org/fhir/provenance");
-        mappingsUris.add("http://hl7.org/qidam");
-        mappingsUris.add("http://cap.org/ecc");
-        mappingsUris.add("http://fda.gov/UDI");
-        mappingsUris.add("http://hl7.org/fhir/object-implementation");
-        mappingsUris.add("http://github.com/MDMI/ReferentIndexContent");
-        mappingsUris.add("http://ncpdp.org/SCRIPT10_6");
-        mappingsUris.add("http://clinicaltrials.gov");
-        mappingsUris.add("http://hl7.org/fhir/rr");
-        mappingsUris.add("http://www.hl7.org/v3/PORX_RM020070UV");
-        mappingsUris.add("https://bridgmodel.nci.nih.gov");
-        mappingsUris.add("http://hl7.org/fhir/composition");
-        mappingsUris.add("http://hl7.org/fhir/documentreference");
-        mappingsUris.add("https://en.wikipedia.org/wiki/Identification_of_medicinal_products");
-        mappingsUris.add("urn:iso:std:iso:11073:10201");
-        mappingsUris.add("urn:iso:std:iso:11073:10207");
+        list = mappingsUris;
       }
     }
-    return mappingsUris.contains(url);
+    return list;
+  }
+
+  private List<String> loadMappingUris() {
+    List<String> list = new ArrayList<>();
+    JsonObject json;
+    try {
+      json = JsonParser.parseObjectFromUrl("http://hl7.org/fhir/mappingspaces.json");
+      for (JsonObject ms : json.getJsonObjects("spaces")) {
+        list.add(ms.asString("url"));
+      }
+    } catch (IOException e) {
+      // frozen R4 list
+      list.add("http://hl7.org/fhir/fivews");
+      list.add("http://hl7.org/fhir/workflow");
+      list.add("http://hl7.org/fhir/interface");
+      list.add("http://hl7.org/v2");
+      list.add("http://loinc.org");
+      list.add("http://snomed.org/attributebinding");
+      list.add("http://snomed.info/conceptdomain");
+      list.add("http://hl7.org/v3/cda");
+      list.add("http://hl7.org/v3");
+      list.add("http://nema.org/dicom");
+      list.add("http://w3.org/vcard");
+      list.add("http://ihe.net/xds");
+      list.add("http://www.w3.org/ns/prov");
+      list.add("http://ietf.org/rfc/2445");
+      list.add("http://www.omg.org/spec/ServD/1.0/");
+      list.add("http://metadata-standards.org/11179/");
+      list.add("http://ihe.net/data-element-exchange");
+      list.add("http://openehr.org");
+      list.add("http://siframework.org/ihe-sdc-profile");
+      list.add("http://siframework.org/cqf");
+      list.add("http://www.cdisc.org/define-xml");
+      list.add("http://www.cda-adc.ca/en/services/cdanet/");
+      list.add("http://www.pharmacists.ca/");
+      list.add("http://www.healthit.gov/quality-data-model");
+      list.add("http://hl7.org/orim");
+      list.add("http://hl7.org/fhir/w5");
+      list.add("http://hl7.org/fhir/logical");
+      list.add("http://hl7.org/fhir/auditevent");
+      list.add("http://hl7.org/fhir/provenance");
+      list.add("http://hl7.org/qidam");
+      list.add("http://cap.org/ecc");
+      list.add("http://fda.gov/UDI");
+      list.add("http://hl7.org/fhir/object-implementation");
+      list.add("http://github.com/MDMI/ReferentIndexContent");
+      list.add("http://ncpdp.org/SCRIPT10_6");
+      list.add("http://clinicaltrials.gov");
+      list.add("http://hl7.org/fhir/rr");
+      list.add("http://www.hl7.org/v3/PORX_RM020070UV");
+      list.add("https://bridgmodel.nci.nih.gov");
+      list.add("http://hl7.org/fhir/composition");
+      list.add("http://hl7.org/fhir/documentreference");
+      list.add("https://en.wikipedia.org/wiki/Identification_of_medicinal_products");
+      list.add("urn:iso:std:iso:11073:10201");
+      list.add("urn:iso:std:iso:11073:10207");
+    }
+    return list;
   }
 
   private String findBaseUrl(String url) {
@@ -237,6 +489,109 @@ public class StandAloneValidatorFetcher implements IValidatorResourceFetcher, IV
     return null;
   }
 
+  private void loadResolutions() {
+    if (pcm == null) {
+      return;
+    }
+    try {
+      File f = new File(Utilities.path(pcm.getFolder(), RESOLUTION_FILE));
+      if (!f.exists()) {
+        return;
+      }
+      JsonObject json = JsonParser.parseObject(f);
+      long date = Long.parseLong(json.asString("date"));
+      if (date < System.currentTimeMillis() - RESOLUTION_FILE_AGE) {
+        return; // start again
+      }
+      resolutionsDate = date;
+      if (json.hasArray("mappings")) {
+        mappingsUris = json.getStrings("mappings");
+      }
+      if (json.hasObject("packages")) {
+        JsonObject packages = json.getJsonObject("packages");
+        synchronized (pidList) {
+          for (JsonProperty p : packages.getProperties()) {
+            pidList.put(p.getName(), packages.asString(p.getName()));
+            savedPackages.put(p.getName(), packages.asString(p.getName()));
+          }
+        }
+      }
+      if (json.hasObject("urls")) {
+        JsonObject urls = json.getJsonObject("urls");
+        for (JsonProperty p : urls.getProperties()) {
+          urlList.put(p.getName(), CompletableFuture.completedFuture(urls.asBoolean(p.getName())));
+          savedUrls.put(p.getName(), urls.asBoolean(p.getName()));
+        }
+      }
+    } catch (Exception e) {
+      // nothing - it's only a cache
+    }
+  }
+
+  /**
+   * Save the answers that later runs can reuse, if there are new ones. The answers found while a resource is being 
+   * validated are saved together (once the validator has had its answer, or once a batch of prefetched urls has been 
+   * done), not one at a time. The new content is written to a temporary file that then replaces the old one, so that 
+   * other runs using the same package cache never read a partly written file.
+   */
+  public void saveResolutions() {
+    if (pcm == null || !resolutionsChanged.getAndSet(false)) {
+      return;
+    }
+    synchronized (FILE_LOCK) {
+      File tmp = null;
+      try {
+        JsonObject json = new JsonObject();
+        json.add("date", Long.toString(resolutionsDate));
+        List<String> mappings = mappingsUris;
+        if (mappings != null) {
+          JsonArray arr = new JsonArray();
+          for (String s : mappings) {
+            arr.add(s);
+          }
+          json.add("mappings", arr);
+        }
+        JsonObject packages = new JsonObject();
+        for (Map.Entry<String, String> e : savedPackages.entrySet()) {
+          packages.add(e.getKey(), e.getValue());
+        }
+        json.add("packages", packages);
+        JsonObject urls = new JsonObject();
+        for (Map.Entry<String, Boolean> e : savedUrls.entrySet()) {
+          urls.add(e.getKey(), e.getValue());
+        }
+        json.add("urls", urls);
+        tmp = File.createTempFile(RESOLUTION_FILE, ".tmp", new File(pcm.getFolder()));
+        TextFile.stringToFile(JsonParser.compose(json, true), tmp.getAbsolutePath());
+        replaceFile(tmp, new File(Utilities.path(pcm.getFolder(), RESOLUTION_FILE)));
+      } catch (Exception e) {
+        // nothing - it's only a cache
+        if (tmp != null) {
+          tmp.delete();
+        }
+      }
+    }
+  }
+
+  private void replaceFile(File tmp, File f) throws IOException {
+    try {
+      Files.move(tmp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(tmp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static synchronized ExecutorService getPrefetcher() {
+    if (prefetcher == null) {
+      prefetcher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "validator-prefetch");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return prefetcher;
+  }
+
   @Override
   public byte[] fetchRaw(IResourceValidator validator, String url) throws MalformedURLException, IOException {
     throw new FHIRException("The URL '" + url + "' is not known to the FHIR validator, and has not been provided as part of the setup / parameters");
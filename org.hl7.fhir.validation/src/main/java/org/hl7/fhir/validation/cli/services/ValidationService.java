@@ -10,6 +10,10 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hl7.fhir.r5.conformance.R5ExtensionsLoader;
 import org.hl7.fhir.r5.context.ContextUtilities;
@@ -34,6 +38,8 @@ import org.hl7.fhir.r5.renderers.spreadsheets.ConceptMapSpreadsheetGenerator;
 import org.hl7.fhir.r5.renderers.spreadsheets.StructureDefinitionSpreadsheetGenerator;
 import org.hl7.fhir.r5.renderers.spreadsheets.ValueSetSpreadsheetGenerator;
 import org.hl7.fhir.r5.terminologies.CodeSystemUtilities;
+import org.hl7.fhir.r5.terminologies.LocalTerminologyClient;
+import org.hl7.fhir.r5.utils.validation.BundleValidationRule;
 import org.hl7.fhir.utilities.FhirPublication;
 import org.hl7.fhir.utilities.TextFile;
 import org.hl7.fhir.utilities.TimeTracker;
@@ -63,6 +69,7 @@ public class ValidationService {
 
   private final SessionCache sessionCache;
   private String runDate;
+  private ExecutorService executor;
 
   public ValidationService() {
     sessionCache = new SessionCache();
@@ -92,18 +99,56 @@ public class ValidationService {
 
     ValidationResponse response = new ValidationResponse().setSessionId(sessionId);
 
-    for (FileInfo fp : request.getFilesToValidate()) {
-      List<ValidationMessage> messages = new ArrayList<>();
-      validator.validate(fp.getFileContent().getBytes(), Manager.FhirFormat.getFhirFormat(fp.getFileType()),
-        request.getCliContext().getProfiles(), messages);
-      ValidationOutcome outcome = new ValidationOutcome().setFileInfo(fp);
-      messages.forEach(outcome::addMessage);
-      response.addOutcome(outcome);
+    List<String> profiles = request.getCliContext().getProfiles();
+    if (request.getFilesToValidate().size() == 1) {
+      response.addOutcome(validateFile(validator, request.getFilesToValidate().get(0), profiles));
+    } else {
+      // each file gets its own InstanceValidator over the shared session context, so they can be validated concurrently.
+      // The settings the validators share through the context are applied here, before any of them start
+      for (FileInfo fp : request.getFilesToValidate()) {
+        validator.prepareContext(Manager.FhirFormat.getFhirFormat(fp.getFileType()));
+      }
+      List<Future<ValidationOutcome>> outcomes = new ArrayList<>();
+      for (FileInfo fp : request.getFilesToValidate()) {
+        outcomes.add(getExecutor().submit(() -> validateFile(validator, fp, profiles)));
+      }
+      for (Future<ValidationOutcome> f : outcomes) {
+        try {
+          response.addOutcome(f.get());
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof Exception) {
+            throw (Exception) e.getCause();
+          }
+          throw e;
+        }
+      }
     }
     System.out.println("  Max Memory: "+Runtime.getRuntime().maxMemory());
     return response;
   }
 
+  private ValidationOutcome validateFile(ValidationEngine validator, FileInfo fp, List<String> profiles) throws Exception {
+    List<ValidationMessage> messages = new ArrayList<>();
+    validator.validate(fp.getFileContent().getBytes(), Manager.FhirFormat.getFhirFormat(fp.getFileType()), profiles, messages);
+    ValidationOutcome outcome = new ValidationOutcome().setFileInfo(fp);
+    messages.forEach(outcome::addMessage);
+    return outcome;
+  }
+
+  /**
+   * the pool shared by all requests for validating files concurrently. Threads are daemons so they don't hold up exit
+   */
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+        Thread t = new Thread(r, "validation-service");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return executor;
+  }
+
   public VersionSourceInformation scanForVersions(CliContext cliContext) throws Exception {
     VersionSourceInformation versions = new VersionSourceInformation();
     IgLoader igLoader = new IgLoader(
@@ -382,6 +427,13 @@ public class ValidationService {
       if (sessionId != null) {
         System.out.println("No such cached session exists for session id " + sessionId + ", re-instantiating validator.");
       }
+      String engineKey = engineKey(cliContext, definitions);
+      ValidationEngine shared = sessionCache.fetchSharedEngine(engineKey);
+      if (shared != null) {
+        sessionId = sessionCache.cacheSession(shared);
+        System.out.println("  Sharing the validator of an existing session with the same set up");
+        return sessionId;
+      }
       System.out.print("  Load FHIR v" + cliContext.getSv() + " from " + definitions);
       ValidationEngine validator = new ValidationEngine.ValidationEngineBuilder().withTHO(false).withVersion(cliContext.getSv()).withTimeTracker(tt).withUserAgent("fhir/validator").fromSource(definitions);
 
@@ -434,6 +486,7 @@ public class ValidationService {
       validator.setCrumbTrails(cliContext.isCrumbTrails());
       validator.setForPublication(cliContext.isForPublication());
       validator.setShowTimes(cliContext.isShowTimes());
+      validator.setThreads(cliContext.getThreads());
       validator.setAllowExampleUrls(cliContext.isAllowExampleUrls());
       StandAloneValidatorFetcher fetcher = new StandAloneValidatorFetcher(validator.getPcm(), validator.getContext(), validator);
       validator.setFetcher(fetcher);
@@ -442,6 +495,7 @@ public class ValidationService {
       validator.setJurisdiction(CodeSystemUtilities.readCoding(cliContext.getJurisdiction()));
       TerminologyCache.setNoCaching(cliContext.isNoInternalCaching());
       validator.prepare(); // generate any missing snapshots
+      sessionCache.registerSharedEngine(engineKey, validator);
       System.out.println(" go (" + tt.milestone() + ")");
     } else {
       System.out.println("Cached session exists for session id " + sessionId + ", returning stored validator session id.");
@@ -452,6 +506,24 @@ public class ValidationService {
 
 
 
+  /**
+   * describes everything in the context that goes into setting up a validator in initializeValidator, so that
+   * sessions that would end up with the same validator can share one
+   */
+  private String engineKey(CliContext cliContext, String definitions) {
+    return String.join("|", definitions, cliContext.getSv(), cliContext.getTxServer(), cliContext.getTxLog(), String.valueOf(cliContext.getIgs()),
+      String.valueOf(cliContext.isRecursive()), String.valueOf(cliContext.isDoDebug()), String.valueOf(cliContext.getQuestionnaireMode()),
+      String.valueOf(cliContext.getLevel()), String.valueOf(cliContext.isDoNative()), String.valueOf(cliContext.isHintAboutNonMustSupport()),
+      String.valueOf(cliContext.getExtensions()), cliContext.getLang(), String.valueOf(cliContext.getLocale()), cliContext.getSnomedCTCode(),
+      String.valueOf(cliContext.isAssumeValidRestReferences()), String.valueOf(cliContext.isShowMessagesFromReferences()),
+      String.valueOf(cliContext.isDoImplicitFHIRPathStringConversion()), String.valueOf(cliContext.getHtmlInMarkdownCheck()),
+      String.valueOf(cliContext.isNoExtensibleBindingMessages()), String.valueOf(cliContext.isNoUnicodeBiDiControlChars()),
+      String.valueOf(cliContext.isNoInvariants()), String.valueOf(cliContext.isWantInvariantsInMessages()),
+      String.valueOf(cliContext.isSecurityChecks()), String.valueOf(cliContext.isCrumbTrails()), String.valueOf(cliContext.isForPublication()),
+      String.valueOf(cliContext.isShowTimes()), String.valueOf(cliContext.getThreads()), String.valueOf(cliContext.isAllowExampleUrls()),
+      rules(cliContext), cliContext.getJurisdiction(), String.valueOf(cliContext.isNoInternalCaching()));
+  }
+
   public String determineVersion(CliContext cliContext) throws Exception {
     return determineVersion(cliContext, null);
   }
@@ -478,6 +550,19 @@ public class ValidationService {
     throw new Exception("-> Multiple versions found. Specify a particular version using the -version parameter");
   }
 
+  public void generateTerminologyImage(CliContext cliContext, ValidationEngine validator) throws Exception {
+    if (cliContext.getOutput() == null) {
+      throw new Exception("Building a terminology store requires the -output parameter to be set");
+    }
+    validator.getContext().saveSnapshotImage(cliContext.getOutput());
+    System.out.println(" ...saved context image to "+cliContext.getOutput());
+    // the closures are built from the image itself, so they only hold what -tx local: can actually answer  
+    LocalTerminologyClient client = LocalTerminologyClient.fromImage(cliContext.getOutput());
+    int count = client.buildClosures();
+    client.saveClosures(cliContext.getOutput() + LocalTerminologyClient.CLOSURE_EXTENSION);
+    System.out.println(" ...indexed "+count+" value sets in "+cliContext.getOutput() + LocalTerminologyClient.CLOSURE_EXTENSION);
+  }
+
   public void generateSpreadsheet(CliContext cliContext, ValidationEngine validator) throws Exception {
     CanonicalResource cr = validator.loadCanonicalResource(cliContext.getSources().get(0), cliContext.getSv());
     boolean ok = true;
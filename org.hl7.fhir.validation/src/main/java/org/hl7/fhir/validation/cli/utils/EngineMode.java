@@ -11,5 +11,6 @@ public enum EngineMode {
   SPREADSHEET,
   FHIRPATH,
   VERSION,
-  RUN_TESTS
+  RUN_TESTS,
+  TX_IMAGE
 }
@@ -7,6 +7,7 @@ import java.util.Locale;
 import org.hl7.fhir.exceptions.FHIRException;
 import org.hl7.fhir.r5.terminologies.JurisdictionUtilities;
 import org.hl7.fhir.r5.utils.validation.BundleValidationRule;
+import org.hl7.fhir.utilities.Utilities;
 import org.hl7.fhir.utilities.VersionUtilities;
 import org.hl7.fhir.validation.cli.model.CliContext;
 import org.hl7.fhir.validation.cli.model.HtmlInMarkdownCheck;
@@ -47,6 +48,7 @@ public class Params {
   public static final String TERMINOLOGY = "-tx";
   public static final String TERMINOLOGY_LOG = "-txLog";
   public static final String TERMINOLOGY_CACHE = "-txCache";
+  public static final String TERMINOLOGY_IMAGE = "-txImage";
   public static final String LOG = "-log";
   public static final String LANGUAGE = "-language";
   public static final String IMPLEMENTATION_GUIDE = "-ig";
@@ -72,6 +74,7 @@ public class Params {
   public static final String FOR_PUBLICATION = "-forPublication";
   public static final String VERBOSE = "-verbose";
   public static final String SHOW_TIMES = "-show-times";
+  public static final String THREADS = "-threads";
   public static final String ALLOW_EXAMPLE_URLS = "-allow-example-urls";
   public static final String OUTPUT_STYLE = "-output-style";
   public static final String DO_IMPLICIT_FHIRPATH_STRING_CONVERSION = "-implicit-fhirpath-string-conversions";
@@ -242,6 +245,8 @@ public class Params {
         cliContext.setMode(EngineMode.SPREADSHEET);
       } else if (args[i].equals(SNAPSHOT)) {
         cliContext.setMode(EngineMode.SNAPSHOT);
+      } else if (args[i].equals(TERMINOLOGY_IMAGE)) {
+        cliContext.setMode(EngineMode.TX_IMAGE);
       } else if (args[i].equals(RUN_TESTS)) {
         // TODO setBaseTestingUtils test directory
         cliContext.setMode(EngineMode.RUN_TESTS);
@@ -264,6 +269,16 @@ public class Params {
         }          
       } else if (args[i].equals(SHOW_TIMES)) {
         cliContext.setShowTimes(true);
+      } else if (args[i].equals(THREADS)) {
+        if (i + 1 == args.length)
+          throw new Error("Specified -threads without indicating the number of threads");
+        else {
+          String t = args[++i];
+          if (!Utilities.isInteger(t) || Integer.parseInt(t) < 1) {
+            throw new Error("Value for "+THREADS+" must be a positive integer: "+t);
+          }
+          cliContext.setThreads(Integer.parseInt(t));
+        }
       } else if (args[i].equals(OUTPUT_STYLE)) {
         cliContext.setOutputStyle(args[++i]);
       } else if (args[i].equals(SCAN)) {
@@ -65,7 +65,10 @@ import org.hl7.fhir.r5.conformance.profile.ProfileUtilities;
 import org.hl7.fhir.r5.conformance.profile.ProfileUtilities.SourcedChildDefinitions;
 import org.hl7.fhir.r5.context.ContextUtilities;
 import org.hl7.fhir.r5.context.IWorkerContext;
+import org.hl7.fhir.r5.context.IWorkerContext.CodingValidationRequest;
+import org.hl7.fhir.r5.context.IWorkerContext.ILoggingService.LogCategory;
 import org.hl7.fhir.r5.context.IWorkerContext.ValidationResult;
+import org.hl7.fhir.r5.context.IWorkerContext.ValueSetValidationRequest;
 import org.hl7.fhir.r5.elementmodel.Element;
 import org.hl7.fhir.r5.elementmodel.Element.SpecialElement;
 import org.hl7.fhir.r5.elementmodel.JsonParser;
@@ -178,6 +181,7 @@ import org.hl7.fhir.utilities.validation.ValidationMessage;
 import org.hl7.fhir.utilities.validation.ValidationMessage.IssueSeverity;
 import org.hl7.fhir.utilities.validation.ValidationMessage.IssueType;
 import org.hl7.fhir.utilities.validation.ValidationMessage.Source;
+import org.hl7.fhir.utilities.validation.ValidationMessageList;
 import org.hl7.fhir.utilities.validation.ValidationOptions;
 import org.hl7.fhir.utilities.xhtml.NodeType;
 import org.hl7.fhir.utilities.xhtml.XhtmlNode;
@@ -683,6 +687,22 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
 
   @Override
   public org.hl7.fhir.r5.elementmodel.Element validate(Object appContext, List<ValidationMessage> errors, InputStream stream, FhirFormat format, List<StructureDefinition> profiles) throws FHIRException {
+    List<NamedElement> list = parseForValidation(errors, stream, format, profiles);
+    for (NamedElement ne : list) {
+      validate(appContext, errors, ne.getName(), ne.getElement(), profiles);
+    }
+    return list.isEmpty() ? null : list.get(0).getElement(); // todo: this is broken, but fixing it really complicates things elsewhere, so we do this for now
+  }
+
+  /**
+   * Parse an instance ready to validate it, the same way validate() does, so that it can then be validated 
+   * against more than one set of profiles without parsing it again (see validateAgainstEach).
+   * 
+   * @param errors - problems the parser finds are added to this
+   * @param profiles - if the content implies a profile, it's added to this list
+   * @return the parsed content, which is empty if there wasn't any
+   */
+  public List<NamedElement> parseForValidation(List<ValidationMessage> errors, InputStream stream, FhirFormat format, List<StructureDefinition> profiles) throws FHIRException {
     ParserBase parser = Manager.makeParser(context, format);
     List<StructureDefinition> logicals = new ArrayList<>();
     for (StructureDefinition sd : profiles) {
@@ -713,21 +733,19 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
       throw new FHIRException(e1);
     }
     timeTracker.load(t);
-    if (list != null && !list.isEmpty()) {
-      String url = parser.getImpliedProfile();
-      if (url != null) {
-        StructureDefinition sd = context.fetchResource(StructureDefinition.class, url);
-        if (sd == null) {
-          rule(errors, NO_RULE_DATE, IssueType.NOTFOUND, "Payload", false, "Implied profile "+url+" not known to validator");          
-        } else {
-          profiles.add(sd);
-        }
-      }
-      for (NamedElement ne : list) {
-        validate(appContext, errors, ne.getName(), ne.getElement(), profiles);
+    if (list == null || list.isEmpty()) {
+      return new ArrayList<>();
+    }
+    String url = parser.getImpliedProfile();
+    if (url != null) {
+      StructureDefinition sd = context.fetchResource(StructureDefinition.class, url);
+      if (sd == null) {
+        rule(errors, NO_RULE_DATE, IssueType.NOTFOUND, "Payload", false, "Implied profile "+url+" not known to validator");          
+      } else {
+        profiles.add(sd);
       }
     }
-    return (list == null || list.isEmpty()) ? null : list.get(0).getElement(); // todo: this is broken, but fixing it really complicates things elsewhere, so we do this for now
+    return list;
   }
 
   @Override
@@ -856,8 +874,77 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     validate(appContext, errors, initialPath, element, profiles);
   }
 
+  /**
+   * Validate an instance that has already been parsed (see parseForValidation) against each of the profiles 
+   * separately, as if validate() had been called once for each of them. The instance is only prepared once, and 
+   * the codes in it are checked against the terminology server in a single batch up front, so checking the 
+   * instance against a large number of profiles only costs the validation itself. 
+   * 
+   * The profiles are checked one after another: the validator keeps state about the run it's doing, and records 
+   * what it has checked on the elements themselves, so the same instance can't be validated on multiple threads.
+   * What was recorded on the elements is cleared before each profile is checked, so the elements only describe
+   * the last profile afterwards.
+   * If validating against one of the profiles fails with an exception, that's reported as a fatal message for that 
+   * profile, and the other profiles are still checked.
+   *    
+   * @return the messages for each profile, in the same order as the profiles
+   */
+  public List<List<ValidationMessage>> validateAgainstEach(Object appContext, String path, Element element, List<StructureDefinition> profiles) throws FHIRException {
+    setParents(element);
+    preValidateCodings(element);
+    List<List<ValidationMessage>> result = new ArrayList<>();
+    for (StructureDefinition sd : profiles) {
+      List<ValidationMessage> errors = new ValidationMessageList();
+      List<StructureDefinition> list = new ArrayList<>();
+      list.add(sd);
+      clearValidationState(element);
+      try {
+        validate(appContext, errors, path, element, list, false);
+      } catch (Exception e) {
+        errors.add(new ValidationMessage(source, IssueType.EXCEPTION, path, e.getMessage(), IssueSeverity.FATAL));
+      }
+      result.add(errors);
+    }
+    return result;
+  }
+
+  /**
+   * clear what a previous run recorded on the elements, so that it doesn't change the outcome of the next run 
+   * (e.g. an element marked as supported by one profile doesn't get the must-support hint for the next one)
+   */
+  private void clearValidationState(Element element) {
+    element.clearUserData("elementSupported");
+    element.clearUserData("validator.bundle.resolved");
+    element.clearUserData("validator.bundle.resolution");
+    element.clearUserData("structuremap.validated");
+    element.clearUserData("structuremap.parameters");
+    element.clearUserData("fhir.decorations");
+    element.clearValidationInfo();
+    element.clearMessages();
+    if (element.hasChildren()) {
+      for (Element child : element.getChildren()) {
+        clearValidationState(child);
+      }
+    }
+  }
+
   @Override
   public void validate(Object appContext, List<ValidationMessage> errors, String path, Element element, List<StructureDefinition> profiles) throws FHIRException {
+    validate(appContext, errors, path, element, profiles, true);
+  }
+
+  private void validate(Object appContext, List<ValidationMessage> errors, String path, Element element, List<StructureDefinition> profiles, boolean prepare) throws FHIRException {
+    if (!(errors instanceof ValidationMessageList)) {
+      // the validator checks for duplicates as it goes, so collect the messages in a list that can do that quickly 
+      ValidationMessageList collector = new ValidationMessageList(errors);
+      try {
+        validate(appContext, collector, path, element, profiles, prepare);
+      } finally {
+        errors.clear();
+        errors.addAll(collector);
+      }
+      return;
+    }
     // this is the main entry point; all the other public entry points end up here coming here...
     // so the first thing to do is to clear the internal state
     fetchCache.clear();
@@ -867,7 +954,10 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     messagesToRemove.clear();
     executionId = UUID.randomUUID().toString();
     baseOnly = profiles.isEmpty();
-    setParents(element);
+    if (prepare) {
+      setParents(element);
+      preValidateCodings(element);
+    }
 
     long t = System.nanoTime();
     NodeStack stack = new NodeStack(context, path, element, validationLanguage);
@@ -936,8 +1026,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     ok = checkFixedValue(errors, path + ".country", focus.getNamedChild("country"), fixed.getCountryElement(), fixedSource, "country", focus, pattern) && ok;
     ok = checkFixedValue(errors, path + ".zip", focus.getNamedChild("zip"), fixed.getPostalCodeElement(), fixedSource, "postalCode", focus, pattern) && ok;
 
-    List<Element> lines = new ArrayList<Element>();
-    focus.getNamedChildren("line", lines);
+    List<Element> lines = focus.getNamedChildrenView("line");
     boolean lineSizeCheck;
     
     if (pattern) {
@@ -988,6 +1077,101 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     return ok;
   }
 
+  /**
+   * Validate all the codings in the resource (or bundle) against their code systems, and the codings and concepts 
+   * that have a binding in the base definitions against their value sets, in one go. The results go into the 
+   * terminology cache, so when each one is checked as the resource is walked, it doesn't need a separate call to 
+   * the terminology server. This is only an optimisation: anything it misses (e.g. bindings in profiles) is checked 
+   * as before
+   */
+  private void preValidateCodings(Element element) {
+    if (noTerminologyChecks) {
+      return;
+    }
+    long t = System.nanoTime();
+    try {
+      Map<String, List<CodingValidationRequest>> codings = new HashMap<>();
+      Map<String, List<ValueSetValidationRequest>> bindings = new HashMap<>();
+      collectCodings(element, validationLanguage, true, codings, bindings);
+      Set<String> langs = new HashSet<>(codings.keySet());
+      langs.addAll(bindings.keySet());
+      for (String lang : langs) {
+        context.preValidateCodes(baseOptions.setLanguage(lang), codings.getOrDefault(lang, new ArrayList<>()), bindings.getOrDefault(lang, new ArrayList<>()));
+      }
+    } catch (Exception e) {
+      // the codes will still be checked one at a time, but say why this didn't work
+      if (STACK_TRACE) e.printStackTrace();
+      context.getLogger().logDebugMessage(LogCategory.TX, "Unable to pre-validate the codes: "+e.getMessage());
+    }
+    timeTracker.tx(t, "batch");
+  }
+
+  /**
+   * collect the same checks that the walk will make, with the same arguments, so the cache keys match
+   * 
+   * @param checkDisplay whether the walk will check the display of a coding here - see checkChildByDefinition 
+   */
+  private void collectCodings(Element element, String lang, boolean checkDisplay, Map<String, List<CodingValidationRequest>> codings, Map<String, List<ValueSetValidationRequest>> bindings) {
+    if (element.getProperty() != null && element.isResource()) {
+      String l = element.getNamedChildValue("language");
+      if (!Utilities.noString(l)) {
+        lang = l;
+      }
+    }
+    boolean childCheckDisplay = true;
+    if ("Coding".equals(element.fhirType())) {
+      String system = element.getNamedChildValue("system");
+      String code = element.getNamedChildValue("code");
+      if (system != null && code != null && context.supportsSystem(system)) {
+        // the same coding that checkCode will validate
+        String display = element.getNamedChildValue("display");
+        Coding c = new Coding(system, element.getNamedChildValue("version"), code, checkDisplay ? display : null);
+        codings.computeIfAbsent(lang, k -> new ArrayList<>()).add(new CodingValidationRequest(c));
+        // and checkCodedElement then checks it against the binding
+        ValueSet vs = getBaseBinding(element);
+        if (vs != null) {
+          bindings.computeIfAbsent(lang, k -> new ArrayList<>()).add(new ValueSetValidationRequest(baseOptions.setLanguage(lang).checkValueSetOnly(), ObjectConverter.readAsCoding(element), vs));
+        }
+      }
+    } else if ("CodeableConcept".equals(element.fhirType())) {
+      ValueSet vs = getBaseBinding(element);
+      if (vs != null) {
+        CodeableConcept cc = ObjectConverter.readAsCodeableConcept(element);
+        if (cc.hasCoding()) {
+          List<ValueSetValidationRequest> list = bindings.computeIfAbsent(lang, k -> new ArrayList<>());
+          list.add(new ValueSetValidationRequest(baseOptions.setLanguage(lang).checkValueSetOnly(), cc, vs));
+          // if the concept is in the value set (the usual case), checkCodeableConcept returns false, so the displays 
+          // of the codings aren't checked, and checkBindings checks each coding against the value set
+          childCheckDisplay = false;
+          for (Coding c : cc.getCoding()) {
+            if (isNotBlank(c.getCode()) && isNotBlank(c.getSystem()) && context.supportsSystem(c.getSystem())) {
+              list.add(new ValueSetValidationRequest(baseOptions.setLanguage(lang).noCheckValueSetMembership(), c, vs));
+            }
+          }
+        }
+      }
+    }
+    if (element.hasChildren()) {
+      for (Element child : element.getChildren()) {
+        collectCodings(child, lang, childCheckDisplay, codings, bindings);
+      }
+    }
+  }
+
+  /**
+   * the value set that the base definition of the element binds it to, if it's going to be checked
+   */
+  private ValueSet getBaseBinding(Element element) {
+    if (element.getProperty() == null || element.getProperty().getDefinition() == null || !element.getProperty().getDefinition().hasBinding()) {
+      return null;
+    }
+    ElementDefinitionBindingComponent binding = element.getProperty().getDefinition().getBinding();
+    if (!binding.hasValueSet() || binding.getStrength() == BindingStrength.EXAMPLE) {
+      return null;
+    }
+    return context.fetchResource(ValueSet.class, binding.getValueSet());
+  }
+
   // public API
   private boolean checkCode(List<ValidationMessage> errors, Element element, String path, String code, String system, String version, String display, boolean checkDisplay, NodeStack stack) throws TerminologyServiceException {
     long t = System.nanoTime();
@@ -1138,8 +1322,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
   private boolean checkCodeableConcept(List<ValidationMessage> errors, String path, Element focus, CodeableConcept fixed, String fixedSource, boolean pattern) {
     boolean ok = true;
     ok = checkFixedValue(errors, path + ".text", focus.getNamedChild("text"), fixed.getTextElement(), fixedSource, "text", focus, pattern) && ok;
-    List<Element> codings = new ArrayList<Element>();
-    focus.getNamedChildren("coding", codings);
+    List<Element> codings = focus.getNamedChildrenView("coding");
     if (pattern) {
       if (rule(errors, NO_RULE_DATE, IssueType.VALUE, focus.line(), focus.col(), path, codings.size() >= fixed.getCoding().size(), I18nConstants.TERMINOLOGY_TX_CODING_COUNT, Integer.toString(fixed.getCoding().size()), Integer.toString(codings.size()))) {
         for (int i = 0; i < fixed.getCoding().size(); i++) {
@@ -2180,8 +2363,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
         ok = checkReference(errors, path, focus, (Reference) fixed, fixedSource, pattern);
       else
         ok = rule(errors, NO_RULE_DATE, IssueType.EXCEPTION, focus.line(), focus.col(), path, false, I18nConstants.INTERNAL_INT_BAD_TYPE, fixed.fhirType());
-      List<Element> extensions = new ArrayList<Element>();
-      focus.getNamedChildren("extension", extensions);
+      List<Element> extensions = focus.getNamedChildrenView("extension");
       if (fixed.getExtension().size() == 0) {
         ok = rule(errors, NO_RULE_DATE, IssueType.VALUE, focus.line(), focus.col(), path, extensions.size() == 0 || pattern == true, I18nConstants.EXTENSION_EXT_FIXED_BANNED) && ok;
       } else if (rule(errors, NO_RULE_DATE, IssueType.VALUE, focus.line(), focus.col(), path, extensions.size() == fixed.getExtension().size(), I18nConstants.EXTENSION_EXT_COUNT_MISMATCH, Integer.toString(fixed.getExtension().size()), Integer.toString(extensions.size()))) {
@@ -2646,8 +2828,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     if (fetcher != null && !type.equals("uuid")) {
       boolean found;
       try {
-        found = isDefinitionURL(url) || (allowExamples && (url.contains("example.org") || url.contains("acme.com")) || url.contains("acme.org")) || (url.startsWith("http://hl7.org/fhir/tools")) || 
-            SpecialExtensions.isKnownExtension(url) || isXverUrl(url);
+        found = isKnownUrl(url);
         if (!found) {
           found = fetcher.resolveURL(this, hostContext, path, url, type);
         }
@@ -2849,6 +3030,14 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     }
   }
 
+  /**
+   * urls that are accepted as resolving without asking the fetcher about them (see validateReference)
+   */
+  public boolean isKnownUrl(String url) {
+    return isDefinitionURL(url) || (allowExamples && (url.contains("example.org") || url.contains("acme.com")) || url.contains("acme.org")) || (url.startsWith("http://hl7.org/fhir/tools")) || 
+        SpecialExtensions.isKnownExtension(url) || isXverUrl(url);
+  }
+
   private boolean isDefinitionURL(String url) {
     return Utilities.existsInList(url, "http://hl7.org/fhirpath/System.Boolean", "http://hl7.org/fhirpath/System.String", "http://hl7.org/fhirpath/System.Integer",
       "http://hl7.org/fhirpath/System.Decimal", "http://hl7.org/fhirpath/System.Date", "http://hl7.org/fhirpath/System.Time", "http://hl7.org/fhirpath/System.DateTime", "http://hl7.org/fhirpath/System.Quantity");
@@ -3682,8 +3871,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     boolean ok = true;
     ok = checkFixedValue(errors, path + ".repeat", focus.getNamedChild("repeat"), fixed.getRepeat(), fixedSource, "value", focus, pattern) && ok;
 
-    List<Element> events = new ArrayList<Element>();
-    focus.getNamedChildren("event", events);
+    List<Element> events = focus.getNamedChildrenView("event");
     if (rule(errors, NO_RULE_DATE, IssueType.VALUE, focus.line(), focus.col(), path, events.size() == fixed.getEvent().size(), I18nConstants.BUNDLE_MSG_EVENT_COUNT, Integer.toString(fixed.getEvent().size()), Integer.toString(events.size()))) {
       for (int i = 0; i < events.size(); i++)
         ok = checkFixedValue(errors, path + ".event", events.get(i), fixed.getEvent().get(i), fixedSource, "event", focus, pattern) && ok;
@@ -3775,8 +3963,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
   }
 
   private IndexedElement getContainedById(Element container, String id) {
-    List<Element> contained = new ArrayList<Element>();
-    container.getNamedChildren("contained", contained);
+    List<Element> contained = container.getNamedChildrenView("contained");
     for (int i = 0; i < contained.size(); i++) {
       Element we = contained.get(i);
       if (id.equals(we.getNamedChildValue(ID))) {
@@ -4213,8 +4400,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
   }
 
   private Element getEntryForSource(Element bundle, Element element) {
-    List<Element> entries = new ArrayList<Element>();
-    bundle.getNamedChildren(ENTRY, entries);
+    List<Element> entries = bundle.getNamedChildrenView(ENTRY);
     for (Element entry : entries) {
       if (entry.hasDescendant(element)) {
         return entry;
@@ -4799,8 +4985,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
  
     Element meta = element.getNamedChild(META);
     if (meta != null) {
-      List<Element> profiles = new ArrayList<Element>();
-      meta.getNamedChildren("profile", profiles);
+      List<Element> profiles = meta.getNamedChildrenView("profile");
       int i = 0;
       for (Element profile : profiles) {
         StructureDefinition sd = context.fetchResource(StructureDefinition.class, profile.primitiveValue());
@@ -4939,7 +5124,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
       List<Element> list = new ArrayList<Element>();
       list.addAll(bundles);
       list.add(0, element);
-      List<Element> entries = element.getChildrenByName(ENTRY);
+      List<Element> entries = element.getNamedChildrenView(ENTRY);
       for (Element entry : entries) {
         String fu = entry.getChildValue(FULL_URL);
         Element r = entry.getNamedChild(RESOURCE);
@@ -4996,7 +5181,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
       return ok;
     }
     if (rule(errors, NO_RULE_DATE, IssueType.STRUCTURE, element.line(), element.col(), stack.getLiteralPath(), defn.hasSnapshot(), I18nConstants.VALIDATION_VAL_PROFILE_NOSNAPSHOT, defn.getVersionedUrl())) {
-      List<ValidationMessage> localErrors = new ArrayList<ValidationMessage>();
+      List<ValidationMessage> localErrors = new ValidationMessageList();
       resTracker.startValidating(defn);
       trackUsage(defn, hostContext, element);
       ok = validateElement(hostContext, localErrors, defn, defn.getSnapshot().getElement().get(0), null, null, resource, element, element.getName(), stack, false, true, null, pct, mode) && ok;
@@ -5094,8 +5279,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     Element meta = element.getNamedChild(META);
     if (meta != null) {
       Set<String> tags = new HashSet<>();
-      List<Element> list = new ArrayList<>();
-      meta.getNamedChildren("security", list);
+      List<Element> list = meta.getNamedChildrenView("security");
       int i = 0;
       for (Element e : list) {
         String s = e.getNamedChildValue("system") + "#" + e.getNamedChildValue("code");
@@ -6166,8 +6350,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     // all observations should have a subject, a performer, and a time
 
     ok = bpCheck(errors, IssueType.INVALID, element.line(), element.col(), stack.getLiteralPath(), element.getNamedChild("subject") != null, I18nConstants.ALL_OBSERVATIONS_SHOULD_HAVE_A_SUBJECT) && ok;
-    List<Element> performers = new ArrayList<>();
-    element.getNamedChildren("performer", performers);
+    List<Element> performers = element.getNamedChildrenView("performer");
     ok = bpCheck(errors, IssueType.INVALID, element.line(), element.col(), stack.getLiteralPath(), performers.size() > 0, I18nConstants.ALL_OBSERVATIONS_SHOULD_HAVE_A_PERFORMER) && ok;
     ok = bpCheck(errors, IssueType.INVALID, element.line(), element.col(), stack.getLiteralPath(), element.getNamedChild("effectiveDateTime") != null || element.getNamedChild("effectivePeriod") != null, I18nConstants.ALL_OBSERVATIONS_SHOULD_HAVE_AN_EFFECTIVEDATETIME_OR_AN_EFFECTIVEPERIOD) && ok;
     
@@ -6248,8 +6431,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
   }
 
   private NodeStack getFirstEntry(NodeStack bundle) {
-    List<Element> list = new ArrayList<Element>();
-    bundle.getElement().getNamedChildren(ENTRY, list);
+    List<Element> list = bundle.getElement().getNamedChildrenView(ENTRY);
     if (list.isEmpty())
       return null;
     Element resource = list.get(0).getNamedChild(RESOURCE);
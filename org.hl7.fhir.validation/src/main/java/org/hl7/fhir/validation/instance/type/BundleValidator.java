@@ -1,11 +1,15 @@
 package org.hl7.fhir.validation.instance.type;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.commons.lang3.StringUtils;
 import org.hl7.fhir.r5.context.IWorkerContext;
@@ -570,12 +574,14 @@ public class BundleValidator extends BaseValidator {
   private boolean checkAllInterlinked(List<ValidationMessage> errors, List<Element> entries, NodeStack stack, Element bundle, boolean isMessage) {
     boolean ok = true;
     List<EntrySummary> entryList = new ArrayList<>();
+    Map<Element, EntrySummary> entryIndex = new IdentityHashMap<>();
     int i = 0;
     for (Element entry : entries) {
       Element r = entry.getNamedChild(RESOURCE);
       if (r != null) {
         EntrySummary e = new EntrySummary(i, entry, r);
         entryList.add(e);
+        entryIndex.put(entry, e);
 //        System.out.println("Found entry "+e.dbg());
       }
       i++;
@@ -586,11 +592,12 @@ public class BundleValidator extends BaseValidator {
       for (String ref : references) {
         Element tgt = resolveInBundle(bundle, entries, ref, e.getEntry().getChildValue(FULL_URL), e.getResource().fhirType(), e.getResource().getIdBase());
         if (tgt != null) {
-          EntrySummary t = entryForTarget(entryList, tgt);
+          EntrySummary t = entryIndex.get(tgt);
           if (t != null ) {
             if (t != e) {
 //              System.out.println("Entry "+e.getIndex()+" refers to "+t.getIndex()+" by ref '"+ref+"'");
               e.getTargets().add(t);
+              t.getSources().add(e);
             } else {
 //              System.out.println("Entry "+e.getIndex()+" refers to itself by '"+ref+"'");             
             }
@@ -602,41 +609,48 @@ public class BundleValidator extends BaseValidator {
     Set<EntrySummary> visited = new HashSet<>();
     visitLinked(visited, entryList.get(0));
     visitBundleLinks(visited, entryList, bundle);
-    boolean foundRevLinks;
-    do {
-      foundRevLinks = false;
-      for (EntrySummary e : entryList) {
-        if (!visited.contains(e)) {
-//          System.out.println("Not visited "+e.getIndex()+" - check for reverse links");             
-          boolean add = false;
-          for (EntrySummary t : e.getTargets()) {
-            if (visited.contains(t)) {
-              add = true;
-            }
-          }
-          if (add) {
-            if (isMessage) {
-              hint(errors, NO_RULE_DATE, IssueType.INFORMATIONAL, e.getEntry().line(), e.getEntry().col(), 
-                  stack.addToLiteralPath(ENTRY + '[' + (i + 1) + ']'), isExpectedToBeReverse(e.getResource().fhirType()), 
-                  I18nConstants.BUNDLE_BUNDLE_ENTRY_REVERSE_MSG, (e.getEntry().getChildValue(FULL_URL) != null ? "'" + e.getEntry().getChildValue(FULL_URL) + "'" : ""));              
-            } else {
-            // this was illegal up to R4B, but changed to be legal in R5
-            if (VersionUtilities.isR5VerOrLater(context.getVersion())) {
-              hint(errors, NO_RULE_DATE, IssueType.INFORMATIONAL, e.getEntry().line(), e.getEntry().col(), 
-                  stack.addToLiteralPath(ENTRY + '[' + (i + 1) + ']'), isExpectedToBeReverse(e.getResource().fhirType()), 
-                  I18nConstants.BUNDLE_BUNDLE_ENTRY_REVERSE_R4, (e.getEntry().getChildValue(FULL_URL) != null ? "'" + e.getEntry().getChildValue(FULL_URL) + "'" : ""));              
-            } else {
-              warning(errors, NO_RULE_DATE, IssueType.INVALID, e.getEntry().line(), e.getEntry().col(), 
-                stack.addToLiteralPath(ENTRY + '[' + (i + 1) + ']'), isExpectedToBeReverse(e.getResource().fhirType()), 
-                I18nConstants.BUNDLE_BUNDLE_ENTRY_REVERSE_R4, (e.getEntry().getChildValue(FULL_URL) != null ? "'" + e.getEntry().getChildValue(FULL_URL) + "'" : ""));
-            }
-            }
-            foundRevLinks = true;
-            visitLinked(visited, e);
-          }
+
+    // entries that aren't visited, but link to one that is. These are picked up in the order
+    // of repeated passes through the entry list, so the hints come out in entry order
+    Map<EntrySummary, Integer> positions = new IdentityHashMap<>();
+    for (EntrySummary e : entryList) {
+      positions.put(e, positions.size());
+    }
+    TreeSet<Integer> candidates = new TreeSet<>();
+    for (EntrySummary e : visited) {
+      addReverseCandidates(e, visited, positions, candidates);
+    }
+    int cursor = 0;
+    while (!candidates.isEmpty()) {
+      Integer next = candidates.ceiling(cursor);
+      if (next == null) {
+        next = candidates.first();
+      }
+      candidates.remove(next);
+      cursor = next;
+      EntrySummary e = entryList.get(next);
+      if (!visited.contains(e)) {
+        if (isMessage) {
+          hint(errors, NO_RULE_DATE, IssueType.INFORMATIONAL, e.getEntry().line(), e.getEntry().col(), 
+              stack.addToLiteralPath(ENTRY + '[' + (i + 1) + ']'), isExpectedToBeReverse(e.getResource().fhirType()), 
+              I18nConstants.BUNDLE_BUNDLE_ENTRY_REVERSE_MSG, (e.getEntry().getChildValue(FULL_URL) != null ? "'" + e.getEntry().getChildValue(FULL_URL) + "'" : ""));              
+        } else {
+        // this was illegal up to R4B, but changed to be legal in R5
+        if (VersionUtilities.isR5VerOrLater(context.getVersion())) {
+          hint(errors, NO_RULE_DATE, IssueType.INFORMATIONAL, e.getEntry().line(), e.getEntry().col(), 
+              stack.addToLiteralPath(ENTRY + '[' + (i + 1) + ']'), isExpectedToBeReverse(e.getResource().fhirType()), 
+              I18nConstants.BUNDLE_BUNDLE_ENTRY_REVERSE_R4, (e.getEntry().getChildValue(FULL_URL) != null ? "'" + e.getEntry().getChildValue(FULL_URL) + "'" : ""));              
+        } else {
+          warning(errors, NO_RULE_DATE, IssueType.INVALID, e.getEntry().line(), e.getEntry().col(), 
+            stack.addToLiteralPath(ENTRY + '[' + (i + 1) + ']'), isExpectedToBeReverse(e.getResource().fhirType()), 
+            I18nConstants.BUNDLE_BUNDLE_ENTRY_REVERSE_R4, (e.getEntry().getChildValue(FULL_URL) != null ? "'" + e.getEntry().getChildValue(FULL_URL) + "'" : ""));
+        }
+        }
+        for (EntrySummary v : visitLinked(visited, e)) {
+          addReverseCandidates(v, visited, positions, candidates);
         }
       }
-    } while (foundRevLinks);
+    }
 
     i = 0;
     for (EntrySummary e : entryList) {
@@ -727,22 +741,31 @@ public class BundleValidator extends BaseValidator {
     }
   }
 
-  private EntrySummary entryForTarget(List<EntrySummary> entryList, Element tgt) {
-    for (EntrySummary e : entryList) {
-      if (e.getEntry() == tgt) {
-        return e;
+  private void addReverseCandidates(EntrySummary t, Set<EntrySummary> visited, Map<EntrySummary, Integer> positions, TreeSet<Integer> candidates) {
+    for (EntrySummary e : t.getSources()) {
+      if (!visited.contains(e)) {
+        candidates.add(positions.get(e));
       }
     }
-    return null;
   }
 
-  private void visitLinked(Set<EntrySummary> visited, EntrySummary t) {
-    if (!visited.contains(t)) {
-      visited.add(t);
-      for (EntrySummary e : t.getTargets()) {
-        visitLinked(visited, e);
+  /**
+   * mark everything reachable from t as visited, and return the entries that weren't already
+   */
+  private List<EntrySummary> visitLinked(Set<EntrySummary> visited, EntrySummary t) {
+    List<EntrySummary> added = new ArrayList<>();
+    Deque<EntrySummary> stack = new ArrayDeque<>();
+    stack.push(t);
+    while (!stack.isEmpty()) {
+      EntrySummary e = stack.pop();
+      if (visited.add(e)) {
+        added.add(e);
+        for (EntrySummary n : e.getTargets()) {
+          stack.push(n);
+        }
       }
     }
+    return added;
   }
 
   private void followResourceLinks(Element entry, Map<String, Element> visitedResources, Map<Element, Element> candidateEntries, List<Element> candidateResources, List<ValidationMessage> errors, NodeStack stack) {
@@ -10,6 +10,7 @@ public class EntrySummary {
     Element entry;
     Element resource;
     List<EntrySummary> targets = new ArrayList<>();
+    List<EntrySummary> sources = new ArrayList<>();
     private int index;
 
     public Element getEntry() {
@@ -39,6 +40,13 @@ public class EntrySummary {
         return this;
     }
 
+    /**
+     * the entries that have this entry as a target
+     */
+    public List<EntrySummary> getSources() {
+        return sources;
+    }
+
     public EntrySummary(int i, Element entry, Element resource) {
       this.index = i;
       this.entry = entry;
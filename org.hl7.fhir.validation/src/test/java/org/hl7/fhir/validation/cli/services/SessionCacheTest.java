@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class SessionCacheTest {
 
@@ -61,4 +62,65 @@ class SessionCacheTest {
     cache.removeExpiredSessions();
     Assertions.assertTrue(cache.getSessionIds().isEmpty());
   }
+
+  @Test
+  @DisplayName("test least recently used sessions are dropped when over the footprint limit")
+  void testFootprintEviction() throws IOException {
+    SessionCache cache = new SessionCache(60, TimeUnit.MINUTES, 250) {
+      @Override
+      protected long estimateFootprint(ValidationEngine engine) {
+        return 100;
+      }
+    };
+    String first = cache.cacheSession(new ValidationEngine.ValidationEngineBuilder().fromNothing());
+    String second = cache.cacheSession(new ValidationEngine.ValidationEngineBuilder().fromNothing());
+    Assertions.assertNotNull(cache.fetchSessionValidatorEngine(first)); // first is now the most recently used
+    String third = cache.cacheSession(new ValidationEngine.ValidationEngineBuilder().fromNothing());
+    Assertions.assertTrue(cache.sessionExists(first));
+    Assertions.assertFalse(cache.sessionExists(second));
+    Assertions.assertTrue(cache.sessionExists(third));
+    Assertions.assertEquals(200, cache.getFootprint());
+  }
+
+  @Test
+  @DisplayName("test trimming estimates the footprint of each engine once")
+  void testFootprintEstimatedOnce() throws IOException {
+    AtomicInteger estimates = new AtomicInteger();
+    SessionCache cache = new SessionCache(60, TimeUnit.MINUTES, 250) {
+      @Override
+      protected long estimateFootprint(ValidationEngine engine) {
+        estimates.incrementAndGet();
+        return 100;
+      }
+    };
+    cache.cacheSession(new ValidationEngine.ValidationEngineBuilder().fromNothing());
+    cache.cacheSession(new ValidationEngine.ValidationEngineBuilder().fromNothing());
+    estimates.set(0);
+    // 3 engines at 100 each: the first session has to go
+    cache.cacheSession(new ValidationEngine.ValidationEngineBuilder().fromNothing());
+    Assertions.assertEquals(3, estimates.get());
+    Assertions.assertEquals(2, cache.getSessionIds().size());
+  }
+
+  @Test
+  @DisplayName("test shared engines are only counted once and released with their last session")
+  void testSharedEngine() throws IOException, InterruptedException {
+    final long EXPIRE_TIME = 5L;
+    SessionCache cache = new SessionCache(EXPIRE_TIME, TimeUnit.SECONDS, 150) {
+      @Override
+      protected long estimateFootprint(ValidationEngine engine) {
+        return 100;
+      }
+    };
+    ValidationEngine testEngine = new ValidationEngine.ValidationEngineBuilder().fromNothing();
+    String first = cache.cacheSession(testEngine);
+    cache.registerSharedEngine("key", testEngine);
+    Assertions.assertEquals(testEngine, cache.fetchSharedEngine("key"));
+    String second = cache.cacheSession(cache.fetchSharedEngine("key"));
+    Assertions.assertTrue(cache.sessionExists(first));
+    Assertions.assertTrue(cache.sessionExists(second));
+    Assertions.assertEquals(100, cache.getFootprint());
+    TimeUnit.SECONDS.sleep(EXPIRE_TIME + 1L);
+    Assertions.assertNull(cache.fetchSharedEngine("key"));
+  }
 }
\ No newline at end of file
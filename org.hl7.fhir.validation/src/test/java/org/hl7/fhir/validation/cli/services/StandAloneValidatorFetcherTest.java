@@ -0,0 +1,184 @@
+package org.hl7.fhir.validation.cli.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hl7.fhir.exceptions.FHIRException;
+import org.hl7.fhir.r5.context.IWorkerContext;
+import org.hl7.fhir.r5.elementmodel.Element;
+import org.hl7.fhir.r5.model.Resource;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.utilities.TextFile;
+import org.hl7.fhir.utilities.npm.FilesystemPackageCacheManager;
+import org.hl7.fhir.utilities.npm.NpmPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StandAloneValidatorFetcherTest {
+
+  private static final String BASE = "http://example.com/fhir";
+  private static final String URL = BASE + "/ValueSet/test";
+  private static final String OTHER_URL = BASE + "/ValueSet/other";
+  private static final String PACKAGE_ID = "example.test";
+
+  /**
+   * counts the package checks, and records the threads packages are loaded into the context on, and any calls made 
+   * without holding the pcm. Checking for a package can be held up, to keep a lookup in progress
+   */
+  private static class TestInstaller implements IPackageInstaller {
+    private final AtomicInteger checks = new AtomicInteger();
+    private final List<Thread> loads = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger unlocked = new AtomicInteger();
+    private volatile Object pcm;
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private volatile CountDownLatch gate;
+
+    @Override
+    public boolean packageExists(String id, String ver) throws IOException, FHIRException {
+      checks.incrementAndGet();
+      checkLocked();
+      entered.countDown();
+      if (gate != null) {
+        try {
+          gate.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          throw new FHIRException(e);
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public void loadPackage(String id, String ver) throws IOException, FHIRException {
+      loads.add(Thread.currentThread());
+      checkLocked();
+    }
+
+    private void checkLocked() {
+      if (pcm != null && !Thread.holdsLock(pcm)) {
+        unlocked.incrementAndGet();
+      }
+    }
+  }
+
+  private Path folder;
+  private IWorkerContext context;
+  private TestInstaller installer;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    folder = Files.createTempDirectory("fetcher");
+    context = mock(IWorkerContext.class);
+    when(context.getResourceNames()).thenReturn(List.of("ValueSet"));
+    when(context.fetchResource(Resource.class, URL)).thenReturn(new ValueSet());
+    when(context.fetchResource(Resource.class, OTHER_URL)).thenReturn(new ValueSet());
+    installer = new TestInstaller();
+  }
+
+  private FilesystemPackageCacheManager makePcm() throws IOException {
+    FilesystemPackageCacheManager pcm = mock(FilesystemPackageCacheManager.class);
+    when(pcm.getFolder()).thenReturn(folder.toString());
+    when(pcm.findCanonicalInLocalCache(BASE)).thenReturn(PACKAGE_ID);
+    NpmPackage npm = mock(NpmPackage.class);
+    when(pcm.loadPackage(PACKAGE_ID, null)).thenReturn(npm);
+    installer.pcm = pcm;
+    return pcm;
+  }
+
+  @Test
+  @DisplayName("urls and packages are only looked up once")
+  void lookupsAreMemoized() throws IOException {
+    FilesystemPackageCacheManager pcm = makePcm();
+    StandAloneValidatorFetcher fetcher = new StandAloneValidatorFetcher(pcm, context, installer);
+    assertTrue(fetcher.resolveURL(null, null, "path", URL, "canonical"));
+    assertTrue(fetcher.resolveURL(null, null, "path", URL, "canonical"));
+    assertTrue(fetcher.resolveURL(null, null, "path", OTHER_URL, "canonical"));
+
+    verify(pcm, times(1)).findCanonicalInLocalCache(BASE);
+    verify(pcm, times(1)).loadPackage(PACKAGE_ID, null);
+    assertEquals(1, installer.checks.get());
+    assertEquals(1, installer.loads.size());
+    assertEquals(0, installer.unlocked.get());
+  }
+
+  @Test
+  @DisplayName("threads asking about a url that is being looked up wait for that lookup")
+  void inFlightLookupsAreShared() throws Exception {
+    FilesystemPackageCacheManager pcm = makePcm();
+    StandAloneValidatorFetcher fetcher = new StandAloneValidatorFetcher(pcm, context, installer);
+    installer.gate = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<Boolean> first = executor.submit(() -> fetcher.resolveURL(null, null, "path", URL, "canonical"));
+      assertTrue(installer.entered.await(10, TimeUnit.SECONDS));
+      Future<Boolean> second = executor.submit(() -> fetcher.resolveURL(null, null, "path", URL, "canonical"));
+      Thread.sleep(200); // give the second lookup time to find the first one
+      installer.gate.countDown();
+      assertTrue(first.get(10, TimeUnit.SECONDS));
+      assertTrue(second.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, installer.checks.get());
+    assertEquals(1, installer.loads.size());
+  }
+
+  @Test
+  @DisplayName("prefetching finds packages in the background, but they're loaded by the validating thread")
+  void prefetchDoesNotLoadPackages() throws IOException {
+    // no mappings, so that the prefetch doesn't go looking for them
+    TextFile.stringToFile("{ \"date\" : \"" + System.currentTimeMillis() + "\", \"mappings\" : [] }", folder.resolve("validator-resolutions.json").toString());
+    FilesystemPackageCacheManager pcm = makePcm();
+    StandAloneValidatorFetcher fetcher = new StandAloneValidatorFetcher(pcm, context, installer);
+    Element resource = mock(Element.class);
+    when(resource.fhirType()).thenReturn("canonical");
+    when(resource.hasPrimitiveValue()).thenReturn(true);
+    when(resource.primitiveValue()).thenReturn(URL);
+
+    fetcher.prefetch(null, resource);
+    verify(pcm, timeout(10000)).loadPackage(PACKAGE_ID, null);
+    assertTrue(installer.loads.isEmpty());
+
+    assertTrue(fetcher.resolveURL(null, null, "path", URL, "canonical"));
+    assertEquals(List.of(Thread.currentThread()), installer.loads);
+    assertEquals(1, installer.checks.get());
+    assertEquals(0, installer.unlocked.get());
+  }
+
+  @Test
+  @DisplayName("the package ids found are saved for later runs")
+  void resolutionsArePersisted() throws IOException {
+    StandAloneValidatorFetcher fetcher = new StandAloneValidatorFetcher(makePcm(), context, installer);
+    assertTrue(fetcher.resolveURL(null, null, "path", URL, "canonical"));
+    File f = folder.resolve("validator-resolutions.json").toFile();
+    assertTrue(f.exists());
+    assertEquals(1, folder.toFile().list().length); // no temporary files left behind
+
+    FilesystemPackageCacheManager pcm = makePcm();
+    StandAloneValidatorFetcher later = new StandAloneValidatorFetcher(pcm, context, new TestInstaller());
+    assertTrue(later.resolveURL(null, null, "path", URL, "canonical"));
+    verify(pcm, never()).findCanonicalInLocalCache(anyString());
+  }
+}
@@ -3,10 +3,13 @@ package org.hl7.fhir.validation.cli.services;
 import org.apache.commons.io.IOUtils;
 import org.hl7.fhir.r5.elementmodel.Manager;
 import org.hl7.fhir.r5.model.StructureDefinition;
+import org.hl7.fhir.utilities.validation.ValidationMessage;
 import org.hl7.fhir.validation.ValidationEngine;
 import org.hl7.fhir.validation.cli.model.CliContext;
 import org.hl7.fhir.validation.cli.model.FileInfo;
+import org.hl7.fhir.validation.cli.model.ValidationOutcome;
 import org.hl7.fhir.validation.cli.model.ValidationRequest;
+import org.hl7.fhir.validation.cli.model.ValidationResponse;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.hl7.fhir.validation.tests.utilities.TestUtilities.getTerminologyCacheDirectory;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -64,6 +68,33 @@ class ValidationServiceTest {
     }
   }
 
+  @Test
+  @DisplayName("Test that files validated concurrently get the same outcomes, in order, as a file validated on its own")
+  void validateSourcesConcurrently() throws Exception {
+    ValidationService myService = new ValidationService(new SessionCache());
+
+    String resource = IOUtils.toString(getFileFromResourceAsStream("detected_issues.json"), StandardCharsets.UTF_8);
+    List<FileInfo> filesToValidate = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      filesToValidate.add(new FileInfo().setFileName("test_resource" + i + ".json").setFileContent(resource).setFileType(Manager.FhirFormat.JSON.getExtension()));
+    }
+    CliContext cliContext = new CliContext().setTxCache(getTerminologyCacheDirectory("validationService"));
+
+    ValidationResponse single = myService.validateSources(new ValidationRequest().setCliContext(cliContext).setFilesToValidate(filesToValidate.subList(0, 1)));
+    ValidationResponse response = myService.validateSources(new ValidationRequest().setCliContext(cliContext).setFilesToValidate(filesToValidate));
+
+    Assertions.assertEquals(filesToValidate.size(), response.getOutcomes().size());
+    List<String> expected = summarise(single.getOutcomes().get(0));
+    for (int i = 0; i < filesToValidate.size(); i++) {
+      Assertions.assertSame(filesToValidate.get(i), response.getOutcomes().get(i).getFileInfo());
+      Assertions.assertEquals(expected, summarise(response.getOutcomes().get(i)));
+    }
+  }
+
+  private List<String> summarise(ValidationOutcome outcome) {
+    return outcome.getMessages().stream().map(ValidationMessage::summary).collect(Collectors.toList());
+  }
+
   private InputStream getFileFromResourceAsStream(String fileName) {
     // The class loader that loaded the class
     ClassLoader classLoader = getClass().getClassLoader();
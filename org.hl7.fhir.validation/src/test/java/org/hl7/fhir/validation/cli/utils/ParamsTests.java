@@ -4,6 +4,7 @@ import org.hl7.fhir.validation.cli.model.CliContext;
 import org.junit.jupiter.api.Test;
 import java.util.Locale;
 import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ParamsTests {
   @Test
@@ -11,4 +12,11 @@ public class ParamsTests {
     CliContext cliContext = Params.loadCliContext(new String[]{"-locale", "de"});
     assertEquals(Locale.GERMAN, cliContext.getLocale());
   }
-}
\ No newline at end of file
+
+  @Test
+  void testThreads() throws Exception {
+    assertEquals(1, Params.loadCliContext(new String[]{}).getThreads());
+    assertEquals(8, Params.loadCliContext(new String[]{"-threads", "8"}).getThreads());
+    assertThrows(Error.class, () -> Params.loadCliContext(new String[]{"-threads", "0"}));
+  }
+}
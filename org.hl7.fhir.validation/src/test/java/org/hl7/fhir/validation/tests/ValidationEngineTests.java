@@ -1,17 +1,32 @@
 package org.hl7.fhir.validation.tests;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.hl7.fhir.utilities.FhirPublication;
+import org.hl7.fhir.utilities.TextFile;
 import org.hl7.fhir.utilities.tests.CacheVerificationLogger;
+import org.hl7.fhir.utilities.validation.ValidationMessage;
+import org.hl7.fhir.r5.conformance.profile.ProfileUtilities;
+import org.hl7.fhir.r5.elementmodel.ParserBase.NamedElement;
 import org.hl7.fhir.r5.elementmodel.Manager.FhirFormat;
+import org.hl7.fhir.r5.model.Bundle;
+import org.hl7.fhir.r5.model.Bundle.BundleEntryComponent;
+import org.hl7.fhir.r5.model.Enumerations.PublicationStatus;
 import org.hl7.fhir.r5.model.OperationOutcome;
 import org.hl7.fhir.r5.model.OperationOutcome.IssueSeverity;
 import org.hl7.fhir.r5.model.OperationOutcome.OperationOutcomeIssueComponent;
+import org.hl7.fhir.r5.model.StructureDefinition;
+import org.hl7.fhir.r5.model.StructureDefinition.StructureDefinitionKind;
+import org.hl7.fhir.r5.model.StructureDefinition.TypeDerivationRule;
 import org.hl7.fhir.r5.test.utils.TestingUtilities;
 import org.hl7.fhir.validation.IgLoader;
 import org.hl7.fhir.validation.ValidationEngine;
+import org.hl7.fhir.validation.instance.InstanceValidator;
+import org.hl7.fhir.utilities.i18n.I18nConstants;
 import org.hl7.fhir.validation.tests.utilities.TestUtilities;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -249,6 +264,103 @@ public class ValidationEngineTests {
       System.out.println("  .. done: " + Integer.toString(e) + " errors, " + Integer.toString(w) + " warnings, " + Integer.toString(h) + " information messages");
   }
 
+  @Test
+  public void testParallelWithUncompiledProfile() throws Exception {
+    if (!TestUtilities.silent)
+      System.out.println("TestParallelWithUncompiledProfile: Validate copies of patient-example.json on several threads against a profile with no snapshot");
+    ValidationEngine ve = TestUtilities.getValidationEngine("hl7.fhir.r4.core#4.0.1", DEF_TX, FhirPublication.R4, "4.0.1");
+    StructureDefinition sd = new StructureDefinition();
+    sd.setUrl("http://example.org/fhir/StructureDefinition/test-patient");
+    sd.setName("TestPatient");
+    sd.setStatus(PublicationStatus.ACTIVE);
+    sd.setKind(StructureDefinitionKind.RESOURCE);
+    sd.setAbstract(false);
+    sd.setType("Patient");
+    sd.setBaseDefinition("http://hl7.org/fhir/StructureDefinition/Patient");
+    sd.setDerivation(TypeDerivationRule.CONSTRAINT);
+    sd.getDifferential().addElement().setPath("Patient").setId("Patient");
+    sd.getDifferential().addElement().setPath("Patient.birthDate").setMin(1).setId("Patient.birthDate");
+    ve.getContext().cacheResource(sd);
+
+    byte[] cnt = TextFile.streamToBytes(TestingUtilities.loadTestResourceStream("validator", "patient-example.json"));
+    List<String> sources = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      File f = File.createTempFile("patient-example-"+i, ".json");
+      f.deleteOnExit();
+      TextFile.bytesToFile(cnt, f.getAbsolutePath());
+      sources.add(f.getAbsolutePath());
+    }
+    List<String> profiles = new ArrayList<>();
+    profiles.add(sd.getUrl());
+    ve.setThreads(4);
+    Bundle results = (Bundle) ve.validate(sources, profiles, null);
+
+    assertTrue(sd.hasSnapshot());
+    Assertions.assertEquals(8, results.getEntry().size());
+    int e = errors((OperationOutcome) results.getEntryFirstRep().getResource());
+    for (BundleEntryComponent be : results.getEntry()) {
+      OperationOutcome op = (OperationOutcome) be.getResource();
+      Assertions.assertEquals(e, errors(op));
+      for (OperationOutcomeIssueComponent issue : op.getIssue()) {
+        Assertions.assertFalse(issue.getDetails().getText().contains("while generating the snapshot"));
+      }
+    }
+    Assertions.assertEquals(0, e);
+  }
+
+  @Test
+  public void testValidateAgainstEachMatchesSeparateRuns() throws Exception {
+    if (!TestUtilities.silent)
+      System.out.println("TestValidateAgainstEach: Validate patient-example.json against several profiles at once, and one at a time");
+    ValidationEngine ve = TestUtilities.getValidationEngine("hl7.fhir.r4.core#4.0.1", DEF_TX, FhirPublication.R4, "4.0.1");
+    InstanceValidator validator = ve.getValidator(FhirFormat.JSON);
+    validator.setHintAboutNonMustSupport(true);
+
+    // the first profile marks Patient.name as supported, which must not hide the hint about it for the second one
+    List<StructureDefinition> profiles = new ArrayList<>();
+    profiles.add(mustSupportProfile(ve, "name"));
+    profiles.add(mustSupportProfile(ve, "gender"));
+    profiles.add(ve.getContext().fetchResource(StructureDefinition.class, "http://hl7.org/fhir/StructureDefinition/Patient"));
+    profiles.add(profiles.get(0));
+
+    byte[] cnt = TextFile.streamToBytes(TestingUtilities.loadTestResourceStream("validator", "patient-example.json"));
+    List<NamedElement> parsed = validator.parseForValidation(new ArrayList<>(), new ByteArrayInputStream(cnt), FhirFormat.JSON, new ArrayList<>());
+    Assertions.assertEquals(1, parsed.size());
+    List<List<ValidationMessage>> each = validator.validateAgainstEach(null, parsed.get(0).getName(), parsed.get(0).getElement(), profiles);
+
+    Assertions.assertEquals(profiles.size(), each.size());
+    for (int i = 0; i < profiles.size(); i++) {
+      List<StructureDefinition> list = new ArrayList<>();
+      list.add(profiles.get(i));
+      List<ValidationMessage> separate = new ArrayList<>();
+      validator.validate(null, separate, new ByteArrayInputStream(cnt), FhirFormat.JSON, list);
+      Assertions.assertEquals(summarise(separate), summarise(each.get(i)), "Different messages for "+profiles.get(i).getUrl());
+    }
+    Assertions.assertTrue(each.get(1).stream().anyMatch(m -> I18nConstants.MUSTSUPPORT_VAL_MUSTSUPPORT.equals(m.getMessageId()) && m.getLocation().startsWith("Patient.name")), "No must support hint for Patient.name");
+  }
+
+  private StructureDefinition mustSupportProfile(ValidationEngine ve, String element) {
+    StructureDefinition base = ve.getContext().fetchResource(StructureDefinition.class, "http://hl7.org/fhir/StructureDefinition/Patient");
+    StructureDefinition sd = new StructureDefinition();
+    sd.setUrl("http://example.org/fhir/StructureDefinition/test-patient-"+element);
+    sd.setName("TestPatient"+element);
+    sd.setStatus(PublicationStatus.ACTIVE);
+    sd.setKind(StructureDefinitionKind.RESOURCE);
+    sd.setAbstract(false);
+    sd.setType("Patient");
+    sd.setBaseDefinition(base.getUrl());
+    sd.setDerivation(TypeDerivationRule.CONSTRAINT);
+    sd.getDifferential().addElement().setPath("Patient").setId("Patient");
+    sd.getDifferential().addElement().setPath("Patient."+element).setMustSupport(true).setId("Patient."+element);
+    new ProfileUtilities(ve.getContext(), null, null).generateSnapshot(base, sd, sd.getUrl(), null, sd.getName());
+    ve.getContext().cacheResource(sd);
+    return sd;
+  }
+
+  private List<String> summarise(List<ValidationMessage> messages) {
+    return messages.stream().map(ValidationMessage::summary).sorted().collect(Collectors.toList());
+  }
+
   private int errors(OperationOutcome op) {
     int i = 0;
     for (OperationOutcomeIssueComponent vm : op.getIssue()) {